@@ -43,6 +43,7 @@ import net.william278.huskhomes.hook.VaultEconomyHook;
 import net.william278.huskhomes.importer.EssentialsXImporter;
 import net.william278.huskhomes.listener.BukkitEventListener;
 import net.william278.huskhomes.listener.EventListener;
+import net.william278.huskhomes.listener.JoinTimings;
 import net.william278.huskhomes.manager.Manager;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.PluginMessageBroker;
@@ -50,12 +51,16 @@ import net.william278.huskhomes.network.RedisBroker;
 import net.william278.huskhomes.position.Location;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.World;
-import net.william278.huskhomes.random.NormalDistributionEngine;
 import net.william278.huskhomes.random.RandomTeleportEngine;
+import net.william278.huskhomes.teleport.BukkitWarmupTicker;
+import net.william278.huskhomes.teleport.TeleportMetrics;
+import net.william278.huskhomes.teleport.WarmupTicker;
 import net.william278.huskhomes.user.BukkitUser;
 import net.william278.huskhomes.user.ConsoleUser;
 import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.PermissionLimitCache;
 import net.william278.huskhomes.user.SavedUser;
+import net.william278.huskhomes.util.BukkitChunkPreloader;
 import net.william278.huskhomes.util.BukkitSafetyResolver;
 import net.william278.huskhomes.util.BukkitTask;
 import net.william278.huskhomes.util.UnsafeBlocks;
@@ -63,6 +68,7 @@ import net.william278.huskhomes.util.Validator;
 import org.bstats.bukkit.Metrics;
 import org.bstats.charts.SimplePie;
 import org.bukkit.Bukkit;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -88,7 +94,7 @@ import java.util.stream.Collectors;
 @Setter
 @NoArgsConstructor
 public class BukkitHuskHomes extends JavaPlugin implements HuskHomes, BukkitTask.Supplier, BukkitEventDispatcher,
-        PluginMessageListener, BukkitSafetyResolver {
+        PluginMessageListener, BukkitSafetyResolver, BukkitChunkPreloader {
 
     /**
      * Metrics ID for <a href="https://bstats.org/plugin/bukkit/HuskHomes/8430">HuskHomes on Bukkit</a>.
@@ -97,7 +103,10 @@ public class BukkitHuskHomes extends JavaPlugin implements HuskHomes, BukkitTask
 
     private final Set<SavedUser> savedUsers = Sets.newHashSet();
     private final Map<String, List<String>> globalPlayerList = Maps.newConcurrentMap();
-    private final Set<UUID> currentlyOnWarmup = Sets.newConcurrentHashSet();
+    private final WarmupTicker warmupTicker = new BukkitWarmupTicker(this);
+    private final TeleportMetrics teleportMetrics = new TeleportMetrics();
+    private final JoinTimings joinTimings = new JoinTimings();
+    private final PermissionLimitCache permissionLimits = new PermissionLimitCache();
     private final Set<UUID> currentlyInvulnerable = Sets.newConcurrentHashSet();
 
     private Settings settings;
@@ -109,6 +118,8 @@ public class BukkitHuskHomes extends JavaPlugin implements HuskHomes, BukkitTask
     private RandomTeleportEngine randomTeleportEngine;
     private Spawn serverSpawn;
     private UnsafeBlocks unsafeBlocks;
+    @Setter(AccessLevel.NONE)
+    private UnsafeBlocks.Lookup<Material> blockLookup;
     private List<Hook> hooks;
     private List<Command> commands;
     @Getter(AccessLevel.NONE)
@@ -168,7 +179,7 @@ public class BukkitHuskHomes extends JavaPlugin implements HuskHomes, BukkitTask
         }
 
         // Set the random teleport engine
-        setRandomTeleportEngine(new NormalDistributionEngine(this));
+        setRandomTeleportEngine(getSettings().getRtp().getEngine().create(this));
 
         // Register plugin hooks (Economy, Maps, Plan)
         initialize("hooks", (plugin) -> {
@@ -299,6 +310,12 @@ public class BukkitHuskHomes extends JavaPlugin implements HuskHomes, BukkitTask
         this.serverSpawn = spawn;
     }
 
+    @Override
+    public void setUnsafeBlocks(@NotNull UnsafeBlocks unsafeBlocks) {
+        this.unsafeBlocks = unsafeBlocks;
+        this.blockLookup = BukkitSafetyResolver.compileLookup(unsafeBlocks);
+    }
+
     @Override
     @NotNull
     public Version getVersion() {
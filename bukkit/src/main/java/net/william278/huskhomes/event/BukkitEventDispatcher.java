@@ -84,6 +84,12 @@ public interface BukkitEventDispatcher extends EventDispatcher {
         return new ReplyTeleportRequestEvent(recipient, request);
     }
 
+    @Override
+    default @NotNull ITeleportRequestExpireEvent getTeleportRequestExpireEvent(@NotNull User recipient,
+                                                                               @NotNull TeleportRequest request) {
+        return new TeleportRequestExpireEvent(recipient, request);
+    }
+
     @Override
     default @NotNull IHomeCreateEvent getHomeCreateEvent(@NotNull User owner, @NotNull String name,
                                                          @NotNull Position position, @NotNull CommandUser creator) {
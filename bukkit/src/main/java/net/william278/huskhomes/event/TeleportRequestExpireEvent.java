@@ -0,0 +1,63 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.event;
+
+import net.william278.huskhomes.teleport.TeleportRequest;
+import net.william278.huskhomes.user.User;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+public class TeleportRequestExpireEvent extends Event implements ITeleportRequestExpireEvent {
+
+    private static final HandlerList HANDLER_LIST = new HandlerList();
+
+    private final TeleportRequest request;
+    private final User recipient;
+
+    public TeleportRequestExpireEvent(@NotNull User recipient, @NotNull TeleportRequest request) {
+        this.request = request;
+        this.recipient = recipient;
+    }
+
+    @Override
+    @NotNull
+    public TeleportRequest getRequest() {
+        return request;
+    }
+
+    @Override
+    @NotNull
+    public User getRecipient() {
+        return recipient;
+    }
+
+    @NotNull
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLER_LIST;
+    }
+
+    @SuppressWarnings("unused")
+    public static HandlerList getHandlerList() {
+        return HANDLER_LIST;
+    }
+}
@@ -29,8 +29,6 @@ import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-
 public class PlaceholderAPIHook extends Hook {
 
     public PlaceholderAPIHook(@NotNull BukkitHuskHomes plugin) {
@@ -62,23 +60,19 @@ public class PlaceholderAPIHook extends Hook {
             final OnlineUser player = BukkitUser.adapt(offlinePlayer.getPlayer(), plugin);
             return switch (params) {
                 case "homes_count" -> String.valueOf(plugin.getManager().homes()
-                        .getUserHomes()
-                        .getOrDefault(player.getUsername(), List.of()).size());
+                        .getUserHomeSummary(player).count());
                 case "max_homes" -> String.valueOf(plugin.getManager().homes().getMaxHomes(player));
                 case "max_public_homes" -> String.valueOf(plugin.getManager().homes().getMaxPublicHomes(player));
                 case "free_home_slots" -> String.valueOf(plugin.getManager().homes().getFreeHomes(player));
                 case "home_slots" -> String.valueOf(plugin.getSavedUser(player)
                         .map(SavedUser::getHomeSlots)
                         .orElse(0));
-                case "homes_list" -> String.join(", ", plugin.getManager().homes()
-                        .getUserHomes()
-                        .getOrDefault(player.getUsername(), List.of()));
+                case "homes_list" -> plugin.getManager().homes()
+                        .getUserHomeSummary(player).joinedNames();
                 case "public_homes_count" -> String.valueOf(plugin.getManager().homes()
-                        .getPublicHomes()
-                        .getOrDefault(player.getUsername(), List.of()).size());
-                case "public_homes_list" -> String.join(", ", plugin.getManager().homes()
-                        .getPublicHomes()
-                        .getOrDefault(player.getUsername(), List.of()));
+                        .getPublicHomeSummary(player).count());
+                case "public_homes_list" -> plugin.getManager().homes()
+                        .getPublicHomeSummary(player).joinedNames();
                 case "ignoring_tp_requests" -> getBooleanValue(plugin.getManager().requests()
                         .isIgnoringRequests(player));
                 default -> null;
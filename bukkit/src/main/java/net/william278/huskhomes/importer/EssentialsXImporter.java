@@ -24,17 +24,27 @@ import com.earth2me.essentials.Warps;
 import com.earth2me.essentials.commands.WarpNotFoundException;
 import net.william278.huskhomes.BukkitHuskHomes;
 import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.position.PositionMeta;
 import net.william278.huskhomes.user.User;
 import net.william278.huskhomes.util.ValidationException;
+import org.bukkit.Location;
 import org.jetbrains.annotations.NotNull;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 public class EssentialsXImporter extends Importer {
 
+    private static final int IMPORT_BATCH_SIZE = 1000;
+
     private final Essentials essentials;
 
     public EssentialsXImporter(@NotNull HuskHomes plugin) {
@@ -43,34 +53,53 @@ public class EssentialsXImporter extends Importer {
                 .getPluginManager().getPlugin("Essentials");
     }
 
-    private int importHomes() {
-        final AtomicInteger homesImported = new AtomicInteger();
-        for (UUID uuid : essentials.getUsers().getAllUserUUIDs()) {
-            // Ensure the user is present and valid
-            final com.earth2me.essentials.User essentialsUser = essentials.getUser(uuid);
+    // Homes are built in memory and written in batches, with one cache refresh at the end
+    private int importHomes() throws SQLException {
+        final Collection<UUID> uuids = essentials.getUsers().getAllUserUUIDs();
+        final List<Home> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        int homesImported = 0;
+        int usersProcessed = 0;
+        for (UUID uuid : uuids) {
+            logProgress(ImportData.HOMES, usersProcessed++, uuids.size());
+
+            // Load the user without adding them to Essentials' user cache
+            final com.earth2me.essentials.User essentialsUser = essentials.getUsers().loadUncachedUser(uuid);
             if (essentialsUser == null || essentialsUser.getName() == null) {
                 continue;
             }
             final User user = User.of(uuid, essentialsUser.getName());
-            plugin.getDatabase().ensureUser(user);
 
-            // Create the home
+            // Build the user's homes; names that normalize to the same name are overwritten, as before
+            final Map<String, Home> homes = new LinkedHashMap<>();
             for (String homeName : essentialsUser.getHomes()) {
-                if (essentialsUser.getHome(homeName) == null || essentialsUser.getHome(homeName).getWorld() == null) {
+                final Location location = essentialsUser.getHome(homeName);
+                if (location == null || location.getWorld() == null) {
                     continue;
                 }
-                plugin.getManager().homes().createHome(
-                        user,
-                        this.normalizeName(homeName),
-                        BukkitHuskHomes.Adapter.adapt(essentialsUser.getHome(homeName), plugin.getServerName()),
-                        true,
-                        true,
-                        true
-                );
-                homesImported.getAndIncrement();
+                final String name = this.normalizeName(homeName);
+                try {
+                    plugin.getValidator().validateName(name);
+                } catch (ValidationException e) {
+                    plugin.log(Level.WARNING, String.format("Skipped importing home %s of %s (invalid name)",
+                            homeName, user.getUsername()));
+                    continue;
+                }
+                homes.put(name, Home.from(
+                        BukkitHuskHomes.Adapter.adapt(location, plugin.getServerName()),
+                        PositionMeta.create(name, ""),
+                        user
+                ));
+            }
+            batch.addAll(homes.values());
+
+            if (batch.size() >= IMPORT_BATCH_SIZE) {
+                homesImported += plugin.getDatabase().saveHomes(batch);
+                batch.clear();
             }
         }
-        return homesImported.get();
+        homesImported += plugin.getDatabase().saveHomes(batch);
+        plugin.getManager().homes().reloadHomeCaches();
+        return homesImported;
     }
 
     private int importWarps() throws Throwable {
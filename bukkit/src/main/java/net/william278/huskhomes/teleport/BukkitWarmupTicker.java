@@ -0,0 +1,47 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.teleport;
+
+import net.william278.huskhomes.BukkitHuskHomes;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link WarmupTicker} that ticks each warmup on its teleporter's region thread when running on Folia.
+ *
+ * <p>Only the countdown runs on the region thread; once a warmup elapses, the teleport and its transaction checks
+ * are completed asynchronously.
+ */
+public class BukkitWarmupTicker extends WarmupTicker {
+
+    public BukkitWarmupTicker(@NotNull BukkitHuskHomes plugin) {
+        super(plugin);
+    }
+
+    @Override
+    protected void dispatch(@NotNull TimedTeleport teleport) {
+        if (((BukkitHuskHomes) plugin).getScheduler().isUsingFolia()) {
+            plugin.runSync(() -> super.dispatch(teleport), teleport.getTeleporter());
+            return;
+        }
+        super.dispatch(teleport);
+    }
+
+}
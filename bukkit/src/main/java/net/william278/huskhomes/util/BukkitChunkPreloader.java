@@ -0,0 +1,82 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.util;
+
+import io.papermc.lib.PaperLib;
+import net.william278.huskhomes.BukkitHuskHomes;
+import net.william278.huskhomes.position.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+public interface BukkitChunkPreloader extends ChunkPreloader {
+
+    ChunkTickets TICKETS = new ChunkTickets();
+
+    @Override
+    default void preloadChunks(@NotNull Location location, int radius) {
+        final World world = BukkitHuskHomes.Adapter.adapt(location.getWorld());
+        if (world == null) {
+            return;
+        }
+
+        // Plugin chunk tickets aren't supported on Folia, so just warm the chunks there
+        final BukkitHuskHomes plugin = (BukkitHuskHomes) getPlugin();
+        final boolean ticket = !plugin.getScheduler().isUsingFolia();
+        final int chunkX = ((int) Math.floor(location.getX())) >> 4;
+        final int chunkZ = ((int) Math.floor(location.getZ())) >> 4;
+        if (ticket) {
+            forEachChunk(location, chunkX, chunkZ, radius, TICKETS::acquire);
+        }
+        plugin.runSync(() -> forEachChunk(location, chunkX, chunkZ, radius, key -> PaperLib
+                .getChunkAtAsync(world, key.x(), key.z()).thenAccept(chunk -> {
+                    if (ticket && plugin.isEnabled()) {
+                        TICKETS.addIfHeld(key, () -> chunk.addPluginChunkTicket(plugin));
+                    }
+                })));
+    }
+
+    @Override
+    default void releaseChunks(@NotNull Location location, int radius) {
+        final World world = BukkitHuskHomes.Adapter.adapt(location.getWorld());
+        final BukkitHuskHomes plugin = (BukkitHuskHomes) getPlugin();
+        if (world == null || plugin.getScheduler().isUsingFolia()) {
+            return;
+        }
+
+        final int chunkX = ((int) Math.floor(location.getX())) >> 4;
+        final int chunkZ = ((int) Math.floor(location.getZ())) >> 4;
+        plugin.runSync(() -> forEachChunk(location, chunkX, chunkZ, radius, key -> TICKETS.release(
+                key, () -> world.removePluginChunkTicket(key.x(), key.z(), plugin)
+        )));
+    }
+
+    private static void forEachChunk(@NotNull Location location, int chunkX, int chunkZ, int radius,
+                                     @NotNull Consumer<ChunkTickets.Key> action) {
+        for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+            for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                action.accept(new ChunkTickets.Key(location.getWorld().getUuid(), x, z, 0));
+            }
+        }
+    }
+
+}
@@ -27,6 +27,8 @@ import org.bukkit.ChunkSnapshot;
 import org.bukkit.Material;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -78,9 +80,9 @@ public interface BukkitSafetyResolver extends SafetyResolver {
                 final Material blockType = chunk.getBlockType(x, y - 1, z);
                 final Material bodyBlockType = chunk.getBlockType(x, y, z);
                 final Material headBlockType = chunk.getBlockType(x, y + 1, z);
-                if (isBlockSafeForStanding(blockType.getKey().toString())
-                        && isBlockSafeForOccupation(bodyBlockType.getKey().toString())
-                        && isBlockSafeForOccupation(headBlockType.getKey().toString())) {
+                if (isBlockSafeForStanding(blockType)
+                        && isBlockSafeForOccupation(bodyBlockType)
+                        && isBlockSafeForOccupation(headBlockType)) {
                     double locx = Math.floor(location.getX()) + dx;
                     if (locx < 0) {
                         locx += 1.5d;
@@ -105,4 +107,48 @@ public interface BukkitSafetyResolver extends SafetyResolver {
         return Optional.empty();
     }
 
+    /**
+     * Returns if the block type is safe to stand on.
+     *
+     * @param blockType The block {@link Material}
+     * @return {@code true} if the block is not on the unsafe blocks list, {@code false} otherwise
+     */
+    default boolean isBlockSafeForStanding(@NotNull Material blockType) {
+        return !getBlockLookup().isUnsafe(blockType);
+    }
+
+    /**
+     * Returns if the block type is safe to stand in.
+     *
+     * @param blockType The block {@link Material}
+     * @return {@code true} if the block can be occupied, {@code false} otherwise
+     */
+    default boolean isBlockSafeForOccupation(@NotNull Material blockType) {
+        return !getBlockLookup().isUnsafeToOccupy(blockType);
+    }
+
+    /**
+     * Get the unsafe block lists, compiled against {@link Material}s.
+     *
+     * @return the compiled block lookup
+     */
+    @NotNull
+    UnsafeBlocks.Lookup<Material> getBlockLookup();
+
+    /**
+     * Compile the unsafe block lists against {@link Material}s.
+     *
+     * @param unsafeBlocks the unsafe block lists to compile
+     * @return the compiled block lookup
+     */
+    @NotNull
+    @SuppressWarnings("deprecation")
+    static UnsafeBlocks.Lookup<Material> compileLookup(@NotNull UnsafeBlocks unsafeBlocks) {
+        return unsafeBlocks.compile(
+                Arrays.stream(Material.values()).filter(material -> !material.isLegacy()),
+                material -> material.getKey().toString(),
+                () -> EnumSet.noneOf(Material.class)
+        );
+    }
+
 }
@@ -34,13 +34,17 @@ import net.william278.huskhomes.database.Database;
 import net.william278.huskhomes.event.EventDispatcher;
 import net.william278.huskhomes.hook.*;
 import net.william278.huskhomes.importer.Importer;
+import net.william278.huskhomes.listener.JoinTimings;
 import net.william278.huskhomes.manager.Manager;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.World;
 import net.william278.huskhomes.random.RandomTeleportEngine;
+import net.william278.huskhomes.teleport.TeleportMetrics;
+import net.william278.huskhomes.teleport.WarmupTicker;
 import net.william278.huskhomes.user.ConsoleUser;
 import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.PermissionLimitCache;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
 import net.william278.huskhomes.util.*;
@@ -58,7 +62,8 @@ import java.util.stream.Stream;
 /**
  * Represents a cross-platform instance of the plugin.
  */
-public interface HuskHomes extends Task.Supplier, EventDispatcher, SafetyResolver, TransactionResolver, ConfigProvider {
+public interface HuskHomes extends Task.Supplier, EventDispatcher, SafetyResolver, TransactionResolver, ConfigProvider,
+        ChunkPreloader {
 
     /**
      * The spigot resource ID, used for update checking.
@@ -357,8 +362,57 @@ public interface HuskHomes extends Task.Supplier, EventDispatcher, SafetyResolve
         return getLocalPlayerList(true);
     }
 
+    /**
+     * Get the average time taken by the server to process a tick, in milliseconds, if the platform exposes it.
+     *
+     * @return the average tick time, if available
+     */
+    @NotNull
+    default OptionalDouble getAverageTickTime() {
+        return OptionalDouble.empty();
+    }
+
+    @NotNull
+    WarmupTicker getWarmupTicker();
+
+    /**
+     * Get the UUIDs of users currently warming up to teleport.
+     *
+     * @return an unmodifiable view of the UUIDs of users with a timed teleport in progress
+     * @deprecated use {@link #getWarmupTicker()} instead.
+     */
+    @NotNull
+    @Deprecated(since = "4.8")
+    default Set<UUID> getCurrentlyOnWarmup() {
+        return this.getWarmupTicker().getWarmingUpUsers();
+    }
+
+    /**
+     * Get the metrics recorded about teleport execution.
+     *
+     * @return the {@link TeleportMetrics}
+     * @since 4.8
+     */
+    @NotNull
+    TeleportMetrics getTeleportMetrics();
+
+    /**
+     * Get the timings recorded of each stage of the player join pipeline.
+     *
+     * @return the {@link JoinTimings}
+     * @since 4.8
+     */
+    @NotNull
+    JoinTimings getJoinTimings();
+
+    /**
+     * Get the cache of online users' numerical permission node values (max homes, teleport warmup, etc.).
+     *
+     * @return the {@link PermissionLimitCache}
+     * @since 4.8
+     */
     @NotNull
-    Set<UUID> getCurrentlyOnWarmup();
+    PermissionLimitCache getPermissionLimits();
 
     /**
      * Returns if the given user is currently warming up to teleport to a home.
@@ -367,7 +421,7 @@ public interface HuskHomes extends Task.Supplier, EventDispatcher, SafetyResolve
      * @return If the user is currently warming up.
      */
     default boolean isWarmingUp(@NotNull UUID userUuid) {
-        return this.getCurrentlyOnWarmup().contains(userUuid);
+        return this.getWarmupTicker().isWarmingUp(userUuid);
     }
 
     @NotNull
@@ -23,6 +23,7 @@ import de.themoep.minedown.adventure.MineDown;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Locales;
 import net.william278.huskhomes.config.Settings;
+import net.william278.huskhomes.listener.JoinTimings;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.Message;
 import net.william278.huskhomes.network.Payload;
@@ -32,6 +33,7 @@ import net.william278.huskhomes.position.Warp;
 import net.william278.huskhomes.random.RandomTeleportEngine;
 import net.william278.huskhomes.teleport.Teleport;
 import net.william278.huskhomes.teleport.TeleportBuilder;
+import net.william278.huskhomes.teleport.TeleportMetrics;
 import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
@@ -172,7 +174,7 @@ public class BaseHuskHomesAPI {
      * @since 3.0
      */
     public CompletableFuture<Optional<Position>> getUserLastPosition(@NotNull User user) {
-        return plugin.supplyAsync(() -> plugin.getDatabase().getLastPosition(user));
+        return plugin.supplyAsync(() -> plugin.getManager().lastPositions().getLastPosition(user));
     }
 
     /**
@@ -183,7 +185,7 @@ public class BaseHuskHomesAPI {
      * @since 4.2.1
      */
     public void setUserLastPosition(@NotNull User user, @NotNull Position position) {
-        plugin.runAsync(() -> plugin.getDatabase().setLastPosition(user, position));
+        plugin.getManager().lastPositions().setLastPosition(user, position);
     }
 
     /**
@@ -227,6 +229,41 @@ public class BaseHuskHomesAPI {
         return plugin.isWarmingUp(user.getUuid());
     }
 
+    /**
+     * Get the metrics recorded about teleport execution on this server since it started, including the time taken
+     * by each stage of teleporting and how teleports ended.
+     *
+     * @return the {@link TeleportMetrics}
+     * @since 4.8
+     */
+    @NotNull
+    public TeleportMetrics getTeleportMetrics() {
+        return plugin.getTeleportMetrics();
+    }
+
+    /**
+     * Get the timings recorded on this server since it started of each stage of handling a player joining, such as
+     * loading their data and completing an inbound cross-server teleport.
+     *
+     * @return the {@link JoinTimings}
+     * @since 4.8
+     */
+    @NotNull
+    public JoinTimings getJoinTimings() {
+        return plugin.getJoinTimings();
+    }
+
+    /**
+     * Invalidate the cached numerical permission values (max homes, teleport warmup, etc.) of a user, so they are
+     * re-read from the user's permissions on next use. Call this after changing a user's permissions.
+     *
+     * @param user The {@link User} whose permissions have changed
+     * @since 4.8
+     */
+    public void invalidatePermissionLimits(@NotNull User user) {
+        plugin.getPermissionLimits().invalidate(user.getUuid());
+    }
+
     /**
      * Save {@link SavedUser} to the database, updating it if data for the user already exists,
      * or adding new user data if it doesn't.
@@ -884,6 +921,10 @@ public class BaseHuskHomesAPI {
      * @since 3.0
      */
     public final Optional<MineDown> getLocale(@NotNull String localeKey, @NotNull String... replacements) {
+        if (replacements.length == 0) {
+            // Locales without replacements are parsed once and shared internally, so return a copy that can be modified
+            return plugin.getLocales().getRawLocale(localeKey).map(plugin.getLocales()::format);
+        }
         return plugin.getLocales().getLocale(localeKey, replacements);
     }
 
@@ -42,7 +42,7 @@ public class BackCommand extends InGameCommand {
 
     @Override
     public void execute(@NotNull OnlineUser executor, @NotNull String[] args) {
-        final Optional<Position> lastPosition = plugin.getDatabase().getLastPosition(executor);
+        final Optional<Position> lastPosition = plugin.getManager().lastPositions().getLastPosition(executor);
         if (lastPosition.isEmpty()) {
             plugin.getLocales().getLocale("error_no_last_position")
                     .ifPresent(executor::sendMessage);
@@ -180,12 +180,20 @@ public class EditHomeCommand extends SavedPositionCommand<Home> {
             return;
         }
 
-        // Check against the economy hook
-        if (executor instanceof OnlineUser user
-                && !plugin.validateTransaction(user, TransactionResolver.Action.MAKE_HOME_PUBLIC)) {
+        // Check against the economy hook, then set the home privacy
+        if (executor instanceof OnlineUser user) {
+            plugin.validateTransactionAsync(user, TransactionResolver.Action.MAKE_HOME_PUBLIC).thenAccept(valid -> {
+                if (valid) {
+                    updateHomePrivacy(executor, home, ownerEditing, args);
+                }
+            });
             return;
         }
+        updateHomePrivacy(executor, home, ownerEditing, args);
+    }
 
+    private void updateHomePrivacy(@NotNull CommandUser executor, @NotNull Home home, boolean ownerEditing,
+                                   @NotNull String[] args) {
         // Set the home privacy
         final Home original = home.copy();
         home.setPublic(parseStringArg(args, 1)
@@ -80,21 +80,18 @@ public class HomeListCommand extends ListCommand {
             return;
         }
 
-        if (cachedLists.containsKey(user.getUuid())) {
-            executor.sendMessage(cachedLists.get(user.getUuid()).getNearestValidPage(page));
-            return;
-        }
-
-        final List<Home> homes = plugin.getDatabase().getHomes(user);
-        plugin.fireEvent(plugin.getViewHomeListEvent(homes, executor, false),
-                (event) -> this.generateList(executor, user, event.getHomes()).ifPresent(homeList -> {
-                    cachedLists.put(user.getUuid(), homeList);
-                    executor.sendMessage(homeList.getNearestValidPage(page));
-                }));
+        // The list's page command differs when viewing another user's homes
+        final String viewer = executor.equals(user) ? "self" : "other";
+        final Page<Home> homes = getPage(user.getUuid(), viewer, page, () -> fetchPage(user.getUuid(), viewer, page,
+                plugin.getDatabase().getHomeCount(user),
+                (after, offset, limit) -> plugin.getDatabase().getHomes(user, after, offset, limit)));
+        plugin.fireEvent(plugin.getViewHomeListEvent(homes.items(), executor, false),
+                (event) -> this.generateList(executor, user, homes, event.getHomes())
+                        .ifPresent(homeList -> executor.sendMessage(homeList.getNearestValidPage(page))));
     }
 
     private Optional<PaginatedList> generateList(@NotNull CommandUser executor, @NotNull User user,
-                                                 @NotNull List<Home> homes) {
+                                                 @NotNull Page<Home> page, @NotNull List<Home> homes) {
         if (homes.isEmpty()) {
             if (!executor.equals(user)) {
                 plugin.getLocales().getLocale("error_no_homes_set_other", user.getUsername())
@@ -106,7 +103,7 @@ public class HomeListCommand extends ListCommand {
         }
 
         final String homeListArguments = !executor.equals(user) ? " " + user.getUsername() : "";
-        final PaginatedList homeList = PaginatedList.of(homes.stream().map(home ->
+        final PaginatedList homeList = paginate(page, homes.stream().map(home ->
                         plugin.getLocales()
                                 .getRawLocale("home_list_item",
                                         Locales.escapeText(home.getName()),
@@ -120,7 +117,7 @@ public class HomeListCommand extends ListCommand {
                                                 ? plugin.getLocales().getNone()
                                                 : Locales.escapeText(home.getMeta().getDescription())
                                 )
-                                .orElse(home.getName())).sorted().collect(Collectors.toList()),
+                                .orElse(home.getName())).collect(Collectors.toList()),
                 plugin.getLocales()
                         .getBaseList(plugin.getSettings().getGeneral().getListItemsPerPage())
                         .setHeaderFormat(plugin.getLocales().getRawLocale("home_list_page_title",
@@ -26,14 +26,23 @@ import net.william278.desertwell.about.AboutMenu;
 import net.william278.desertwell.util.UpdateChecker;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Locales;
+import net.william278.huskhomes.importer.ArchiveExporter;
+import net.william278.huskhomes.importer.ArchiveImporter;
+import net.william278.huskhomes.importer.DataArchive;
 import net.william278.huskhomes.importer.Importer;
+import net.william278.huskhomes.listener.JoinTimings;
+import net.william278.huskhomes.teleport.TeleportMetrics;
 import net.william278.huskhomes.user.CommandUser;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.util.LatencyHistogram;
 import net.william278.paginedown.PaginatedList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -45,7 +54,9 @@ public class HuskHomesCommand extends Command implements TabProvider {
             "about", false,
             "help", false,
             "reload", true,
+            "status", true,
             "import", true,
+            "export", true,
             "delete", true,
             "update", true
     );
@@ -108,6 +119,7 @@ public class HuskHomesCommand extends Command implements TabProvider {
             case "reload" -> {
                 try {
                     plugin.loadConfigs();
+                    plugin.getPermissionLimits().invalidateAll();
                 } catch (Throwable e) {
                     plugin.log(Level.SEVERE, "Failed to reload config files", e);
                     executor.sendMessage(new MineDown(
@@ -122,7 +134,13 @@ public class HuskHomesCommand extends Command implements TabProvider {
                                 + " you need to restart your server for these changes to take effect.](gray)"
                 ));
             }
+            case "status" -> executor.sendMessage(getStatus());
             case "import" -> {
+                final String[] importArgs = removeFirstArg(args);
+                if (parseStringArg(importArgs, 0).filter("file"::equalsIgnoreCase).isPresent()) {
+                    this.importArchive(executor, removeFirstArg(importArgs));
+                    return;
+                }
                 if (!importersLoaded) {
                     importersLoaded = true;
                     plugin.registerImporters();
@@ -132,8 +150,9 @@ public class HuskHomesCommand extends Command implements TabProvider {
                             .ifPresent(executor::sendMessage);
                     return;
                 }
-                this.importData(executor, removeFirstArg(args));
+                this.importData(executor, importArgs);
             }
+            case "export" -> new ArchiveExporter(plugin).start(executor);
             case "delete" -> {
                 if (args.length < 2) {
                     plugin.getLocales().getLocale("error_invalid_syntax", getUsage())
@@ -185,9 +204,32 @@ public class HuskHomesCommand extends Command implements TabProvider {
             case "list" -> executor.sendMessage(getImporterList()
                     .getNearestValidPage(parseIntArg(args, 1).orElse(1)));
             default -> plugin.getLocales().getLocale("error_invalid_syntax",
-                            "/" + getName() + " import <start|list>")
+                            "/" + getName() + " import <start|list|file>")
+                    .ifPresent(executor::sendMessage);
+        }
+    }
+
+    // Import data from an archive in the archives folder
+    private void importArchive(@NotNull CommandUser executor, @NotNull String[] args) {
+        final Optional<String> name = parseStringArg(args, 0);
+        if (name.isEmpty()) {
+            plugin.getLocales().getLocale("error_invalid_syntax",
+                            "/" + getName() + " import file <archive>")
                     .ifPresent(executor::sendMessage);
+            return;
+        }
+
+        final Path directory = DataArchive.getDirectory(plugin).toAbsolutePath().normalize();
+        final String fileName = name.get().endsWith(DataArchive.FILE_EXTENSION)
+                ? name.get() : name.get() + DataArchive.FILE_EXTENSION;
+        final Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+            executor.sendMessage(new MineDown(
+                    "[Error:](#ff3300) [Could not find that archive in the archives folder.](#ff7e5e)"
+            ));
+            return;
         }
+        new ArchiveImporter(file, plugin).start(executor);
     }
 
     // Delete the data of a player
@@ -293,6 +335,43 @@ public class HuskHomesCommand extends Command implements TabProvider {
         return filters;
     }
 
+    // Format the teleport pipeline metrics
+    @NotNull
+    private MineDown getStatus() {
+        final TeleportMetrics metrics = plugin.getTeleportMetrics();
+        final StringJoiner status = new StringJoiner("\n")
+                .add("[HuskHomes](#00fb9a bold) [| Teleport metrics (since startup)](#00fb9a)")
+                .add("[Outcomes:](#00fb9a) [" + Arrays.stream(TeleportMetrics.Outcome.values())
+                        .map(outcome -> formatName(outcome) + " " + metrics.getCount(outcome))
+                        .collect(Collectors.joining(", ")) + "](gray)");
+        for (TeleportMetrics.Stage stage : TeleportMetrics.Stage.values()) {
+            final LatencyHistogram histogram = metrics.getHistogram(stage);
+            status.add(String.format("[%s:](#00fb9a) [n=%d mean=%s p50=%s p95=%s p99=%s max=%s](gray)",
+                    formatName(stage), histogram.getCount(), formatMillis(histogram.getMean()),
+                    formatMillis(histogram.getPercentile(0.5)), formatMillis(histogram.getPercentile(0.95)),
+                    formatMillis(histogram.getPercentile(0.99)), formatMillis(histogram.getMax())));
+        }
+
+        final JoinTimings joinTimings = plugin.getJoinTimings();
+        status.add("[Join timings (since startup)](#00fb9a)");
+        for (JoinTimings.Stage stage : JoinTimings.Stage.values()) {
+            status.add(String.format("[%s:](#00fb9a) [n=%d mean=%s max=%s](gray)",
+                    formatName(stage), joinTimings.getCount(stage), formatMillis(joinTimings.getAverage(stage)),
+                    formatMillis(joinTimings.getMax(stage))));
+        }
+        return new MineDown(status.toString());
+    }
+
+    @NotNull
+    private static String formatName(@NotNull Enum<?> value) {
+        return value.name().toLowerCase(Locale.ENGLISH).replace('_', ' ');
+    }
+
+    @NotNull
+    private static String formatMillis(@NotNull Duration duration) {
+        return String.format(Locale.ENGLISH, "%.2fms", duration.toNanos() / 1_000_000d);
+    }
+
     @NotNull
     private PaginatedList getCommandList(@NotNull CommandUser user) {
         return PaginatedList.of(plugin.getCommands().stream()
@@ -338,15 +417,19 @@ public class HuskHomesCommand extends Command implements TabProvider {
             case 2 -> switch (args[0].toLowerCase()) {
                 case "help" -> IntStream.rangeClosed(1, getCommandList(user).getTotalPages())
                         .mapToObj(Integer::toString).toList();
-                case "import" -> List.of("start", "list");
+                case "import" -> List.of("start", "list", "file");
                 case "delete" -> List.of("player", "homes", "warps");
                 default -> null;
             };
             case 3 -> {
-                if (!args[0].equalsIgnoreCase("import") && !args[1].equalsIgnoreCase("start")) {
+                if (!args[0].equalsIgnoreCase("import")) {
                     yield null;
                 }
-                yield plugin.getImporters().stream().map(Importer::getImporterName).toList();
+                yield switch (args[1].toLowerCase()) {
+                    case "start" -> plugin.getImporters().stream().map(Importer::getImporterName).toList();
+                    case "file" -> DataArchive.getArchiveNames(plugin);
+                    default -> null;
+                };
             }
             default -> null;
         };
@@ -20,26 +20,232 @@
 package net.william278.huskhomes.command;
 
 import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.database.Database;
+import net.william278.huskhomes.position.SavedPosition;
+import net.william278.paginedown.ListOptions;
 import net.william278.paginedown.PaginatedList;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.AbstractList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * A command that displays a paginated list of saved positions.
+ *
+ * <p>Lists are fetched from the database a page at a time, using keyset cursors remembered from previously viewed
+ * pages. Fetched pages are cached, keyed by the list owner (if the list belongs to a user), the viewer's scope
+ * (a key identifying the subset of the list the viewer is allowed to see) and the page number. The cache is bounded
+ * in both size and entry lifetime, and is invalidated per-owner by the managers when positions change.
+ *
+ * <p>Only the positions are cached, not the rendered list, so that the list event is fired (and can modify the
+ * list) each time a page is viewed.
+ */
 public abstract class ListCommand extends Command {
 
-    protected final Map<UUID, PaginatedList> cachedLists;
+    private static final int MAX_CACHED_LISTS = 256;
+    private static final long CACHED_LIST_LIFETIME = TimeUnit.MINUTES.toMillis(5);
+
+    private final Map<PageKey, CachedPage> cachedPages;
+    private final Map<ListKey, NavigableMap<Integer, Database.PageCursor>> cursors;
 
     protected ListCommand(@NotNull String name, @NotNull List<String> aliases, @NotNull String usage,
                           @NotNull HuskHomes plugin) {
         super(name, aliases, usage, plugin);
-        this.cachedLists = new HashMap<>();
+        this.cachedPages = new ConcurrentHashMap<>();
+        this.cursors = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get a page of a list, from the cache if it is present and has not expired, otherwise fetching and caching it.
+     *
+     * <p>If the cache is full, expired (or, failing that, the oldest) entries are evicted to make room.
+     *
+     * @param owner   the owner of the list, or {@code null} if the list is not owned by a user
+     * @param viewer  the viewer scope key
+     * @param page    the requested page number
+     * @param fetcher fetches the page if it is not cached
+     * @param <T>     the type of item in the list
+     * @return the page
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    protected <T extends SavedPosition> Page<T> getPage(@Nullable UUID owner, @NotNull String viewer, int page,
+                                                        @NotNull Supplier<Page<T>> fetcher) {
+        final PageKey key = new PageKey(new ListKey(owner, viewer), page);
+        final CachedPage cached = cachedPages.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return (Page<T>) cached.page();
+        }
+
+        final Page<T> fetched = fetcher.get();
+        if (cachedPages.size() >= MAX_CACHED_LISTS) {
+            cachedPages.values().removeIf(CachedPage::isExpired);
+            if (cachedPages.size() >= MAX_CACHED_LISTS) {
+                cachedPages.entrySet().stream()
+                        .min(Comparator.comparingLong(entry -> entry.getValue().created()))
+                        .ifPresent(entry -> cachedPages.remove(entry.getKey(), entry.getValue()));
+            }
+        }
+        cachedPages.put(key, new CachedPage(fetched, System.currentTimeMillis()));
+        return fetched;
+    }
+
+    /**
+     * Fetch a page of a list from the database, starting from the nearest known keyset cursor at or before the page.
+     *
+     * <p>One item either side of the page is also fetched (where present), so that lists can tell whether a name is
+     * shared across a page boundary.
+     *
+     * @param owner  the owner of the list, or {@code null} if the list is not owned by a user
+     * @param viewer the viewer scope key
+     * @param page   the requested page number; clamped to the valid range of pages
+     * @param total  the total number of items in the list
+     * @param query  the page query
+     * @param <T>    the type of item in the list
+     * @return the fetched page
+     */
+    @NotNull
+    protected <T extends SavedPosition> Page<T> fetchPage(@Nullable UUID owner, @NotNull String viewer, int page,
+                                                          int total, @NotNull PageQuery<T> query) {
+        final int perPage = getItemsPerPage();
+        final int number = Math.max(1, Math.min(page, (total + perPage - 1) / perPage));
+        final ListKey listKey = new ListKey(owner, viewer);
+        if (cursors.size() >= MAX_CACHED_LISTS && !cursors.containsKey(listKey)) {
+            cursors.clear();
+        }
+        final NavigableMap<Integer, Database.PageCursor> known = cursors.computeIfAbsent(
+                listKey, key -> new ConcurrentSkipListMap<>()
+        );
+        final Map.Entry<Integer, Database.PageCursor> nearest = known.floorEntry(number);
+        final Database.PageCursor after = nearest != null ? nearest.getValue() : null;
+        final int skip = (number - (nearest != null ? nearest.getKey() : 1)) * perPage;
+
+        final boolean hasPrevious = skip > 0;
+        final List<T> fetched = query.fetch(after, hasPrevious ? skip - 1 : 0, perPage + (hasPrevious ? 2 : 1));
+        final int start = hasPrevious ? Math.min(1, fetched.size()) : 0;
+        final int end = Math.min(start + perPage, fetched.size());
+        final List<T> items = fetched.subList(start, end);
+        if (!items.isEmpty() && end < fetched.size()) {
+            known.put(number + 1, Database.PageCursor.of(items.get(items.size() - 1)));
+        }
+
+        return new Page<>(
+                items, (number - 1) * perPage, total,
+                hasPrevious && start > 0 ? fetched.get(0).getName() : after != null ? after.name() : null,
+                end < fetched.size() ? fetched.get(end).getName() : null
+        );
+    }
+
+    /**
+     * Create a paginated list from a page of rendered items; only the page's items are rendered.
+     *
+     * @param page    the page the items were rendered from
+     * @param items   the rendered page items
+     * @param options the list options
+     * @return the paginated list
+     */
+    @NotNull
+    protected PaginatedList paginate(@NotNull Page<?> page, @NotNull List<String> items, @NotNull ListOptions options) {
+        return PaginatedList.of(new PageItems(page.offset(), items, Math.max(page.total(), items.size())), options);
+    }
+
+    protected int getItemsPerPage() {
+        return Math.max(1, plugin.getSettings().getGeneral().getListItemsPerPage());
+    }
+
+    /**
+     * Invalidate all cached lists belonging to an owner.
+     *
+     * @param owner the owner of the lists to invalidate
+     */
+    public void invalidateCaches(@NotNull UUID owner) {
+        cachedPages.keySet().removeIf(key -> owner.equals(key.list().owner()));
+        cursors.keySet().removeIf(key -> owner.equals(key.owner()));
     }
 
+    /**
+     * Invalidate all cached lists.
+     */
     public void invalidateCaches() {
-        cachedLists.clear();
+        cachedPages.clear();
+        cursors.clear();
+    }
+
+    /**
+     * Queries a page of a name-ordered list from the database.
+     *
+     * @param <T> the type of item in the list
+     */
+    @FunctionalInterface
+    protected interface PageQuery<T extends SavedPosition> {
+        @NotNull
+        List<T> fetch(@Nullable Database.PageCursor after, int offset, int limit);
+    }
+
+    /**
+     * A page of a list.
+     *
+     * @param items        the items on the page
+     * @param offset       the index of the first item on the page in the whole list
+     * @param total        the total number of items in the whole list
+     * @param previousName the name of the item before the page, if any
+     * @param nextName     the name of the item after the page, if any
+     * @param <T>          the type of item in the list
+     */
+    protected record Page<T extends SavedPosition>(@NotNull List<T> items, int offset, int total,
+                                                   @Nullable String previousName, @Nullable String nextName) {
+
+        // A page containing a whole list
+        @NotNull
+        public static <T extends SavedPosition> Page<T> of(@NotNull List<T> items) {
+            return new Page<>(items, 0, items.size(), null, null);
+        }
+
+    }
+
+    // A list of the given size, with only the items of one page present
+    private static final class PageItems extends AbstractList<String> {
+        private final int offset;
+        private final List<String> items;
+        private final int size;
+
+        private PageItems(int offset, @NotNull List<String> items, int size) {
+            this.offset = offset;
+            this.items = items;
+            this.size = size;
+        }
+
+        @Override
+        public String get(int index) {
+            final int pageIndex = index - offset;
+            return pageIndex >= 0 && pageIndex < items.size() ? items.get(pageIndex) : "";
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private record ListKey(@Nullable UUID owner, @NotNull String viewer) {
+    }
+
+    private record PageKey(@NotNull ListKey list, int page) {
+    }
+
+    private record CachedPage(@NotNull Page<?> page, long created) {
+        private boolean isExpired() {
+            return System.currentTimeMillis() - created > CACHED_LIST_LIFETIME;
+        }
     }
 
 }
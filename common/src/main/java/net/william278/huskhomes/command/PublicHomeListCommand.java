@@ -23,12 +23,12 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Locales;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.user.CommandUser;
-import net.william278.huskhomes.user.OnlineUser;
 import net.william278.paginedown.PaginatedList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -45,34 +45,41 @@ public class PublicHomeListCommand extends ListCommand {
     }
 
     public void showPublicHomeList(@NotNull CommandUser executor, @Nullable String nameFilter, int pageNumber) {
-        if (nameFilter == null && executor instanceof OnlineUser user && cachedLists.containsKey(user.getUuid())) {
-            executor.sendMessage(cachedLists.get(user.getUuid()).getNearestValidPage(pageNumber));
+        // Lists filtered by name are small, so are fetched whole and not cached
+        if (nameFilter != null) {
+            final List<Home> homes = plugin.getDatabase().getPublicHomes(nameFilter);
+            plugin.fireEvent(plugin.getViewHomeListEvent(homes, executor, true),
+                    (event) -> this.generateList(executor, Page.of(event.getHomes()), event.getHomes())
+                            .ifPresent(homeList -> executor.sendMessage(homeList.getNearestValidPage(pageNumber))));
             return;
         }
 
-        final List<Home> homes = nameFilter == null ? plugin.getDatabase().getPublicHomes()
-                : plugin.getDatabase().getPublicHomes(nameFilter);
-        plugin.fireEvent(plugin.getViewHomeListEvent(homes, executor, true),
-                (event) -> this.generateList(executor, event.getHomes()).ifPresent(homeList -> {
-                    if (nameFilter == null && executor instanceof OnlineUser onlineUser) {
-                        cachedLists.put(onlineUser.getUuid(), homeList);
-                    }
-                    executor.sendMessage(homeList.getNearestValidPage(pageNumber));
-                }));
+        // The unfiltered public home list is the same for every viewer
+        final Page<Home> homes = getPage(null, "", pageNumber, () -> fetchPage(null, "", pageNumber,
+                plugin.getDatabase().getPublicHomeCount(),
+                (after, offset, limit) -> plugin.getDatabase().getPublicHomes(after, offset, limit)));
+        plugin.fireEvent(plugin.getViewHomeListEvent(homes.items(), executor, true),
+                (event) -> this.generateList(executor, homes, event.getHomes())
+                        .ifPresent(homeList -> executor.sendMessage(homeList.getNearestValidPage(pageNumber))));
     }
 
-    private Optional<PaginatedList> generateList(@NotNull CommandUser executor, @NotNull List<Home> publicHomes) {
+    private Optional<PaginatedList> generateList(@NotNull CommandUser executor, @NotNull Page<Home> page,
+                                                 @NotNull List<Home> publicHomes) {
         if (publicHomes.isEmpty()) {
             plugin.getLocales().getLocale("error_no_public_homes_set")
                     .ifPresent(executor::sendMessage);
             return Optional.empty();
         }
 
-        final PaginatedList homeList = PaginatedList.of(publicHomes.stream().map(home ->
+        // Names shared by more than one home on (or either side of) the page are shown by their identifier
+        final Map<String, Long> nameCounts = publicHomes.stream()
+                .collect(Collectors.groupingBy(Home::getName, Collectors.counting()));
+        final PaginatedList homeList = paginate(page, publicHomes.stream().map(home ->
                         plugin.getLocales()
                                 .getRawLocale("public_home_list_item",
-                                        publicHomes.stream()
-                                                .filter(h -> h.getName().equals(home.getName())).count() > 1
+                                        nameCounts.get(home.getName()) > 1
+                                                || home.getName().equals(page.previousName())
+                                                || home.getName().equals(page.nextName())
                                                 ? home.getSafeIdentifier() : Locales.escapeText(home.getName()),
                                         home.getSafeIdentifier(),
                                         Locales.escapeText(home.getOwner().getUsername()),
@@ -80,7 +87,7 @@ public class PublicHomeListCommand extends ListCommand {
                                                 ? plugin.getLocales().getNone()
                                                 : Locales.escapeText(home.getMeta().getDescription())
                                 )
-                                .orElse(home.getName())).sorted().collect(Collectors.toList()),
+                                .orElse(home.getName())).collect(Collectors.toList()),
                 plugin.getLocales()
                         .getBaseList(plugin.getSettings().getGeneral().getListItemsPerPage())
                         .setHeaderFormat(plugin.getLocales().getRawLocale("public_home_list_page_title",
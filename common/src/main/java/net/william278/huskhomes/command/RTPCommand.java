@@ -23,6 +23,7 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.Message;
 import net.william278.huskhomes.network.Payload;
+import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.World;
 import net.william278.huskhomes.teleport.Teleport;
 import net.william278.huskhomes.teleport.TeleportBuilder;
@@ -36,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 
 public class RTPCommand extends Command implements UserListTabProvider {
 
@@ -65,10 +67,18 @@ public class RTPCommand extends Command implements UserListTabProvider {
             return;
         }
 
-        // Validate, then execute the RTP
+        // Validate, check they have sufficient funds, then execute the RTP
         final OnlineUser teleporter = optionalTeleporter.get();
-        this.validateRtp(teleporter, executor, args.length > 1 ? removeFirstArg(args) : args)
-                .ifPresent(world -> this.executeRtp(teleporter, executor, world, args));
+        final Optional<World> world = this.validateRtp(teleporter, executor,
+                args.length > 1 ? removeFirstArg(args) : args);
+        if (world.isEmpty()) {
+            return;
+        }
+        plugin.validateTransactionAsync(teleporter, TransactionResolver.Action.RANDOM_TELEPORT).thenAccept(valid -> {
+            if (valid) {
+                this.executeRtp(teleporter, executor, world.get(), args);
+            }
+        });
     }
 
     @Nullable
@@ -102,11 +112,6 @@ public class RTPCommand extends Command implements UserListTabProvider {
             return Optional.empty();
         }
 
-        // Check they have sufficient funds
-        if (!plugin.validateTransaction(teleporter, TransactionResolver.Action.RANDOM_TELEPORT)) {
-            return Optional.empty();
-        }
-
         // Determine the world to carry out the RTP in
         final World teleporterWorld = teleporter.getPosition().getWorld();
         final Optional<World> optionalWorld = args.length >= 1 ? plugin.getWorlds().stream().filter(w -> w.getName()
@@ -149,8 +154,10 @@ public class RTPCommand extends Command implements UserListTabProvider {
 
         if (plugin.getSettings().getRtp().isCrossServer() && plugin.getSettings().getCrossServer().isEnabled()
                 && plugin.getSettings().getCrossServer().getBrokerType() == Broker.Type.REDIS) {
-            List<String> allowedServers = plugin.getSettings().getRtp().getRandomTargetServers();
-            String randomServer = allowedServers.get(random.nextInt(allowedServers.size()));
+            final List<String> allowedServers = plugin.getSettings().getRtp().getRandomTargetServers();
+            final String randomServer = plugin.getSettings().getRtp().isLoadBalanceServers()
+                    ? plugin.getMessenger().getServerLoads().pickServer(allowedServers)
+                    : allowedServers.get(random.nextInt(allowedServers.size()));
             if (randomServer.equals(plugin.getServerName())) {
                 performLocalRTP(teleporter, executor, world, args);
                 return;
@@ -177,22 +184,25 @@ public class RTPCommand extends Command implements UserListTabProvider {
      */
     private void performLocalRTP(@NotNull OnlineUser teleporter, @NotNull CommandUser executor, @NotNull World world,
                                  @NotNull String[] args) {
-        plugin.getRandomTeleportEngine()
-                .getRandomPosition(world, args.length > 1 ? removeFirstArg(args) : args)
-                .thenAccept(position -> {
-                    if (position.isEmpty()) {
-                        plugin.getLocales().getLocale("error_rtp_randomization_timeout")
-                                .ifPresent(executor::sendMessage);
-                        return;
-                    }
-
-                    // Build and execute the teleport
-                    final TeleportBuilder builder = Teleport.builder(plugin)
-                            .teleporter(teleporter)
-                            .type(Teleport.Type.RANDOM_TELEPORT)
-                            .actions(TransactionResolver.Action.RANDOM_TELEPORT)
-                            .target(position.get());
-                    builder.buildAndComplete(executor.equals(teleporter), args);
-                });
+        CompletableFuture<Optional<Position>> search = plugin.getRandomTeleportEngine()
+                .getRandomPosition(world, args.length > 1 ? removeFirstArg(args) : args);
+        if (plugin.getSettings().getCrossServer().isEnabled()) {
+            search = plugin.getMessenger().getServerLoads().trackRtpRequest(search);
+        }
+        search.thenAccept(position -> {
+            if (position.isEmpty()) {
+                plugin.getLocales().getLocale("error_rtp_randomization_timeout")
+                        .ifPresent(executor::sendMessage);
+                return;
+            }
+
+            // Build and execute the teleport
+            final TeleportBuilder builder = Teleport.builder(plugin)
+                    .teleporter(teleporter)
+                    .type(Teleport.Type.RANDOM_TELEPORT)
+                    .actions(TransactionResolver.Action.RANDOM_TELEPORT)
+                    .target(position.get());
+            builder.buildAndComplete(executor.equals(teleporter), args);
+        });
     }
 }
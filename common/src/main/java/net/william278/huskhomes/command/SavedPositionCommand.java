@@ -243,7 +243,7 @@ public abstract class SavedPositionCommand<T extends SavedPosition> extends Comm
                     yield plugin.getManager().homes().getUserHomeIdentifiers();
                 }
                 if (executor instanceof OnlineUser user) {
-                    yield plugin.getManager().homes().getUserHomes().get(user.getUsername());
+                    yield plugin.getManager().homes().getUserHomeSummary(user).names();
                 }
                 yield plugin.getManager().homes().getUserHomeIdentifiers();
             }
@@ -62,11 +62,17 @@ public class TeleportRequestCommand extends InGameCommand implements UserListTab
             return;
         }
 
-        // Validate economy check
-        if (!plugin.validateTransaction(onlineUser, TransactionResolver.Action.SEND_TELEPORT_REQUEST)) {
-            return;
-        }
+        // Validate economy check, then send the request
+        plugin.validateTransactionAsync(onlineUser, TransactionResolver.Action.SEND_TELEPORT_REQUEST)
+                .thenAccept(valid -> {
+                    if (valid) {
+                        sendRequest(onlineUser, manager, target);
+                    }
+                });
+    }
 
+    private void sendRequest(@NotNull OnlineUser onlineUser, @NotNull RequestsManager manager,
+                             @NotNull String target) {
         try {
             manager.sendTeleportRequest(onlineUser, target, requestType);
         } catch (IllegalArgumentException e) {
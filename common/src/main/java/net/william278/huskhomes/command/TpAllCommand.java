@@ -29,6 +29,7 @@ import net.william278.huskhomes.user.OnlineUser;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class TpAllCommand extends InGameCommand {
 
@@ -45,23 +46,28 @@ public class TpAllCommand extends InGameCommand {
             return;
         }
 
+        // Teleport local players in batches, reporting only the first failure to the executor
         final Position targetPosition = executor.getPosition();
-        try {
-            for (OnlineUser user : plugin.getOnlineUsers()) {
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        plugin.runBatched(plugin.getOnlineUsers(), user -> {
+            try {
                 Teleport.builder(plugin)
                         .teleporter(user)
                         .target(targetPosition)
                         .toTeleport().execute();
+            } catch (TeleportationException e) {
+                if (!failed.getAndSet(true)) {
+                    e.displayMessage(executor, args);
+                }
             }
-        } catch (TeleportationException e) {
-            e.displayMessage(executor, args);
-            return;
-        }
+        });
 
+        // Send a single message for each other server to fan out to its players
         if (plugin.getSettings().getCrossServer().isEnabled()) {
             Message.builder()
                     .target(Message.TARGET_ALL)
-                    .type(Message.Type.TELEPORT_TO_POSITION)
+                    .scope(Message.Scope.SERVER)
+                    .type(Message.Type.TELEPORT_ALL_TO_POSITION)
                     .payload(Payload.withPosition(targetPosition))
                     .build().send(plugin.getMessenger(), executor);
         }
@@ -23,7 +23,6 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Locales;
 import net.william278.huskhomes.position.Warp;
 import net.william278.huskhomes.user.CommandUser;
-import net.william278.huskhomes.user.OnlineUser;
 import net.william278.paginedown.PaginatedList;
 import org.jetbrains.annotations.NotNull;
 
@@ -44,29 +43,22 @@ public class WarpListCommand extends ListCommand {
     }
 
     protected void showWarpList(@NotNull CommandUser executor, int pageNumber) {
-        if (executor instanceof OnlineUser user && cachedLists.containsKey(user.getUuid())) {
-            executor.sendMessage(cachedLists.get(user.getUuid()).getNearestValidPage(pageNumber));
-            return;
-        }
-
-        final List<Warp> warps = getItems(executor);
-        plugin.fireEvent(plugin.getViewWarpListEvent(warps, executor),
-                (event) -> this.generateList(executor, event.getWarps()).ifPresent(homeList -> {
-                    if (executor instanceof OnlineUser onlineUser) {
-                        cachedLists.put(onlineUser.getUuid(), homeList);
-                    }
-                    executor.sendMessage(homeList.getNearestValidPage(pageNumber));
-                }));
+        final String viewer = getViewerScope(executor);
+        final Page<Warp> warps = getPage(null, viewer, pageNumber, () -> getItems(executor, viewer, pageNumber));
+        plugin.fireEvent(plugin.getViewWarpListEvent(warps.items(), executor),
+                (event) -> this.generateList(executor, warps, event.getWarps())
+                        .ifPresent(warpList -> executor.sendMessage(warpList.getNearestValidPage(pageNumber))));
     }
 
-    private Optional<PaginatedList> generateList(@NotNull CommandUser executor, @NotNull List<Warp> warps) {
+    private Optional<PaginatedList> generateList(@NotNull CommandUser executor, @NotNull Page<Warp> page,
+                                                 @NotNull List<Warp> warps) {
         if (warps.isEmpty()) {
             plugin.getLocales().getLocale("error_no_warps_set")
                     .ifPresent(executor::sendMessage);
             return Optional.empty();
         }
 
-        final PaginatedList warpList = PaginatedList.of(warps.stream().map(warp ->
+        final PaginatedList warpList = paginate(page, warps.stream().map(warp ->
                         plugin.getLocales()
                                 .getRawLocale("warp_list_item",
                                         Locales.escapeText(warp.getName()),
@@ -75,7 +67,7 @@ public class WarpListCommand extends ListCommand {
                                                 ? plugin.getLocales().getNone()
                                                 : Locales.escapeText(warp.getMeta().getDescription())
                                 )
-                                .orElse(warp.getName())).sorted().collect(Collectors.toList()),
+                                .orElse(warp.getName())).collect(Collectors.toList()),
                 plugin.getLocales()
                         .getBaseList(plugin.getSettings().getGeneral().getListItemsPerPage())
                         .setHeaderFormat(plugin.getLocales().getRawLocale("warp_list_page_title",
@@ -85,13 +77,27 @@ public class WarpListCommand extends ListCommand {
         return Optional.of(warpList);
     }
 
+    // Warps restricted by permission can't be paged by the database, so are filtered from the whole list
     @NotNull
-    private List<Warp> getItems(@NotNull CommandUser executor) {
-        List<Warp> warps = plugin.getDatabase().getWarps();
+    private Page<Warp> getItems(@NotNull CommandUser executor, @NotNull String viewer, int pageNumber) {
         if (plugin.getSettings().getGeneral().isPermissionRestrictWarps()
                 && !executor.hasPermission(Warp.getWildcardPermission())) {
-            warps = warps.stream().filter(warp -> executor.hasPermission(warp.getPermission())).toList();
+            return Page.of(plugin.getDatabase().getWarps().stream()
+                    .filter(warp -> executor.hasPermission(warp.getPermission()))
+                    .toList());
         }
-        return warps;
+        return fetchPage(null, viewer, pageNumber, plugin.getDatabase().getWarpCount(),
+                (after, offset, limit) -> plugin.getDatabase().getWarps(after, offset, limit));
     }
+
+    // Viewers that can see the same set of warps share a cached list
+    @NotNull
+    private String getViewerScope(@NotNull CommandUser executor) {
+        if (!plugin.getSettings().getGeneral().isPermissionRestrictWarps()
+                || executor.hasPermission(Warp.getWildcardPermission())) {
+            return "*";
+        }
+        return String.join(",", plugin.getManager().warps().getUsableWarps(executor).stream().sorted().toList());
+    }
+
 }
@@ -29,7 +29,9 @@ import org.apache.commons.text.StringEscapeUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.TestOnly;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -55,6 +57,9 @@ public class Locales {
     // The raw set of locales loaded from yaml
     private Map<String, String> locales = Maps.newTreeMap();
 
+    // Locales compiled into templates on first use
+    private transient volatile Map<String, Template> templates;
+
     @TestOnly
     @NotNull
     public Map<String, String> getRawLocales() {
@@ -68,7 +73,7 @@ public class Locales {
      * @return An {@link Optional} containing the locale corresponding to the id, if it exists
      */
     public Optional<String> getRawLocale(@NotNull String localeId) {
-        return Optional.ofNullable(locales.get(localeId)).map(StringEscapeUtils::unescapeJava);
+        return getTemplate(localeId).map(Template::getRaw);
     }
 
     /**
@@ -81,17 +86,21 @@ public class Locales {
      * @return An {@link Optional} containing the replacement-applied locale corresponding to the id, if it exists
      */
     public Optional<String> getRawLocale(@NotNull String localeId, @NotNull String... replacements) {
-        return getRawLocale(localeId).map(locale -> applyReplacements(locale, replacements));
+        return getTemplate(localeId).map(template -> template.apply(replacements));
     }
 
     /**
      * Returns a MineDown-formatted locale from the locales file.
      *
+     * <p>The returned {@link MineDown} is parsed once and shared, so should not be modified; use
+     * {@link #format(String)} with {@link #getRawLocale(String)} to get a copy that can be. The API's
+     * {@code getLocale} does this, so API users always get their own copy.
+     *
      * @param localeId String identifier of the locale, corresponding to a key in the file
      * @return An {@link Optional} containing the formatted locale corresponding to the id, if it exists
      */
     public Optional<MineDown> getLocale(@NotNull String localeId) {
-        return getRawLocale(localeId).map(this::format);
+        return getTemplate(localeId).map(template -> template.getFormatted(this));
     }
 
     /**
@@ -104,8 +113,14 @@ public class Locales {
      * @return An {@link Optional} containing the replacement-applied, formatted locale corresponding to the id
      */
     public Optional<MineDown> getLocale(@NotNull String localeId, @NotNull String... replacements) {
-        return getRawLocale(localeId, Arrays.stream(replacements).map(Locales::escapeText)
-                .toArray(String[]::new)).map(this::format);
+        if (replacements.length == 0) {
+            return getLocale(localeId);
+        }
+        final String[] escaped = new String[replacements.length];
+        for (int i = 0; i < replacements.length; i++) {
+            escaped[i] = escapeText(replacements[i]);
+        }
+        return getTemplate(localeId).map(template -> format(template.apply(escaped)));
     }
 
     /**
@@ -119,22 +134,24 @@ public class Locales {
         return new MineDown(text);
     }
 
-    /**
-     * Apply placeholder replacements to a raw locale.
-     *
-     * @param rawLocale    The raw, unparsed locale
-     * @param replacements Ordered array of replacement strings to fill in placeholders with
-     * @return the raw locale, with inserted placeholders
-     */
-    @NotNull
-    private String applyReplacements(@NotNull String rawLocale, @NotNull String... replacements) {
-        int replacementIndexer = 1;
-        for (String replacement : replacements) {
-            String replacementString = "%" + replacementIndexer + "%";
-            rawLocale = rawLocale.replace(replacementString, replacement);
-            replacementIndexer += 1;
+    // Get the compiled template of a locale, compiling all locales if they have not been yet
+    private Optional<Template> getTemplate(@NotNull String localeId) {
+        Map<String, Template> compiled = templates;
+        if (compiled == null) {
+            synchronized (this) {
+                compiled = templates;
+                if (compiled == null) {
+                    compiled = new HashMap<>();
+                    for (Map.Entry<String, String> locale : locales.entrySet()) {
+                        compiled.put(locale.getKey(), Template.compile(
+                                StringEscapeUtils.unescapeJava(locale.getValue())
+                        ));
+                    }
+                    templates = compiled;
+                }
+            }
         }
-        return rawLocale;
+        return Optional.ofNullable(compiled.get(localeId));
     }
 
     /**
@@ -208,6 +225,90 @@ public class Locales {
                 .setSpaceBeforeFooter(false);
     }
 
+    /**
+     * A locale pre-split into literal segments around its numbered placeholders ({@code %1%}, {@code %2%}, etc.).
+     */
+    private static final class Template {
+
+        private final String raw;
+        private final String[] literals;
+        private final int[] placeholders;
+        private volatile MineDown formatted;
+
+        private Template(@NotNull String raw, @NotNull String[] literals, int[] placeholders) {
+            this.raw = raw;
+            this.literals = literals;
+            this.placeholders = placeholders;
+        }
+
+        @NotNull
+        private static Template compile(@NotNull String raw) {
+            final List<String> literals = new ArrayList<>();
+            final List<Integer> placeholders = new ArrayList<>();
+            int literalStart = 0;
+            int index = raw.indexOf('%');
+            while (index >= 0) {
+                // Read the digits of a placeholder following the '%', if any
+                int end = index + 1;
+                while (end < raw.length() && Character.isDigit(raw.charAt(end))) {
+                    end++;
+                }
+                if (end > index + 1 && end - index <= 10 && end < raw.length() && raw.charAt(end) == '%'
+                        && raw.charAt(index + 1) != '0') {
+                    literals.add(raw.substring(literalStart, index));
+                    placeholders.add(Integer.parseInt(raw.substring(index + 1, end)));
+                    literalStart = end + 1;
+                    index = raw.indexOf('%', literalStart);
+                    continue;
+                }
+                index = raw.indexOf('%', index + 1);
+            }
+            literals.add(raw.substring(literalStart));
+            return new Template(
+                    raw, literals.toArray(String[]::new),
+                    placeholders.stream().mapToInt(Integer::intValue).toArray()
+            );
+        }
+
+        @NotNull
+        private String getRaw() {
+            return raw;
+        }
+
+        // Fill placeholders with replacements; placeholders without a replacement are left as-is
+        @NotNull
+        private String apply(@NotNull String... replacements) {
+            if (placeholders.length == 0 || replacements.length == 0) {
+                return raw;
+            }
+            final StringBuilder builder = new StringBuilder(raw.length() + replacements.length * 16);
+            for (int i = 0; i < placeholders.length; i++) {
+                builder.append(literals[i]);
+                final int placeholder = placeholders[i];
+                if (placeholder <= replacements.length) {
+                    builder.append(replacements[placeholder - 1]);
+                } else {
+                    builder.append('%').append(placeholder).append('%');
+                }
+            }
+            return builder.append(literals[placeholders.length]).toString();
+        }
+
+        // The formatted locale, without replacements; parsed once and cached. MineDown parses lazily with a mutable
+        // parser, so the component is built before the instance is published, after which it is only read
+        @NotNull
+        private MineDown getFormatted(@NotNull Locales locales) {
+            MineDown mineDown = formatted;
+            if (mineDown == null) {
+                mineDown = locales.format(raw);
+                mineDown.toComponent();
+                formatted = mineDown;
+            }
+            return mineDown;
+        }
+
+    }
+
     /**
      * Represents where a locale should be displayed.
      */
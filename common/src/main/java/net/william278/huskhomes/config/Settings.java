@@ -29,6 +29,7 @@ import net.william278.huskhomes.command.Command;
 import net.william278.huskhomes.database.Database;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.position.World;
+import net.william278.huskhomes.random.RandomTeleportEngine;
 import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.NotNull;
 
@@ -146,6 +147,10 @@ public final class Settings {
         @Comment("Where the teleport warmup timer should display (CHAT, ACTION_BAR, TITLE, SUBTITLE or NONE)")
         private Locales.DisplaySlot teleportWarmupDisplay = Locales.DisplaySlot.ACTION_BAR;
 
+        @Comment({"Radius of chunks around the destination to pre-load while a teleport warmup counts down, so they're "
+                + "ready on arrival.", "Set to 0 to disable pre-loading. Not supported on Sponge."})
+        private int teleportWarmupPreloadRadius = 2;
+
         @Comment("How long the player should be invulnerable for after teleporting (in seconds)")
         private int teleportInvulnerabilityTime = 0;
 
@@ -324,12 +329,20 @@ public final class Settings {
             private int max = 5000;
         }
 
+        @Comment("The engine to use for picking /rtp positions "
+                + "(NORMAL_DISTRIBUTION, UNIFORM_AREA, SQUARE_REGION, or WEIGHTED_SECTORS)")
+        private RandomTeleportEngine.Type engine = RandomTeleportEngine.Type.NORMAL_DISTRIBUTION;
+
         @Comment("Mean of the normal distribution used to calculate the distance from the center of the world")
         private float distributionMean = 0.75f;
 
         @Comment("Standard deviation of the normal distribution for distributing players randomly")
         private float distributionStandardDeviation = 2.0f;
 
+        @Comment({"Relative weights of equal-sized sectors of the region, for the WEIGHTED_SECTORS engine.",
+                "Sectors start from due south and sweep towards due east. Set a weight to 0 to exclude a sector."})
+        private List<Double> sectorWeights = List.of(1d, 1d, 1d, 1d);
+
         @Comment("List of worlds in which /rtp is disabled. Please note that /rtp does not work well in the nether.")
         private List<String> restrictedWorlds = List.of("world_nether", "world_the_end");
 
@@ -347,6 +360,10 @@ public final class Settings {
         @Comment({"List of server in which /rtp is allowed. (Only relevant when using cross server mode WITH REDIS)",
                 "If a server is not defined here the RTP logic has no way of knowing its existence."})
         private List<String> randomTargetServers = List.of("server-01", "server-02");
+
+        @Comment({"Whether cross-server /rtp should prefer target servers with lower load (tick time, player count "
+                + "and pending /rtp searches).", "If false, a target server will be picked uniformly at random."})
+        private boolean loadBalanceServers = true;
     }
 
     @Comment("Action cooldown settings. Docs: https://william278.net/docs/huskhomes/cooldowns")
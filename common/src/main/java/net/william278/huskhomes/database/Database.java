@@ -24,14 +24,18 @@ import lombok.Getter;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Server;
 import net.william278.huskhomes.config.Settings;
+import net.william278.huskhomes.importer.DataArchive;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.PositionMeta;
 import net.william278.huskhomes.position.SavedPosition;
 import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.position.World;
 import net.william278.huskhomes.teleport.Teleport;
 import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.user.UserSession;
 import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -40,9 +44,15 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 /**
@@ -52,6 +62,16 @@ import java.util.stream.Collectors;
  */
 public abstract class Database {
 
+    /**
+     * Session statement {@code row_type} of the user's row.
+     */
+    protected static final int SESSION_USER_ROW = 0;
+
+    /**
+     * Session statement {@code row_type} of a home row.
+     */
+    protected static final int SESSION_HOME_ROW = 1;
+
     protected final HuskHomes plugin;
 
     /**
@@ -93,6 +113,23 @@ public abstract class Database {
                         .getTableName(Table.WARP_DATA));
     }
 
+    /**
+     * <b>(Internal use only)</b> - Format a page statement, replacing its {@code %keyset%} placeholder with the
+     * keyset condition when paging after a cursor, or with {@code TRUE} for the first page.
+     *
+     * <p>The first page and later pages are prepared as separate statements, so the keyset condition can be
+     * planned as an index range scan rather than being guarded by a parameter.
+     *
+     * @param sql         the SQL statement with unformatted table name and keyset placeholders
+     * @param keyset      the keyset condition selecting the items after the cursor
+     * @param afterCursor whether the page follows a cursor
+     * @return the formatted statement
+     */
+    @ApiStatus.Internal
+    protected final String formatPageStatement(@NotNull String sql, @NotNull String keyset, boolean afterCursor) {
+        return formatStatementTables(sql.replace("%keyset%", afterCursor ? keyset : "TRUE"));
+    }
+
     /**
      * Create a database instance, pulling table names from the plugin config.
      *
@@ -160,6 +197,126 @@ public abstract class Database {
      */
     public abstract void ensureUser(@NotNull User user);
 
+    /**
+     * Load a {@link UserSession} snapshot of the data saved about a {@link User} in a single query, ensuring they
+     * have a {@link SavedUser} entry in the database and that their username is up-to-date.
+     *
+     * @param user The {@link User} to load the session of
+     * @return the user's {@link UserSession}
+     * @since 4.8
+     */
+    @NotNull
+    public final UserSession loadSession(@NotNull User user) {
+        try {
+            final Optional<UserSession> session = selectSession(user);
+            if (session.isPresent() && session.get().getSavedUser().getUsername().equals(user.getUsername())) {
+                return session.get();
+            }
+            ensureUser(user);
+            return session.map(existing -> existing.withUser(user)).orElseGet(() -> UserSession.empty(user));
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to load the session of " + user.getUsername(), e);
+        }
+
+        // Fall back to querying each part of the session separately
+        ensureUser(user);
+        return UserSession.of(
+                getUserData(user.getUuid()).orElseGet(() -> new SavedUser(user, 0, false)),
+                getHomes(user),
+                user instanceof OnlineUser online ? getPendingTeleport(online) : null
+        );
+    }
+
+    /**
+     * <b>(Internal use only)</b> - Select the {@link UserSession} of a {@link User} in a single statement, returning
+     * a result set read by {@link #readSession(User, ResultSet)}.
+     *
+     * <p>The statement should return the user's row ({@link #SESSION_USER_ROW}), with their pending teleport
+     * destination if any, followed by a row for each of their homes ({@link #SESSION_HOME_ROW}), discriminated by a
+     * {@code row_type} column.
+     *
+     * @param user The {@link User} to select the session of
+     * @return the session, or an empty optional if the user does not have a {@link SavedUser} entry
+     * @throws SQLException if an SQL exception occurs doing this
+     */
+    @ApiStatus.Internal
+    protected abstract Optional<UserSession> selectSession(@NotNull User user) throws SQLException;
+
+    /**
+     * <b>(Internal use only)</b> - Read a {@link UserSession} from the results of a session statement.
+     *
+     * @param user      The {@link User} the session is being read for
+     * @param resultSet the session statement results
+     * @return the session, or an empty optional if the user does not have a {@link SavedUser} entry
+     * @throws SQLException if an SQL exception occurs doing this
+     */
+    @ApiStatus.Internal
+    protected final Optional<UserSession> readSession(@NotNull User user,
+                                                      @NotNull ResultSet resultSet) throws SQLException {
+        SavedUser savedUser = null;
+        UserSession.PendingTeleport pendingTeleport = null;
+        final List<Home> homes = new ArrayList<>();
+        while (resultSet.next()) {
+            switch (resultSet.getInt("row_type")) {
+                case SESSION_USER_ROW -> {
+                    savedUser = new SavedUser(
+                            User.of(user.getUuid(), resultSet.getString("name")),
+                            resultSet.getInt("home_slots"),
+                            resultSet.getBoolean("flag")
+                    );
+                    if (resultSet.getString("world_uuid") != null) {
+                        pendingTeleport = new UserSession.PendingTeleport(
+                                readSessionPosition(resultSet),
+                                Teleport.Type.getTeleportType(resultSet.getInt("teleport_type"))
+                                        .orElse(Teleport.Type.TELEPORT)
+                        );
+                    }
+                }
+                case SESSION_HOME_ROW -> homes.add(Home.from(resultSet.getDouble("x"),
+                        resultSet.getDouble("y"),
+                        resultSet.getDouble("z"),
+                        resultSet.getFloat("yaw"),
+                        resultSet.getFloat("pitch"),
+                        World.from(resultSet.getString("world_name"),
+                                UUID.fromString(resultSet.getString("world_uuid"))),
+                        resultSet.getString("server_name"),
+                        PositionMeta.from(resultSet.getString("name"),
+                                resultSet.getString("description"),
+                                resultSet.getTimestamp("timestamp").toInstant(),
+                                resultSet.getString("tags")),
+                        UUID.fromString(resultSet.getString("uuid")),
+                        user,
+                        resultSet.getBoolean("flag")));
+                default -> {
+                }
+            }
+        }
+        if (savedUser == null) {
+            return Optional.empty();
+        }
+        return Optional.of(UserSession.of(savedUser, homes, pendingTeleport));
+    }
+
+    @Nullable
+    private UserSession.PendingTeleport getPendingTeleport(@NotNull OnlineUser user) {
+        return getCurrentTeleport(user)
+                .filter(teleport -> teleport.getTarget() instanceof Position)
+                .map(teleport -> new UserSession.PendingTeleport((Position) teleport.getTarget(), teleport.getType()))
+                .orElse(null);
+    }
+
+    @NotNull
+    private Position readSessionPosition(@NotNull ResultSet resultSet) throws SQLException {
+        return Position.at(resultSet.getDouble("x"),
+                resultSet.getDouble("y"),
+                resultSet.getDouble("z"),
+                resultSet.getFloat("yaw"),
+                resultSet.getFloat("pitch"),
+                World.from(resultSet.getString("world_name"),
+                        UUID.fromString(resultSet.getString("world_uuid"))),
+                resultSet.getString("server_name"));
+    }
+
     /**
      * Get {@link SavedUser} for a user by their Minecraft username (<i>case-insensitive</i>).
      *
@@ -176,6 +333,16 @@ public abstract class Database {
      */
     public abstract Optional<SavedUser> getUserData(@NotNull UUID uuid);
 
+    /**
+     * Get a page of {@link SavedUser}s, ordered by UUID, for iterating over every user in bounded memory.
+     *
+     * @param after the UUID of the last user on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of users to return
+     * @return the page of users
+     * @since 4.8
+     */
+    public abstract List<SavedUser> getUsers(@Nullable UUID after, int limit);
+
     /**
      * Delete a {@link SavedUser} from the database.
      *
@@ -190,6 +357,39 @@ public abstract class Database {
      */
     public abstract Optional<Instant> getCooldown(@NotNull TransactionResolver.Action action, @NotNull User user);
 
+    /**
+     * Get the currently active cooldowns of a {@link User}.
+     *
+     * @param user The {@link User} to get the cooldowns of
+     * @return a map of each {@link TransactionResolver.Action} the user is on cooldown for to the {@link Instant}
+     *     the cooldown expires
+     * @since 4.8
+     */
+    public abstract Map<TransactionResolver.Action, Instant> getCooldowns(@NotNull User user);
+
+    /**
+     * <b>(Internal use only)</b> - Read the cooldowns selected by {@link #getCooldowns(User)}, keeping the latest
+     * expiry of each {@link TransactionResolver.Action}.
+     *
+     * @param resultSet the {@code type} and {@code end_timestamp} of each cooldown
+     * @return the cooldowns
+     * @throws SQLException if an SQL exception occurs doing this
+     */
+    @ApiStatus.Internal
+    protected final Map<TransactionResolver.Action, Instant> readCooldowns(
+            @NotNull ResultSet resultSet) throws SQLException {
+        final Map<TransactionResolver.Action, Instant> cooldowns = new EnumMap<>(TransactionResolver.Action.class);
+        while (resultSet.next()) {
+            final String type = resultSet.getString("type");
+            final Instant expiry = resultSet.getTimestamp("end_timestamp").toInstant();
+            Arrays.stream(TransactionResolver.Action.values())
+                    .filter(action -> action.name().equalsIgnoreCase(type))
+                    .findFirst()
+                    .ifPresent(action -> cooldowns.merge(action, expiry, (a, b) -> a.isAfter(b) ? a : b));
+        }
+        return cooldowns;
+    }
+
     /**
      * Set the cooldown of a {@link User} for a specific {@link TransactionResolver.Action}.
      *
@@ -277,6 +477,163 @@ public abstract class Database {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get a page of the {@link Home}s set by a {@link User}, ordered by name.
+     *
+     * @param user   {@link User} to get the homes of
+     * @param after  the cursor of the last home before the page, or {@code null} to page from the first home
+     * @param offset the number of homes after the cursor to skip
+     * @param limit  the maximum number of homes to return
+     * @return A list containing the page of the user's {@link Home}s
+     * @since 4.8
+     */
+    public abstract List<Home> getHomes(@NotNull User user, @Nullable PageCursor after, int offset, int limit);
+
+    /**
+     * Count the {@link Home}s set by a {@link User}.
+     *
+     * @param user {@link User} to count the homes of
+     * @return the number of homes the user has set
+     * @since 4.8
+     */
+    public abstract int getHomeCount(@NotNull User user);
+
+    /**
+     * Count the {@link Home}s, and how many of them are public, set by the user with the given UUID.
+     *
+     * @param owner the UUID of the user to count the homes of
+     * @return the {@link HomeCount} of the user
+     * @since 4.8
+     */
+    @NotNull
+    public abstract HomeCount getHomeCounts(@NotNull UUID owner);
+
+    /**
+     * Get a page of all publicly-set {@link Home}s, ordered by name.
+     *
+     * @param after  the cursor of the last home before the page, or {@code null} to page from the first home
+     * @param offset the number of homes after the cursor to skip
+     * @param limit  the maximum number of homes to return
+     * @return A list containing the page of publicly-set {@link Home}s
+     * @since 4.8
+     */
+    public abstract List<Home> getPublicHomes(@Nullable PageCursor after, int offset, int limit);
+
+    /**
+     * Count all publicly-set {@link Home}s.
+     *
+     * @return the number of publicly-set homes
+     * @since 4.8
+     */
+    public abstract int getPublicHomeCount();
+
+    /**
+     * Get a page of all {@link Warp}s, ordered by name.
+     *
+     * @param after  the cursor of the last warp before the page, or {@code null} to page from the first warp
+     * @param offset the number of warps after the cursor to skip
+     * @param limit  the maximum number of warps to return
+     * @return A list containing the page of {@link Warp}s
+     * @since 4.8
+     */
+    public abstract List<Warp> getWarps(@Nullable PageCursor after, int offset, int limit);
+
+    /**
+     * Count all {@link Warp}s.
+     *
+     * @return the number of warps that have been set
+     * @since 4.8
+     */
+    public abstract int getWarpCount();
+
+    /**
+     * <b>(Internal use only)</b> - Set the parameters of a page statement's keyset condition and limit clause.
+     *
+     * <p>Page statements should order by name and UUID, and end with the keyset condition
+     * {@code (name > ? OR (name = ? AND uuid > ?))}, formatted by {@link #formatPageStatement(String, String, boolean)}
+     * so it is only present after a cursor, followed by {@code LIMIT ? OFFSET ?}.
+     *
+     * @param statement the page statement
+     * @param index     the index of the first keyset condition parameter
+     * @param after     the cursor of the last item before the page, or {@code null} to page from the first item
+     * @param offset    the number of items after the cursor to skip
+     * @param limit     the maximum number of items to return
+     * @throws SQLException if an SQL exception occurs doing this
+     */
+    @ApiStatus.Internal
+    protected final void setPageParameters(@NotNull PreparedStatement statement, int index, @Nullable PageCursor after,
+                                           int offset, int limit) throws SQLException {
+        int parameter = index;
+        if (after != null) {
+            statement.setString(parameter++, after.name());
+            statement.setString(parameter++, after.name());
+            statement.setString(parameter++, after.uuid().toString());
+        }
+        statement.setInt(parameter, limit);
+        statement.setInt(parameter + 1, Math.max(offset, 0));
+    }
+
+    /**
+     * <b>(Internal use only)</b> - Read the {@link Home}s returned by a page statement.
+     *
+     * @param resultSet the page statement results
+     * @param owner     the owner of the homes, or {@code null} to read it from the {@code owner_uuid} and
+     *                  {@code owner_username} columns
+     * @return the homes
+     * @throws SQLException if an SQL exception occurs doing this
+     */
+    @ApiStatus.Internal
+    protected final List<Home> readHomePage(@NotNull ResultSet resultSet, @Nullable User owner) throws SQLException {
+        final List<Home> homes = new ArrayList<>();
+        while (resultSet.next()) {
+            homes.add(Home.from(resultSet.getDouble("x"),
+                    resultSet.getDouble("y"),
+                    resultSet.getDouble("z"),
+                    resultSet.getFloat("yaw"),
+                    resultSet.getFloat("pitch"),
+                    World.from(resultSet.getString("world_name"),
+                            UUID.fromString(resultSet.getString("world_uuid"))),
+                    resultSet.getString("server_name"),
+                    PositionMeta.from(resultSet.getString("name"),
+                            resultSet.getString("description"),
+                            resultSet.getTimestamp("timestamp").toInstant(),
+                            resultSet.getString("tags")),
+                    UUID.fromString(resultSet.getString("home_uuid")),
+                    owner != null ? owner : User.of(UUID.fromString(resultSet.getString("owner_uuid")),
+                            resultSet.getString("owner_username")),
+                    resultSet.getBoolean("public")));
+        }
+        return homes;
+    }
+
+    /**
+     * <b>(Internal use only)</b> - Read the {@link Warp}s returned by a page statement.
+     *
+     * @param resultSet the page statement results
+     * @return the warps
+     * @throws SQLException if an SQL exception occurs doing this
+     */
+    @ApiStatus.Internal
+    protected final List<Warp> readWarpPage(@NotNull ResultSet resultSet) throws SQLException {
+        final List<Warp> warps = new ArrayList<>();
+        while (resultSet.next()) {
+            warps.add(Warp.from(resultSet.getDouble("x"),
+                    resultSet.getDouble("y"),
+                    resultSet.getDouble("z"),
+                    resultSet.getFloat("yaw"),
+                    resultSet.getFloat("pitch"),
+                    World.from(resultSet.getString("world_name"),
+                            UUID.fromString(resultSet.getString("world_uuid"))),
+                    resultSet.getString("server_name"),
+                    PositionMeta.from(resultSet.getString("name"),
+                            resultSet.getString("description"),
+                            resultSet.getTimestamp("timestamp").toInstant(),
+                            resultSet.getString("tags")),
+                    UUID.fromString(resultSet.getString("warp_uuid"))));
+        }
+        return warps;
+    }
+
     /**
      * Get a {@link Home} with the given name, set by the given {@link User}.
      *
@@ -424,6 +781,261 @@ public abstract class Database {
      */
     public abstract void saveHome(@NotNull Home home);
 
+    /**
+     * Save {@link Home}s in bulk in a single transaction, ensuring their owners have a {@link SavedUser} entry. A home
+     * replaces any home with the same UUID, or that its owner has already set with the same name. Intended for
+     * imports, where checking and saving each home individually is too slow.
+     *
+     * @param homes the new homes to save
+     * @return the number of homes saved
+     * @throws SQLException if saving failed; the transaction is rolled back
+     * @since 4.8
+     */
+    public abstract int saveHomes(@NotNull Collection<Home> homes) throws SQLException;
+
+    /**
+     * <b>(Internal use only)</b> - Write {@link Home}s in bulk on a connection, in a single transaction.
+     *
+     * @param connection SQL connection
+     * @param homes      the homes to write
+     * @param statements the dialect's statements for writing homes
+     * @return the number of homes written
+     * @throws SQLException if an SQL exception occurs doing this; the transaction is rolled back
+     */
+    @ApiStatus.Internal
+    protected final int writeHomes(@NotNull Connection connection, @NotNull Collection<Home> homes,
+                                   @NotNull BulkHomeStatements statements) throws SQLException {
+        final boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement upsertUser = connection.prepareStatement(statements.upsertUser());
+             PreparedStatement deleteHome = connection.prepareStatement(statements.deleteExistingHome());
+             PreparedStatement insertPosition = connection.prepareStatement(
+                     statements.insertPosition(), Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement insertSavedPosition = connection.prepareStatement(
+                     statements.insertSavedPosition(), Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement insertHome = connection.prepareStatement(statements.insertHome())) {
+            final Map<UUID, User> owners = new LinkedHashMap<>();
+            homes.forEach(home -> owners.put(home.getOwner().getUuid(), home.getOwner()));
+            for (User owner : owners.values()) {
+                upsertUser.setString(1, owner.getUuid().toString());
+                upsertUser.setString(2, owner.getUsername());
+                upsertUser.addBatch();
+            }
+            upsertUser.executeBatch();
+
+            for (Home home : homes) {
+                deleteHome.setString(1, home.getOwner().getUuid().toString());
+                deleteHome.setString(2, home.getName());
+                deleteHome.setString(3, home.getUuid().toString());
+                deleteHome.addBatch();
+            }
+            deleteHome.executeBatch();
+
+            final List<Home> inserted = List.copyOf(homes);
+            final int[] savedPositionIds = insertSavedPositions(inserted, insertSavedPosition, insertPosition,
+                    statements.batchGeneratedKeys());
+            for (int i = 0; i < inserted.size(); i++) {
+                final Home home = inserted.get(i);
+                insertHome.setString(1, home.getUuid().toString());
+                insertHome.setInt(2, savedPositionIds[i]);
+                insertHome.setString(3, home.getOwner().getUuid().toString());
+                insertHome.setBoolean(4, home.isPublic());
+                insertHome.addBatch();
+            }
+            insertHome.executeBatch();
+
+            connection.commit();
+            return homes.size();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // Insert saved positions and their positions using prepared insert statements, returning the saved position IDs
+    private static int[] insertSavedPositions(@NotNull List<? extends SavedPosition> positions,
+                                              @NotNull PreparedStatement savedStatement,
+                                              @NotNull PreparedStatement positionStatement,
+                                              boolean batched) throws SQLException {
+        final int[] positionIds = insertPositions(positions, positionStatement, batched);
+        final int[] savedPositionIds = new int[positions.size()];
+        for (int i = 0; i < positions.size(); i++) {
+            final SavedPosition position = positions.get(i);
+            savedStatement.setInt(1, positionIds[i]);
+            savedStatement.setString(2, position.getName());
+            savedStatement.setString(3, position.getMeta().getDescription());
+            savedStatement.setString(4, position.getMeta().getSerializedTags());
+            savedStatement.setTimestamp(5, Timestamp.from(position.getMeta().getCreationTime()));
+            if (batched) {
+                savedStatement.addBatch();
+            } else {
+                savedStatement.executeUpdate();
+                savedPositionIds[i] = getGeneratedKey(savedStatement);
+            }
+        }
+        return batched ? executeBatchForKeys(savedStatement, positions.size()) : savedPositionIds;
+    }
+
+    // Insert positions using a prepared insert statement, returning their IDs. Positions are inserted in one batch if
+    // the driver returns the generated keys of a batch, otherwise one at a time on the reused statement
+    private static int[] insertPositions(@NotNull List<? extends Position> positions,
+                                         @NotNull PreparedStatement statement, boolean batched) throws SQLException {
+        final int[] positionIds = new int[positions.size()];
+        for (int i = 0; i < positions.size(); i++) {
+            final Position position = positions.get(i);
+            statement.setDouble(1, position.getX());
+            statement.setDouble(2, position.getY());
+            statement.setDouble(3, position.getZ());
+            statement.setFloat(4, position.getYaw());
+            statement.setFloat(5, position.getPitch());
+            statement.setString(6, position.getWorld().getName());
+            statement.setString(7, position.getWorld().getUuid().toString());
+            statement.setString(8, position.getServer());
+            if (batched) {
+                statement.addBatch();
+            } else {
+                statement.executeUpdate();
+                positionIds[i] = getGeneratedKey(statement);
+            }
+        }
+        return batched ? executeBatchForKeys(statement, positions.size()) : positionIds;
+    }
+
+    // Execute a batch of inserts, returning the generated key of each row in the order they were added
+    private static int[] executeBatchForKeys(@NotNull PreparedStatement statement, int rows) throws SQLException {
+        statement.executeBatch();
+        final int[] keys = new int[rows];
+        try (ResultSet resultSet = statement.getGeneratedKeys()) {
+            int row = 0;
+            while (row < rows && resultSet.next()) {
+                keys[row++] = resultSet.getInt(1);
+            }
+            if (row < rows) {
+                throw new SQLException("Failed to insert positions into database");
+            }
+        }
+        return keys;
+    }
+
+    private static int getGeneratedKey(@NotNull PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.getGeneratedKeys()) {
+            if (resultSet.next()) {
+                return resultSet.getInt(1);
+            }
+        }
+        throw new SQLException("Failed to insert position into database");
+    }
+
+    /**
+     * Save users' data, cooldowns and last, offline and respawn positions from {@link DataArchive.UserEntry archive
+     * entries} in bulk in a single transaction. Users are created if they don't exist; a cooldown or position in an
+     * entry replaces the user's existing one. Homes in the entries are not saved; see {@link #saveHomes(Collection)}.
+     *
+     * @param users the archived users to save
+     * @return the number of users saved
+     * @throws SQLException if saving failed; the transaction is rolled back
+     * @since 4.8
+     */
+    public abstract int saveUsers(@NotNull Collection<DataArchive.UserEntry> users) throws SQLException;
+
+    /**
+     * <b>(Internal use only)</b> - Write users from archive entries in bulk on a connection, in a single transaction.
+     *
+     * @param connection SQL connection
+     * @param users      the archived users to write
+     * @param statements the dialect's statements for writing users
+     * @return the number of users written
+     * @throws SQLException if an SQL exception occurs doing this; the transaction is rolled back
+     */
+    @ApiStatus.Internal
+    protected final int writeUsers(@NotNull Connection connection, @NotNull Collection<DataArchive.UserEntry> users,
+                                   @NotNull BulkUserStatements statements) throws SQLException {
+        final boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement upsertUser = connection.prepareStatement(statements.upsertUser());
+             PreparedStatement deleteCooldown = connection.prepareStatement(statements.deleteCooldown());
+             PreparedStatement insertCooldown = connection.prepareStatement(statements.insertCooldown());
+             PreparedStatement insertPosition = connection.prepareStatement(
+                     statements.insertPosition(), Statement.RETURN_GENERATED_KEYS)) {
+            for (DataArchive.UserEntry entry : users) {
+                final SavedUser savedUser = entry.savedUser();
+                upsertUser.setString(1, savedUser.getUserUuid().toString());
+                upsertUser.setString(2, savedUser.getUsername());
+                upsertUser.setInt(3, savedUser.getHomeSlots());
+                upsertUser.setBoolean(4, savedUser.isIgnoringTeleports());
+                upsertUser.addBatch();
+            }
+            upsertUser.executeBatch();
+
+            final Timestamp now = Timestamp.from(Instant.now());
+            for (DataArchive.UserEntry entry : users) {
+                final String uuid = entry.savedUser().getUserUuid().toString();
+                for (Map.Entry<TransactionResolver.Action, Instant> cooldown : entry.cooldowns().entrySet()) {
+                    final String type = cooldown.getKey().name().toLowerCase(Locale.ENGLISH);
+                    deleteCooldown.setString(1, uuid);
+                    deleteCooldown.setString(2, type);
+                    deleteCooldown.addBatch();
+                    insertCooldown.setString(1, uuid);
+                    insertCooldown.setString(2, type);
+                    insertCooldown.setTimestamp(3, now);
+                    insertCooldown.setTimestamp(4, Timestamp.from(cooldown.getValue()));
+                    insertCooldown.addBatch();
+                }
+            }
+            deleteCooldown.executeBatch();
+            insertCooldown.executeBatch();
+
+            writeUserPositions(connection, users, "last_position", DataArchive.UserEntry::lastPosition,
+                    insertPosition, statements);
+            writeUserPositions(connection, users, "offline_position", DataArchive.UserEntry::offlinePosition,
+                    insertPosition, statements);
+            writeUserPositions(connection, users, "respawn_position", DataArchive.UserEntry::respawnPosition,
+                    insertPosition, statements);
+
+            connection.commit();
+            return users.size();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // Replace the position in one of the users' position columns, for each user that has the position set
+    private static void writeUserPositions(@NotNull Connection connection,
+                                           @NotNull Collection<DataArchive.UserEntry> users, @NotNull String column,
+                                           @NotNull Function<DataArchive.UserEntry, Position> getter,
+                                           @NotNull PreparedStatement insertPosition,
+                                           @NotNull BulkUserStatements statements) throws SQLException {
+        final List<DataArchive.UserEntry> entries = users.stream().filter(entry -> getter.apply(entry) != null)
+                .toList();
+        if (entries.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement deletePosition = connection.prepareStatement(
+                statements.deletePosition().replace("%position_column%", column));
+             PreparedStatement setPosition = connection.prepareStatement(
+                     statements.setPosition().replace("%position_column%", column))) {
+            for (DataArchive.UserEntry entry : entries) {
+                deletePosition.setString(1, entry.savedUser().getUserUuid().toString());
+                deletePosition.addBatch();
+            }
+            deletePosition.executeBatch();
+
+            final int[] positionIds = insertPositions(entries.stream().map(getter).toList(), insertPosition,
+                    statements.batchGeneratedKeys());
+            for (int i = 0; i < entries.size(); i++) {
+                setPosition.setInt(1, positionIds[i]);
+                setPosition.setString(2, entries.get(i).savedUser().getUserUuid().toString());
+                setPosition.addBatch();
+            }
+            setPosition.executeBatch();
+        }
+    }
+
     /**
      * Sets or updates a {@link Warp} into the warp data table on the database.
      *
@@ -431,6 +1043,64 @@ public abstract class Database {
      */
     public abstract void saveWarp(@NotNull Warp warp);
 
+    /**
+     * Save {@link Warp}s in bulk in a single transaction. A warp replaces any warp with the same UUID or name.
+     * Intended for imports, where checking and saving each warp individually is too slow.
+     *
+     * @param warps the new warps to save
+     * @return the number of warps saved
+     * @throws SQLException if saving failed; the transaction is rolled back
+     * @since 4.8
+     */
+    public abstract int saveWarps(@NotNull Collection<Warp> warps) throws SQLException;
+
+    /**
+     * <b>(Internal use only)</b> - Write {@link Warp}s in bulk on a connection, in a single transaction.
+     *
+     * @param connection SQL connection
+     * @param warps      the warps to write
+     * @param statements the dialect's statements for writing warps
+     * @return the number of warps written
+     * @throws SQLException if an SQL exception occurs doing this; the transaction is rolled back
+     */
+    @ApiStatus.Internal
+    protected final int writeWarps(@NotNull Connection connection, @NotNull Collection<Warp> warps,
+                                   @NotNull BulkWarpStatements statements) throws SQLException {
+        final boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement deleteWarp = connection.prepareStatement(statements.deleteExistingWarp());
+             PreparedStatement insertPosition = connection.prepareStatement(
+                     statements.insertPosition(), Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement insertSavedPosition = connection.prepareStatement(
+                     statements.insertSavedPosition(), Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement insertWarp = connection.prepareStatement(statements.insertWarp())) {
+            for (Warp warp : warps) {
+                deleteWarp.setString(1, warp.getName());
+                deleteWarp.setString(2, warp.getUuid().toString());
+                deleteWarp.addBatch();
+            }
+            deleteWarp.executeBatch();
+
+            final List<Warp> inserted = List.copyOf(warps);
+            final int[] savedPositionIds = insertSavedPositions(inserted, insertSavedPosition, insertPosition,
+                    statements.batchGeneratedKeys());
+            for (int i = 0; i < inserted.size(); i++) {
+                insertWarp.setString(1, inserted.get(i).getUuid().toString());
+                insertWarp.setInt(2, savedPositionIds[i]);
+                insertWarp.addBatch();
+            }
+            insertWarp.executeBatch();
+
+            connection.commit();
+            return warps.size();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
     /**
      * Deletes a {@link Home} by the given unique id from the home table on the database.
      *
@@ -484,6 +1154,85 @@ public abstract class Database {
     public abstract void terminate();
 
 
+    /**
+     * A keyset pagination cursor, identifying the last item before a page of a name-ordered list.
+     *
+     * @param name the name of the item
+     * @param uuid the unique ID of the item, used to order items with the same name
+     * @since 4.8
+     */
+    public record PageCursor(@NotNull String name, @NotNull UUID uuid) {
+
+        @NotNull
+        public static PageCursor of(@NotNull SavedPosition position) {
+            return new PageCursor(position.getName(), position.getUuid());
+        }
+
+    }
+
+    /**
+     * <b>(Internal use only)</b> - A dialect's statements for writing homes in bulk.
+     *
+     * @param upsertUser          insert a user, or update their username (uuid, username)
+     * @param deleteExistingHome  delete a user's home by name, or any home by UUID (owner uuid, name, uuid)
+     * @param insertPosition      insert a position (x, y, z, yaw, pitch, world name, world uuid, server)
+     * @param insertSavedPosition insert a saved position (position id, name, description, tags, timestamp)
+     * @param insertHome          insert a home (uuid, saved position id, owner uuid, public)
+     * @param batchGeneratedKeys  whether the driver returns the generated keys of every row of a batch insert, so
+     *                            positions can be inserted in batches rather than one at a time
+     */
+    @ApiStatus.Internal
+    protected record BulkHomeStatements(@NotNull String upsertUser, @NotNull String deleteExistingHome,
+                                        @NotNull String insertPosition, @NotNull String insertSavedPosition,
+                                        @NotNull String insertHome, boolean batchGeneratedKeys) {
+    }
+
+    /**
+     * <b>(Internal use only)</b> - A dialect's statements for writing archived users in bulk.
+     *
+     * @param upsertUser         insert a user, or update their data (uuid, username, home slots, ignoring requests)
+     * @param deleteCooldown     delete a user's cooldown (player uuid, type)
+     * @param insertCooldown     insert a cooldown (player uuid, type, start timestamp, end timestamp)
+     * @param deletePosition     delete the position in a user's {@code %position_column%} (uuid)
+     * @param insertPosition     insert a position (x, y, z, yaw, pitch, world name, world uuid, server)
+     * @param setPosition        set a user's {@code %position_column%} (position id, uuid)
+     * @param batchGeneratedKeys whether the driver returns the generated keys of every row of a batch insert
+     */
+    @ApiStatus.Internal
+    protected record BulkUserStatements(@NotNull String upsertUser, @NotNull String deleteCooldown,
+                                        @NotNull String insertCooldown, @NotNull String deletePosition,
+                                        @NotNull String insertPosition, @NotNull String setPosition,
+                                        boolean batchGeneratedKeys) {
+    }
+
+    /**
+     * <b>(Internal use only)</b> - A dialect's statements for writing warps in bulk.
+     *
+     * @param deleteExistingWarp  delete a warp by name, or any warp by UUID (name, uuid)
+     * @param insertPosition      insert a position (x, y, z, yaw, pitch, world name, world uuid, server)
+     * @param insertSavedPosition insert a saved position (position id, name, description, tags, timestamp)
+     * @param insertWarp          insert a warp (uuid, saved position id)
+     * @param batchGeneratedKeys  whether the driver returns the generated keys of every row of a batch insert
+     */
+    @ApiStatus.Internal
+    protected record BulkWarpStatements(@NotNull String deleteExistingWarp, @NotNull String insertPosition,
+                                        @NotNull String insertSavedPosition, @NotNull String insertWarp,
+                                        boolean batchGeneratedKeys) {
+    }
+
+    /**
+     * Aggregate counts of a user's homes.
+     *
+     * @param total       the number of homes the user has set
+     * @param publicHomes the number of those homes that are public
+     * @since 4.8
+     */
+    public record HomeCount(int total, int publicHomes) {
+
+        public static final HomeCount EMPTY = new HomeCount(0, 0);
+
+    }
+
     /**
      * Identifies types of databases.
      */
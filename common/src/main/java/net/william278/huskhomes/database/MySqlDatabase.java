@@ -21,12 +21,14 @@ package net.william278.huskhomes.database;
 
 import com.zaxxer.hikari.HikariDataSource;
 import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.importer.DataArchive;
 import net.william278.huskhomes.position.*;
 import net.william278.huskhomes.teleport.Teleport;
 import net.william278.huskhomes.teleport.TeleportationException;
 import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.user.UserSession;
 import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.Blocking;
 import org.jetbrains.annotations.NotNull;
@@ -129,6 +131,7 @@ public class MySqlDatabase extends Database {
                 for (String tableCreationStatement : databaseSchema) {
                     statement.execute(tableCreationStatement);
                 }
+                createNameIndex(connection, statement);
             } catch (SQLException e) {
                 throw new IllegalStateException("Failed to create database tables. Please ensure you are running "
                         + "MySQL v8.0+ and that your connecting user account has privileges to create tables.", e);
@@ -139,6 +142,24 @@ public class MySqlDatabase extends Database {
         }
     }
 
+    // MySQL can't create an index only if it doesn't exist, so check for the saved position name index (used to order
+    // home and warp pages) before creating it
+    private void createNameIndex(@NotNull Connection connection, @NotNull Statement statement) throws SQLException {
+        final String table = plugin.getSettings().getDatabase().getTableName(Table.SAVED_POSITION_DATA);
+        try (PreparedStatement query = connection.prepareStatement("""
+                SELECT 1
+                FROM `information_schema`.`STATISTICS`
+                WHERE `TABLE_SCHEMA`=DATABASE() AND `TABLE_NAME`=? AND `INDEX_NAME`=?;""")) {
+            query.setString(1, table);
+            query.setString(2, table + "_name");
+            if (query.executeQuery().next()) {
+                return;
+            }
+        }
+        statement.execute(formatStatementTables("""
+                CREATE INDEX `%saved_positions_table%_name` ON `%saved_positions_table%` (`name`);"""));
+    }
+
     @Override
     protected int setPosition(@NotNull Position position, @NotNull Connection connection) throws SQLException {
         try (PreparedStatement statement = connection.prepareStatement(formatStatementTables("""
@@ -289,6 +310,37 @@ public class MySqlDatabase extends Database {
                 });
     }
 
+    @Override
+    protected Optional<UserSession> selectSession(@NotNull User user) throws SQLException {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatStatementTables("""
+                    SELECT 0 AS `row_type`, `username` AS `name`, `home_slots`, `ignoring_requests` AS `flag`,
+                        `%teleports_table%`.`type` AS `teleport_type`, NULL AS `uuid`, NULL AS `description`,
+                        NULL AS `tags`, NULL AS `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`,
+                        `world_name`, `world_uuid`, `server_name`
+                    FROM `%players_table%`
+                    LEFT JOIN `%teleports_table%`
+                        ON `%players_table%`.`uuid`=`%teleports_table%`.`player_uuid`
+                    LEFT JOIN `%positions_table%`
+                        ON `%teleports_table%`.`destination_id`=`%positions_table%`.`id`
+                    WHERE `%players_table%`.`uuid`=?
+                    UNION ALL
+                    SELECT 1, `name`, NULL, `public`, NULL, `%homes_table%`.`uuid`, `description`, `tags`,
+                        `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
+                    FROM `%homes_table%`
+                    INNER JOIN `%saved_positions_table%`
+                        ON `%homes_table%`.`saved_position_id`=`%saved_positions_table%`.`id`
+                    INNER JOIN `%positions_table%`
+                        ON `%saved_positions_table%`.`position_id`=`%positions_table%`.`id`
+                    WHERE `owner_uuid`=?
+                    ORDER BY `row_type`, `name`;"""))) {
+                statement.setString(1, user.getUuid().toString());
+                statement.setString(2, user.getUuid().toString());
+                return readSession(user, statement.executeQuery());
+            }
+        }
+    }
+
     @Override
     public Optional<SavedUser> getUserDataByName(@NotNull String name) {
         try (Connection connection = getConnection()) {
@@ -340,6 +392,40 @@ public class MySqlDatabase extends Database {
         return Optional.empty();
     }
 
+    @Override
+    public List<SavedUser> getUsers(@Nullable UUID after, int limit) {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatPageStatement("""
+                    SELECT `uuid`, `username`, `home_slots`, `ignoring_requests`
+                    FROM `%players_table%`
+                    WHERE %keyset%
+                    ORDER BY `uuid`
+                    LIMIT ?;""",
+                "(`uuid`>?)", after != null))) {
+                int index = 1;
+                if (after != null) {
+                    statement.setString(index++, after.toString());
+                }
+                statement.setInt(index, limit);
+
+                final List<SavedUser> users = new ArrayList<>();
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    users.add(new SavedUser(
+                            User.of(UUID.fromString(resultSet.getString("uuid")),
+                                    resultSet.getString("username")),
+                            resultSet.getInt("home_slots"),
+                            resultSet.getBoolean("ignoring_requests")
+                    ));
+                }
+                return users;
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to fetch a page of players from the database", e);
+        }
+        return List.of();
+    }
+
     @Override
     public void deleteUserData(@NotNull UUID uuid) {
         try (Connection connection = getConnection()) {
@@ -394,6 +480,23 @@ public class MySqlDatabase extends Database {
         return Optional.empty();
     }
 
+    @Override
+    public Map<TransactionResolver.Action, Instant> getCooldowns(@NotNull User user) {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatStatementTables("""
+                    SELECT `type`, `end_timestamp`
+                    FROM `%cooldowns_table%`
+                    WHERE `player_uuid`=? AND `end_timestamp`>?;"""))) {
+                statement.setString(1, user.getUuid().toString());
+                statement.setTimestamp(2, Timestamp.from(Instant.now()));
+                return readCooldowns(statement.executeQuery());
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to fetch a player's cooldowns from the database", e);
+        }
+        return Map.of();
+    }
+
     @Override
     public void setCooldown(@NotNull TransactionResolver.Action action, @NotNull User user,
                             @NotNull Instant cooldownExpiry) {
@@ -600,6 +703,160 @@ public class MySqlDatabase extends Database {
         return userHomes;
     }
 
+    @Override
+    public List<Home> getHomes(@NotNull User user, @Nullable PageCursor after, int offset, int limit) {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatPageStatement("""
+                    SELECT `%homes_table%`.`uuid` AS `home_uuid`, `name`, `description`, `tags`, `timestamp`,
+                        `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`, `public`
+                    FROM `%homes_table%`
+                    INNER JOIN `%saved_positions_table%`
+                        ON `%homes_table%`.`saved_position_id`=`%saved_positions_table%`.`id`
+                    INNER JOIN `%positions_table%`
+                        ON `%saved_positions_table%`.`position_id`=`%positions_table%`.`id`
+                    WHERE `owner_uuid`=?
+                    AND %keyset%
+                    ORDER BY `name`, `%homes_table%`.`uuid`
+                    LIMIT ? OFFSET ?;""",
+                "(`name`>? OR (`name`=? AND `%homes_table%`.`uuid`>?))", after != null))) {
+                statement.setString(1, user.getUuid().toString());
+                setPageParameters(statement, 2, after, offset, limit);
+                return readHomePage(statement.executeQuery(), user);
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for a page of home data for:" + user.getUsername());
+        }
+        return List.of();
+    }
+
+    @Override
+    public int getHomeCount(@NotNull User user) {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatStatementTables("""
+                    SELECT COUNT(*)
+                    FROM `%homes_table%`
+                    WHERE `owner_uuid`=?;"""))) {
+                statement.setString(1, user.getUuid().toString());
+
+                final ResultSet resultSet = statement.executeQuery();
+                if (resultSet.next()) {
+                    return resultSet.getInt(1);
+                }
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for the home count of:" + user.getUsername());
+        }
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public HomeCount getHomeCounts(@NotNull UUID owner) {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatStatementTables("""
+                    SELECT COUNT(*), COALESCE(SUM(CASE WHEN `public` THEN 1 ELSE 0 END), 0)
+                    FROM `%homes_table%`
+                    WHERE `owner_uuid`=?;"""))) {
+                statement.setString(1, owner.toString());
+
+                final ResultSet resultSet = statement.executeQuery();
+                if (resultSet.next()) {
+                    return new HomeCount(resultSet.getInt(1), resultSet.getInt(2));
+                }
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for the home counts of:" + owner);
+        }
+        return HomeCount.EMPTY;
+    }
+
+    @Override
+    public List<Home> getPublicHomes(@Nullable PageCursor after, int offset, int limit) {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatPageStatement("""
+                    SELECT `%homes_table%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`,
+                        `name`, `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`,
+                        `world_uuid`, `server_name`, `public`
+                    FROM `%homes_table%`
+                    INNER JOIN `%saved_positions_table%`
+                        ON `%homes_table%`.`saved_position_id`=`%saved_positions_table%`.`id`
+                    INNER JOIN `%positions_table%`
+                        ON `%saved_positions_table%`.`position_id`=`%positions_table%`.`id`
+                    INNER JOIN `%players_table%`
+                        ON `%homes_table%`.`owner_uuid`=`%players_table%`.`uuid`
+                    WHERE `public`=true
+                    AND %keyset%
+                    ORDER BY `name`, `%homes_table%`.`uuid`
+                    LIMIT ? OFFSET ?;""",
+                "(`name`>? OR (`name`=? AND `%homes_table%`.`uuid`>?))", after != null))) {
+                setPageParameters(statement, 1, after, offset, limit);
+                return readHomePage(statement.executeQuery(), null);
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for a page of public home data");
+        }
+        return List.of();
+    }
+
+    @Override
+    public int getPublicHomeCount() {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatStatementTables("""
+                    SELECT COUNT(*)
+                    FROM `%homes_table%`
+                    WHERE `public`=true;"""))) {
+                final ResultSet resultSet = statement.executeQuery();
+                if (resultSet.next()) {
+                    return resultSet.getInt(1);
+                }
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for the public home count");
+        }
+        return 0;
+    }
+
+    @Override
+    public List<Warp> getWarps(@Nullable PageCursor after, int offset, int limit) {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatPageStatement("""
+                    SELECT `%warps_table%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
+                        `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
+                    FROM `%warps_table%`
+                    INNER JOIN `%saved_positions_table%`
+                        ON `%warps_table%`.`saved_position_id`=`%saved_positions_table%`.`id`
+                    INNER JOIN `%positions_table%`
+                        ON `%saved_positions_table%`.`position_id`=`%positions_table%`.`id`
+                    WHERE %keyset%
+                    ORDER BY `name`, `%warps_table%`.`uuid`
+                    LIMIT ? OFFSET ?;""",
+                "(`name`>? OR (`name`=? AND `%warps_table%`.`uuid`>?))", after != null))) {
+                setPageParameters(statement, 1, after, offset, limit);
+                return readWarpPage(statement.executeQuery());
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for a page of warp data.");
+        }
+        return List.of();
+    }
+
+    @Override
+    public int getWarpCount() {
+        try (Connection connection = getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(formatStatementTables("""
+                    SELECT COUNT(*)
+                    FROM `%warps_table%`;"""))) {
+                final ResultSet resultSet = statement.executeQuery();
+                if (resultSet.next()) {
+                    return resultSet.getInt(1);
+                }
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for the warp count.");
+        }
+        return 0;
+    }
+
     @Override
     public Optional<Home> getHome(@NotNull User user, @NotNull String homeName, boolean caseInsensitive) {
         try (Connection connection = getConnection()) {
@@ -1090,6 +1347,90 @@ public class MySqlDatabase extends Database {
         });
     }
 
+    @Override
+    public int saveHomes(@NotNull Collection<Home> homes) throws SQLException {
+        if (homes.isEmpty()) {
+            return 0;
+        }
+        try (Connection connection = getConnection()) {
+            return writeHomes(connection, homes, getBulkHomeStatements());
+        }
+    }
+
+    @NotNull
+    private BulkHomeStatements getBulkHomeStatements() {
+        return new BulkHomeStatements(
+                formatStatementTables("""
+                        INSERT INTO `%players_table%` (`uuid`,`username`)
+                        VALUES (?,?)
+                        ON DUPLICATE KEY UPDATE `username`=VALUES(`username`);"""),
+                formatStatementTables("""
+                        DELETE FROM `%positions_table%`
+                        WHERE `id` IN (
+                            SELECT `position_id`
+                            FROM `%saved_positions_table%`
+                            INNER JOIN `%homes_table%`
+                                ON `%homes_table%`.`saved_position_id`=`%saved_positions_table%`.`id`
+                            WHERE (`owner_uuid`=? AND `name`=?) OR `%homes_table%`.`uuid`=?
+                        );"""),
+                formatStatementTables("""
+                        INSERT INTO `%positions_table%`
+                            (`x`,`y`,`z`,`yaw`,`pitch`,`world_name`,`world_uuid`,`server_name`)
+                        VALUES
+                            (?,?,?,?,?,?,?,?);"""),
+                formatStatementTables("""
+                        INSERT INTO `%saved_positions_table%`
+                            (`position_id`, `name`, `description`, `tags`, `timestamp`)
+                        VALUES
+                            (?,?,?,?,?);"""),
+                formatStatementTables("""
+                        INSERT INTO `%homes_table%` (`uuid`, `saved_position_id`, `owner_uuid`, `public`)
+                        VALUES (?,?,?,?);"""),
+                true
+        );
+    }
+
+    @Override
+    public int saveUsers(@NotNull Collection<DataArchive.UserEntry> users) throws SQLException {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        try (Connection connection = getConnection()) {
+            return writeUsers(connection, users, getBulkUserStatements());
+        }
+    }
+
+    @NotNull
+    private BulkUserStatements getBulkUserStatements() {
+        final BulkHomeStatements homeStatements = getBulkHomeStatements();
+        return new BulkUserStatements(
+                formatStatementTables("""
+                        INSERT INTO `%players_table%` (`uuid`,`username`,`home_slots`,`ignoring_requests`)
+                        VALUES (?,?,?,?)
+                        ON DUPLICATE KEY UPDATE `username`=VALUES(`username`), `home_slots`=VALUES(`home_slots`),
+                            `ignoring_requests`=VALUES(`ignoring_requests`);"""),
+                formatStatementTables("""
+                        DELETE FROM `%cooldowns_table%`
+                        WHERE `player_uuid`=? AND `type`=?;"""),
+                formatStatementTables("""
+                        INSERT INTO `%cooldowns_table%` (`player_uuid`, `type`, `start_timestamp`, `end_timestamp`)
+                        VALUES (?,?,?,?);"""),
+                formatStatementTables("""
+                        DELETE FROM `%positions_table%`
+                        WHERE `id` IN (
+                            SELECT `%position_column%`
+                            FROM `%players_table%`
+                            WHERE `uuid`=?
+                        );"""),
+                homeStatements.insertPosition(),
+                formatStatementTables("""
+                        UPDATE `%players_table%`
+                        SET `%position_column%`=?
+                        WHERE `uuid`=?;"""),
+                homeStatements.batchGeneratedKeys()
+        );
+    }
+
     @Override
     public void saveWarp(@NotNull Warp warp) {
         getWarp(warp.getUuid()).ifPresentOrElse(presentWarp -> {
@@ -1123,6 +1464,38 @@ public class MySqlDatabase extends Database {
         });
     }
 
+    @Override
+    public int saveWarps(@NotNull Collection<Warp> warps) throws SQLException {
+        if (warps.isEmpty()) {
+            return 0;
+        }
+        try (Connection connection = getConnection()) {
+            return writeWarps(connection, warps, getBulkWarpStatements());
+        }
+    }
+
+    @NotNull
+    private BulkWarpStatements getBulkWarpStatements() {
+        final BulkHomeStatements homeStatements = getBulkHomeStatements();
+        return new BulkWarpStatements(
+                formatStatementTables("""
+                        DELETE FROM `%positions_table%`
+                        WHERE `id` IN (
+                            SELECT `position_id`
+                            FROM `%saved_positions_table%`
+                            INNER JOIN `%warps_table%`
+                                ON `%warps_table%`.`saved_position_id`=`%saved_positions_table%`.`id`
+                            WHERE `name`=? OR `%warps_table%`.`uuid`=?
+                        );"""),
+                homeStatements.insertPosition(),
+                homeStatements.insertSavedPosition(),
+                formatStatementTables("""
+                        INSERT INTO `%warps_table%` (`uuid`, `saved_position_id`)
+                        VALUES (?,?);"""),
+                homeStatements.batchGeneratedKeys()
+        );
+    }
+
     @Override
     public void deleteHome(@NotNull UUID uuid) {
         try (Connection connection = getConnection()) {
@@ -90,6 +90,10 @@ public interface EventDispatcher {
     IReplyTeleportRequestEvent getReplyTeleportRequestEvent(@NotNull OnlineUser recipient,
                                                             @NotNull TeleportRequest request);
 
+    @NotNull
+    ITeleportRequestExpireEvent getTeleportRequestExpireEvent(@NotNull User recipient,
+                                                              @NotNull TeleportRequest request);
+
     @NotNull
     IHomeCreateEvent getHomeCreateEvent(@NotNull User owner, @NotNull String name, @NotNull Position position,
                                         @NotNull CommandUser creator);
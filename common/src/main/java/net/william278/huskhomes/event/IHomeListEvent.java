@@ -33,6 +33,8 @@ public interface IHomeListEvent extends Cancellable {
     /**
      * Get the list of homes to be displayed.
      *
+     * <p>Where the list is paged from the database, this contains only the homes on the requested page.
+     *
      * @return the list of homes
      */
     @NotNull
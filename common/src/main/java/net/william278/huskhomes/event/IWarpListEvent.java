@@ -33,6 +33,8 @@ public interface IWarpListEvent extends Cancellable {
     /**
      * Get the list of warps to be displayed.
      *
+     * <p>Where the list is paged from the database, this contains only the warps on the requested page.
+     *
      * @return the list of warps
      */
     @NotNull
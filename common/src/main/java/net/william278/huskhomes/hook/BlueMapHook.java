@@ -29,7 +29,6 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.position.Warp;
 import net.william278.huskhomes.position.World;
-import net.william278.huskhomes.user.User;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,6 +39,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
@@ -48,8 +48,8 @@ import java.util.logging.Level;
  */
 public class BlueMapHook extends MapHook {
 
-    private Map<String, MarkerSet> publicHomesMarkerSets;
-    private Map<String, MarkerSet> warpsMarkerSets;
+    private volatile Map<String, MarkerSet> publicHomesMarkerSets;
+    private volatile Map<String, MarkerSet> warpsMarkerSets;
 
     public BlueMapHook(@NotNull HuskHomes plugin) {
         super(plugin, "BlueMap");
@@ -81,80 +81,56 @@ public class BlueMapHook extends MapHook {
     }
 
     @Override
-    public void updateHome(@NotNull Home home) {
-        if (!isValidPosition(home)) {
+    protected void applyHomeMarkers(@NotNull MarkerBatch<Home> batch) {
+        if (publicHomesMarkerSets == null) {
             return;
         }
 
-        this.editPublicHomesMarkerSet(home.getWorld(), (markerSet -> {
-            final String markerId = home.getOwner().getUuid() + ":" + home.getUuid();
-            markerSet.remove(markerId);
-            markerSet.put(markerId, POIMarker.builder()
-                    .label("/phome " + home.getIdentifier())
-                    .position(home.getX(), home.getY(), home.getZ())
-                    .maxDistance(5000)
-                    .icon(getIcon(PUBLIC_HOME_MARKER_IMAGE_NAME), 25, 25)
-                    .build());
-        }));
-    }
-
-    @Override
-    public void removeHome(@NotNull Home home) {
-        this.editPublicHomesMarkerSet(home.getWorld(), markerSet -> markerSet
-                .remove(home.getOwner().getUuid() + ":" + home.getUuid()));
-
-    }
-
-    @Override
-    public void clearHomes(@NotNull User user) {
-        if (publicHomesMarkerSets != null) {
-            publicHomesMarkerSets.values().forEach(markerSet -> markerSet.getMarkers().keySet()
-                    .removeIf(markerId -> markerId.startsWith(user.getUuid().toString())));
+        batch.removed().forEach(home -> getMarkerSet(publicHomesMarkerSets, home.getWorld().getName())
+                .ifPresent(markerSet -> markerSet.remove(getMarkerId(home))));
+        if (batch.updated().isEmpty()) {
+            return;
         }
+        final String icon = getIcon(PUBLIC_HOME_MARKER_IMAGE_NAME);
+        batch.updated().forEach(home -> getMarkerSet(publicHomesMarkerSets, home.getWorld().getName())
+                .ifPresent(markerSet -> markerSet.put(getMarkerId(home), POIMarker.builder()
+                        .label("/phome " + home.getIdentifier())
+                        .position(home.getX(), home.getY(), home.getZ())
+                        .maxDistance(5000)
+                        .icon(icon, 25, 25)
+                        .build())));
     }
 
     @Override
-    public void clearHomes(@NotNull String worldName) {
-        if (publicHomesMarkerSets != null) {
-            publicHomesMarkerSets.get(worldName).getMarkers().clear();
+    protected void applyWarpMarkers(@NotNull MarkerBatch<Warp> batch) {
+        if (warpsMarkerSets == null) {
+            return;
         }
-    }
 
-    @Override
-    public void updateWarp(@NotNull Warp warp) {
-        if (!isValidPosition(warp)) {
+        batch.removed().forEach(warp -> getMarkerSet(warpsMarkerSets, warp.getWorld().getName())
+                .ifPresent(markerSet -> markerSet.remove(warp.getUuid().toString())));
+        if (batch.updated().isEmpty()) {
             return;
         }
-
-        this.editWarpsMarkerSet(warp.getWorld(), (markerSet -> {
-            final String markerId = warp.getUuid().toString();
-            markerSet.remove(markerId);
-            markerSet.put(markerId, POIMarker.builder()
-                    .label("/warp " + warp.getName())
-                    .position(warp.getX(), warp.getY(), warp.getZ())
-                    .maxDistance(5000)
-                    .icon(getIcon(WARP_MARKER_IMAGE_NAME), 25, 25)
-                    .build());
-        }));
+        final String icon = getIcon(WARP_MARKER_IMAGE_NAME);
+        batch.updated().forEach(warp -> getMarkerSet(warpsMarkerSets, warp.getWorld().getName())
+                .ifPresent(markerSet -> markerSet.put(warp.getUuid().toString(), POIMarker.builder()
+                        .label("/warp " + warp.getName())
+                        .position(warp.getX(), warp.getY(), warp.getZ())
+                        .maxDistance(5000)
+                        .icon(icon, 25, 25)
+                        .build())));
     }
 
-    @Override
-    public void removeWarp(@NotNull Warp warp) {
-        editWarpsMarkerSet(warp.getWorld(), markerSet -> markerSet.remove(warp.getUuid().toString()));
+    @NotNull
+    private static String getMarkerId(@NotNull Home home) {
+        return home.getOwner().getUuid() + ":" + home.getUuid();
     }
 
-    @Override
-    public void clearWarps() {
-        if (warpsMarkerSets != null) {
-            warpsMarkerSets.values().forEach(markerSet -> markerSet.getMarkers().clear());
-        }
-    }
-
-    @Override
-    public void clearWarps(@NotNull String worldName) {
-        if (warpsMarkerSets != null) {
-            warpsMarkerSets.get(worldName).getMarkers().clear();
-        }
+    @NotNull
+    private static Optional<MarkerSet> getMarkerSet(@NotNull Map<String, MarkerSet> markerSets,
+                                                    @NotNull String worldName) {
+        return Optional.ofNullable(markerSets.get(worldName));
     }
 
     @Nullable
@@ -182,22 +158,6 @@ public class BlueMapHook extends MapHook {
         }).orElse(null);
     }
 
-    private void editPublicHomesMarkerSet(@NotNull World world, @NotNull ThrowingConsumer<MarkerSet> editor) {
-        editMapWorld(world, (mapWorld -> {
-            if (publicHomesMarkerSets != null) {
-                editor.accept(publicHomesMarkerSets.get(world.getName()));
-            }
-        }));
-    }
-
-    private void editWarpsMarkerSet(@NotNull World world, @NotNull ThrowingConsumer<MarkerSet> editor) {
-        editMapWorld(world, (mapWorld -> {
-            if (warpsMarkerSets != null) {
-                editor.accept(warpsMarkerSets.get(world.getName()));
-            }
-        }));
-    }
-
     private void editMapWorld(@NotNull World world, @NotNull ThrowingConsumer<BlueMapWorld> editor) {
         BlueMapAPI.getInstance().flatMap(api -> api.getWorld(world.getName())).ifPresent(editor);
     }
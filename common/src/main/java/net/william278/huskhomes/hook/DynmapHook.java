@@ -23,7 +23,6 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Settings;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.position.Warp;
-import net.william278.huskhomes.user.User;
 import org.dynmap.DynmapCommonAPI;
 import org.dynmap.DynmapCommonAPIListener;
 import org.dynmap.markers.Marker;
@@ -75,95 +74,57 @@ public class DynmapHook extends MapHook {
         });
     }
 
+    // Dynmap's marker API isn't thread-safe, so each batch is applied in a single sync task
     @Override
-    public void updateHome(@NotNull Home home) {
-        if (!isValidPosition(home)) {
-            return;
-        }
-
-        plugin.runSync(() -> {
-            final String markerId = home.getOwner().getUuid() + ":" + home.getUuid();
-            getPublicHomesMarkerSet().ifPresent(markerSet -> {
-                markerSet.getMarkers().stream()
-                        .filter(marker -> marker.getMarkerID().equals(markerId))
-                        .forEach(Marker::deleteMarker);
+    protected void applyHomeMarkers(@NotNull MarkerBatch<Home> batch) {
+        plugin.runSync(() -> getPublicHomesMarkerSet().ifPresent(markerSet -> {
+            batch.removed().forEach(home -> deleteMarker(markerSet, getMarkerId(home)));
+            if (batch.updated().isEmpty()) {
+                return;
+            }
+            final MarkerIcon icon = getMarkerIcon(PUBLIC_HOME_MARKER_IMAGE_NAME).orElseThrow();
+            batch.updated().forEach(home -> {
+                final String markerId = getMarkerId(home);
+                deleteMarker(markerSet, markerId);
                 markerSet.createMarker(markerId, home.getName(), home.getWorld().getName(),
-                                home.getX(), home.getY(), home.getZ(),
-                                getMarkerIcon(PUBLIC_HOME_MARKER_IMAGE_NAME).orElseThrow(), false)
+                                home.getX(), home.getY(), home.getZ(), icon, false)
                         .setDescription(MarkerInformationPopup.publicHome(
                                 home, ICON_PATH + PUBLIC_HOME_MARKER_IMAGE_NAME
                         ).toHtml());
             });
-        });
+        }));
     }
 
     @Override
-    public void removeHome(@NotNull Home home) {
-        plugin.runSync(() -> {
-            final String markerId = home.getOwner().getUuid() + ":" + home.getUuid();
-            getPublicHomesMarkerSet().ifPresent(markerSet -> markerSet.getMarkers().stream()
-                    .filter(marker -> marker.getMarkerID().equals(markerId))
-                    .forEach(Marker::deleteMarker));
-        });
-    }
-
-    @Override
-    public void clearHomes(@NotNull User user) {
-        plugin.runSync(() -> getPublicHomesMarkerSet().ifPresent(markerSet -> markerSet.getMarkers().stream()
-                .filter(marker -> marker.getMarkerID().startsWith(user.getUuid().toString()))
-                .forEach(Marker::deleteMarker)));
-    }
-
-    @Override
-    public void clearHomes(@NotNull String worldName) {
-        plugin.runSync(() -> getPublicHomesMarkerSet().ifPresent(markerSet -> markerSet.getMarkers().stream()
-                .filter(marker -> marker.getWorld().equals(worldName))
-                .forEach(Marker::deleteMarker)));
-    }
-
-    @Override
-    public void updateWarp(@NotNull Warp warp) {
-        if (!isValidPosition(warp)) {
-            return;
-        }
-
-        plugin.runSync(() -> {
-            final String markerId = warp.getUuid().toString();
-            getWarpsMarkerSet().ifPresent(markerSet -> {
-                markerSet.getMarkers().stream()
-                        .filter(marker -> marker.getMarkerID().equals(markerId))
-                        .forEach(Marker::deleteMarker);
+    protected void applyWarpMarkers(@NotNull MarkerBatch<Warp> batch) {
+        plugin.runSync(() -> getWarpsMarkerSet().ifPresent(markerSet -> {
+            batch.removed().forEach(warp -> deleteMarker(markerSet, warp.getUuid().toString()));
+            if (batch.updated().isEmpty()) {
+                return;
+            }
+            final MarkerIcon icon = getMarkerIcon(WARP_MARKER_IMAGE_NAME).orElseThrow();
+            batch.updated().forEach(warp -> {
+                final String markerId = warp.getUuid().toString();
+                deleteMarker(markerSet, markerId);
                 markerSet.createMarker(markerId, warp.getName(), warp.getWorld().getName(),
-                                warp.getX(), warp.getY(), warp.getZ(),
-                                getMarkerIcon(WARP_MARKER_IMAGE_NAME).orElseThrow(), false)
+                                warp.getX(), warp.getY(), warp.getZ(), icon, false)
                         .setDescription(MarkerInformationPopup.warp(
                                 warp, ICON_PATH + WARP_MARKER_IMAGE_NAME
                         ).toHtml());
             });
-        });
-    }
-
-    @Override
-    public void removeWarp(@NotNull Warp warp) {
-        plugin.runSync(() -> {
-            final String markerId = warp.getUuid().toString();
-            getWarpsMarkerSet().ifPresent(markerSet -> markerSet.getMarkers().stream()
-                    .filter(marker -> marker.getMarkerID().equals(markerId))
-                    .forEach(Marker::deleteMarker));
-        });
+        }));
     }
 
-    @Override
-    public void clearWarps() {
-        plugin.runSync(() -> getWarpsMarkerSet().ifPresent(markerSet -> markerSet.getMarkers()
-                .forEach(Marker::deleteMarker)));
+    @NotNull
+    private static String getMarkerId(@NotNull Home home) {
+        return home.getOwner().getUuid() + ":" + home.getUuid();
     }
 
-    @Override
-    public void clearWarps(@NotNull String worldName) {
-        plugin.runSync(() -> getWarpsMarkerSet().ifPresent(markerSet -> markerSet.getMarkers().stream()
-                .filter(marker -> marker.getWorld().equals(worldName))
-                .forEach(Marker::deleteMarker)));
+    private static void deleteMarker(@NotNull MarkerSet markerSet, @NotNull String markerId) {
+        final Marker marker = markerSet.findMarker(markerId);
+        if (marker != null) {
+            marker.deleteMarker();
+        }
     }
 
     private Optional<DynmapCommonAPI> getDynmap() {
@@ -26,12 +26,20 @@ import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A hook that provides economy features.
  */
 public abstract class EconomyHook extends Hook {
 
+    // How long a balance read from the economy plugin is reused for validating transactions
+    private static final long BALANCE_SNAPSHOT_LIFETIME_MILLIS = 10_000L;
+
+    private final Map<UUID, BalanceSnapshot> balanceSnapshots = new ConcurrentHashMap<>();
+
     protected EconomyHook(@NotNull HuskHomes plugin, @NotNull String hookName) {
         super(plugin, hookName);
     }
@@ -44,6 +52,54 @@ public abstract class EconomyHook extends Hook {
      */
     public abstract double getPlayerBalance(@NotNull OnlineUser player);
 
+    /**
+     * Get the balance of a player, reusing a balance read within the last few seconds if there is one.
+     *
+     * <p>Used to validate transactions without querying the economy plugin once per action. Snapshots are
+     * discarded when HuskHomes changes the player's balance; changes made by other plugins may not be reflected
+     * until the snapshot expires.
+     *
+     * @param player the player to get the balance of
+     * @return the balance of the player
+     * @since 4.8
+     */
+    public final double getBalanceSnapshot(@NotNull OnlineUser player) {
+        return getBalanceSnapshot(player, 0L);
+    }
+
+    /**
+     * Get the balance of a player, reusing a balance read within the last few seconds if there is one that was read
+     * at or after a point in time, such as the start of the teleport it is being read for.
+     *
+     * @param player    the player to get the balance of
+     * @param notBefore the earliest time, in epoch milliseconds, a reused balance may have been read at
+     * @return the balance of the player
+     * @since 4.8
+     */
+    public final double getBalanceSnapshot(@NotNull OnlineUser player, long notBefore) {
+        final long now = System.currentTimeMillis();
+        final BalanceSnapshot snapshot = balanceSnapshots.get(player.getUuid());
+        if (snapshot != null && snapshot.takenAt() >= notBefore
+                && now - snapshot.takenAt() < BALANCE_SNAPSHOT_LIFETIME_MILLIS) {
+            return snapshot.balance();
+        }
+
+        final double balance = getPlayerBalance(player);
+        balanceSnapshots.values().removeIf(expired -> now - expired.takenAt() >= BALANCE_SNAPSHOT_LIFETIME_MILLIS);
+        balanceSnapshots.put(player.getUuid(), new BalanceSnapshot(balance, now));
+        return balance;
+    }
+
+    /**
+     * Discard the balance snapshot of a player, such as after their balance has been changed.
+     *
+     * @param player the player
+     * @since 4.8
+     */
+    public final void invalidateBalanceSnapshot(@NotNull OnlineUser player) {
+        balanceSnapshots.remove(player.getUuid());
+    }
+
     /**
      * Set the balance of a player.
      *
@@ -144,4 +200,7 @@ public abstract class EconomyHook extends Hook {
 
     }
 
+    private record BalanceSnapshot(double balance, long takenAt) {
+    }
+
 }
@@ -29,8 +29,12 @@ import org.apache.commons.text.StringEscapeUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
 
 /**
  * A hook for a mapping plugin, such as Dynmap.
@@ -40,25 +44,38 @@ public abstract class MapHook extends Hook {
     protected static final String WARP_MARKER_IMAGE_NAME = "warp";
     protected static final String PUBLIC_HOME_MARKER_IMAGE_NAME = "public-home";
 
+    protected static final int MARKER_BATCH_SIZE = 500;
+    private static final long MARKER_FLUSH_DELAY_TICKS = 10;
+
+    private final MarkerIndex<Home> homeMarkers = new MarkerIndex<>(home -> home.getOwner().getUuid());
+    private final MarkerIndex<Warp> warpMarkers = new MarkerIndex<>(null);
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Object flushLock = new Object();
+    private volatile boolean ready;
+
     protected MapHook(@NotNull HuskHomes plugin, @NotNull String name) {
         super(plugin, name);
     }
 
     /**
-     * Populate the map with public homes and warps.
+     * Populate the map with public homes and warps, replacing any markers previously tracked.
+     *
+     * <p>Call this once the map plugin's marker sets are ready, and again whenever they are recreated. Marker changes
+     * are held until the first population, which reads the current state from the database. Changes made while the
+     * database is being read are applied on top of what was read.
      */
     protected void populateMap() {
-        final Settings.MapHookSettings settings = plugin.getSettings().getMapHook();
-        if (settings.isShowPublicHomes()) {
-            plugin.getDatabase()
-                    .getLocalPublicHomes(plugin)
-                    .forEach(this::updateHome);
-        }
-        if (settings.isShowWarps()) {
-            plugin.getDatabase()
-                    .getLocalWarps(plugin)
-                    .forEach(this::updateWarp);
-        }
+        homeMarkers.beginReset();
+        warpMarkers.beginReset();
+        plugin.runAsync(() -> {
+            final Settings.MapHookSettings settings = plugin.getSettings().getMapHook();
+            homeMarkers.finishReset(settings.isShowPublicHomes() ? plugin.getDatabase().getLocalPublicHomes(plugin)
+                    .stream().filter(this::isValidPosition).toList() : List.of());
+            warpMarkers.finishReset(settings.isShowWarps() ? plugin.getDatabase().getLocalWarps(plugin)
+                    .stream().filter(this::isValidPosition).toList() : List.of());
+            this.ready = true;
+            this.flushMarkers();
+        });
     }
 
     /**
@@ -66,54 +83,143 @@ public abstract class MapHook extends Hook {
      *
      * @param home the home to update
      */
-    public abstract void updateHome(@NotNull Home home);
+    public final void updateHome(@NotNull Home home) {
+        if (isValidPosition(home)) {
+            homeMarkers.put(home.copy());
+        } else {
+            homeMarkers.remove(home.getUuid());
+        }
+        scheduleFlush();
+    }
 
     /**
      * Removes a home from the map.
      *
      * @param home the home to remove
      */
-    public abstract void removeHome(@NotNull Home home);
+    public final void removeHome(@NotNull Home home) {
+        homeMarkers.remove(home.getUuid());
+        scheduleFlush();
+    }
 
     /**
      * Clears homes owned by a player from the map.
      *
      * @param user the player whose homes to clear
      */
-    public abstract void clearHomes(@NotNull User user);
+    public final void clearHomes(@NotNull User user) {
+        homeMarkers.removeOwner(user.getUuid());
+        scheduleFlush();
+    }
 
     /**
      * Clears homes on a world from the map.
      *
      * @param worldName the world to clear homes from
      */
-    public abstract void clearHomes(@NotNull String worldName);
+    public final void clearHomes(@NotNull String worldName) {
+        homeMarkers.removeWorld(worldName);
+        scheduleFlush();
+    }
 
     /**
      * Update a warp, adding it to the map if it exists, or updating it on the map if it doesn't.
      *
      * @param warp the warp to update
      */
-    public abstract void updateWarp(@NotNull Warp warp);
+    public final void updateWarp(@NotNull Warp warp) {
+        if (isValidPosition(warp)) {
+            warpMarkers.put(warp.copy());
+        } else {
+            warpMarkers.remove(warp.getUuid());
+        }
+        scheduleFlush();
+    }
 
     /**
      * Removes a warp from the map.
      *
      * @param warp the warp to remove
      */
-    public abstract void removeWarp(@NotNull Warp warp);
+    public final void removeWarp(@NotNull Warp warp) {
+        warpMarkers.remove(warp.getUuid());
+        scheduleFlush();
+    }
 
     /**
      * Clears all warps from the map.
      */
-    public abstract void clearWarps();
+    public final void clearWarps() {
+        warpMarkers.clear();
+        scheduleFlush();
+    }
 
     /**
      * Clears all warps from a world from the map.
      *
      * @param worldName the world to clear warps from
      */
-    public abstract void clearWarps(@NotNull String worldName);
+    public final void clearWarps(@NotNull String worldName) {
+        warpMarkers.removeWorld(worldName);
+        scheduleFlush();
+    }
+
+    /**
+     * Apply a batch of public home marker changes to the map. Called off the main thread, in order, with at most
+     * {@link #MARKER_BATCH_SIZE} changes per batch.
+     *
+     * @param batch the homes to create or update markers for, and those whose markers to remove
+     */
+    protected abstract void applyHomeMarkers(@NotNull MarkerBatch<Home> batch);
+
+    /**
+     * Apply a batch of warp marker changes to the map. Called off the main thread, in order, with at most
+     * {@link #MARKER_BATCH_SIZE} changes per batch.
+     *
+     * @param batch the warps to create or update markers for, and those whose markers to remove
+     */
+    protected abstract void applyWarpMarkers(@NotNull MarkerBatch<Warp> batch);
+
+    /**
+     * Get the public homes that should currently be marked on a world.
+     *
+     * @param worldName the world name
+     * @return the public homes on the world
+     */
+    @NotNull
+    protected final List<Home> getHomeMarkers(@NotNull String worldName) {
+        return homeMarkers.getOnWorld(worldName);
+    }
+
+    /**
+     * Get the warps that should currently be marked on a world.
+     *
+     * @param worldName the world name
+     * @return the warps on the world
+     */
+    @NotNull
+    protected final List<Warp> getWarpMarkers(@NotNull String worldName) {
+        return warpMarkers.getOnWorld(worldName);
+    }
+
+    // Debounce marker changes, so a burst of edits (or a bulk delete) is diffed and applied as one flush
+    private void scheduleFlush() {
+        if (ready && flushScheduled.compareAndSet(false, true)) {
+            plugin.runAsyncDelayed(this::flushMarkers, MARKER_FLUSH_DELAY_TICKS);
+        }
+    }
+
+    private void flushMarkers() {
+        flushScheduled.set(false);
+        synchronized (flushLock) {
+            try {
+                homeMarkers.drain().partition(MARKER_BATCH_SIZE).forEach(this::applyHomeMarkers);
+                warpMarkers.drain().partition(MARKER_BATCH_SIZE).forEach(this::applyWarpMarkers);
+            } catch (Throwable e) {
+                plugin.log(Level.WARNING, "Failed to update " + getName() + " markers", e);
+            }
+        }
+    }
 
     /**
      * Returns if the position is valid to be set on this server.
@@ -157,6 +263,37 @@ public abstract class MapHook extends Hook {
                 .orElse("Warps");
     }
 
+    /**
+     * A set of marker changes to apply to the map.
+     *
+     * @param updated the positions to create or replace markers for
+     * @param removed the positions whose markers to remove
+     * @param <T>     the type of position
+     */
+    public record MarkerBatch<T extends SavedPosition>(@NotNull List<T> updated, @NotNull List<T> removed) {
+
+        /**
+         * Split this batch into batches of at most {@code size} changes, removals first.
+         *
+         * @param size the maximum number of changes per batch
+         * @return the batches, empty if there are no changes
+         */
+        @NotNull
+        public List<MarkerBatch<T>> partition(int size) {
+            final List<MarkerBatch<T>> batches = new ArrayList<>();
+            for (int start = 0; start < removed.size(); start += size) {
+                final int end = Math.min(start + size, removed.size());
+                batches.add(new MarkerBatch<>(List.of(), removed.subList(start, end)));
+            }
+            for (int start = 0; start < updated.size(); start += size) {
+                final int end = Math.min(start + size, updated.size());
+                batches.add(new MarkerBatch<>(updated.subList(start, end), List.of()));
+            }
+            return batches;
+        }
+
+    }
+
     /**
      * Creates an HTML Dynmap marker information popup widget.
      */
@@ -0,0 +1,200 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.hook;
+
+import net.william278.huskhomes.position.SavedPosition;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Tracks the markers a {@link MapHook} should display against those it has already pushed to the map, indexed by
+ * world and (optionally) owner, so that changes can be diffed and applied in batches.
+ *
+ * <p>Positions are mutable, so callers should only put copies that won't be edited in place. All methods are
+ * synchronized; the index is small relative to the cost of the map plugin calls it saves.
+ *
+ * @param <T> the type of position being marked
+ */
+final class MarkerIndex<T extends SavedPosition> {
+
+    private final Map<UUID, T> desired = new HashMap<>();
+    private final Map<UUID, T> applied = new HashMap<>();
+    private final Map<String, Set<UUID>> byWorld = new HashMap<>();
+    private final Map<UUID, Set<UUID>> byOwner = new HashMap<>();
+    private final Set<UUID> dirty = new LinkedHashSet<>();
+    @Nullable
+    private final Function<T, UUID> ownerKey;
+    @Nullable
+    private List<Runnable> pending;
+
+    MarkerIndex(@Nullable Function<T, UUID> ownerKey) {
+        this.ownerKey = ownerKey;
+    }
+
+    synchronized void put(@NotNull T position) {
+        if (defer(() -> put(position))) {
+            return;
+        }
+        unIndex(desired.put(position.getUuid(), position));
+        byWorld.computeIfAbsent(position.getWorld().getName(), k -> new HashSet<>()).add(position.getUuid());
+        if (ownerKey != null) {
+            byOwner.computeIfAbsent(ownerKey.apply(position), k -> new HashSet<>()).add(position.getUuid());
+        }
+        dirty.add(position.getUuid());
+    }
+
+    synchronized void remove(@NotNull UUID id) {
+        if (defer(() -> remove(id))) {
+            return;
+        }
+        unIndex(desired.remove(id));
+        dirty.add(id);
+    }
+
+    synchronized void removeOwner(@NotNull UUID owner) {
+        if (defer(() -> removeOwner(owner))) {
+            return;
+        }
+        List.copyOf(byOwner.getOrDefault(owner, Set.of())).forEach(this::remove);
+    }
+
+    synchronized void removeWorld(@NotNull String worldName) {
+        if (defer(() -> removeWorld(worldName))) {
+            return;
+        }
+        List.copyOf(byWorld.getOrDefault(worldName, Set.of())).forEach(this::remove);
+    }
+
+    synchronized void clear() {
+        if (defer(this::clear)) {
+            return;
+        }
+        List.copyOf(desired.keySet()).forEach(this::remove);
+    }
+
+    /**
+     * Begin replacing the desired markers, before the positions to replace them with are read. Changes made until the
+     * reset is {@link #finishReset(Collection) finished} are queued, and applied on top of the positions read.
+     */
+    synchronized void beginReset() {
+        if (pending == null) {
+            pending = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Replace the desired markers wholesale and forget what has been applied, for when the map's marker sets have
+     * been (re)created empty and everything must be pushed again, then apply the changes queued since the reset
+     * {@link #beginReset() began}.
+     *
+     * @param positions the positions that should be marked
+     */
+    synchronized void finishReset(@NotNull Collection<T> positions) {
+        final List<Runnable> queued = pending != null ? pending : List.of();
+        pending = null;
+        desired.clear();
+        applied.clear();
+        byWorld.clear();
+        byOwner.clear();
+        dirty.clear();
+        positions.forEach(this::put);
+        queued.forEach(Runnable::run);
+    }
+
+    /**
+     * Diff the desired markers against the applied ones for everything changed since the last drain, and record the
+     * result as applied.
+     *
+     * @return the markers to create or update, and the markers to remove
+     */
+    @NotNull
+    synchronized MapHook.MarkerBatch<T> drain() {
+        final List<T> updated = new ArrayList<>();
+        final List<T> removed = new ArrayList<>();
+        for (UUID id : dirty) {
+            final T want = desired.get(id);
+            final T have = applied.get(id);
+            if (want != null) {
+                if (have == null || !isUnchanged(have, want)) {
+                    updated.add(want);
+                    applied.put(id, want);
+                }
+            } else if (have != null) {
+                removed.add(have);
+                applied.remove(id);
+            }
+        }
+        dirty.clear();
+        return new MapHook.MarkerBatch<>(updated, removed);
+    }
+
+    @NotNull
+    synchronized List<T> getOnWorld(@NotNull String worldName) {
+        return byWorld.getOrDefault(worldName, Set.of()).stream().map(desired::get).toList();
+    }
+
+    // Queue a change to apply once a reset has finished, if one is in progress
+    private boolean defer(@NotNull Runnable change) {
+        if (pending == null) {
+            return false;
+        }
+        pending.add(change);
+        return true;
+    }
+
+    private void unIndex(@Nullable T position) {
+        if (position == null) {
+            return;
+        }
+        final Set<UUID> world = byWorld.get(position.getWorld().getName());
+        if (world != null && world.remove(position.getUuid()) && world.isEmpty()) {
+            byWorld.remove(position.getWorld().getName());
+        }
+        if (ownerKey != null) {
+            final Set<UUID> owned = byOwner.get(ownerKey.apply(position));
+            if (owned != null && owned.remove(position.getUuid()) && owned.isEmpty()) {
+                byOwner.remove(ownerKey.apply(position));
+            }
+        }
+    }
+
+    // Whether the marker already on the map still represents the position
+    private static boolean isUnchanged(@NotNull SavedPosition have, @NotNull SavedPosition want) {
+        return have.getX() == want.getX() && have.getY() == want.getY()
+                && have.getZ() == want.getZ()
+                && have.getWorld().getName().equals(want.getWorld().getName())
+                && have.getIdentifier().equals(want.getIdentifier())
+                && Objects.equals(have.getMeta().getDescription(), want.getMeta().getDescription());
+    }
+
+}
@@ -40,17 +40,17 @@ import net.william278.huskhomes.config.Settings;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.position.SavedPosition;
 import net.william278.huskhomes.position.Warp;
-import net.william278.huskhomes.user.User;
 import org.jetbrains.annotations.NotNull;
 
 import javax.imageio.ImageIO;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
-import java.util.stream.Collectors;
 
 @SuppressWarnings("unused")
 public class Pl3xMapHook extends MapHook implements EventListener {
@@ -58,8 +58,8 @@ public class Pl3xMapHook extends MapHook implements EventListener {
     private static final String ICON_PATH = "/images/icon/registered/";
     private static final String WARPS_LAYER = "warp_markers";
     private static final String PUBLIC_HOMES_LAYER = "public_home_markers";
-    private final ConcurrentLinkedQueue<Home> publicHomes = new ConcurrentLinkedQueue<>();
-    private final ConcurrentLinkedQueue<Warp> warps = new ConcurrentLinkedQueue<>();
+    private final Map<String, Map<UUID, Marker<?>>> publicHomeMarkers = new ConcurrentHashMap<>();
+    private final Map<String, Map<UUID, Marker<?>>> warpMarkers = new ConcurrentHashMap<>();
 
     public Pl3xMapHook(@NotNull HuskHomes plugin) {
         super(plugin, "Pl3xMap");
@@ -73,50 +73,38 @@ public class Pl3xMapHook extends MapHook implements EventListener {
         }
     }
 
+    // Layers are polled by Pl3xMap, so batches just keep the built markers for each world up to date
     @Override
-    public void updateHome(@NotNull Home home) {
-        publicHomes.remove(home);
-        if (isValidPosition(home)) {
-            publicHomes.add(home);
-        }
-    }
-
-    @Override
-    public void removeHome(@NotNull Home home) {
-        publicHomes.remove(home);
-    }
-
-    @Override
-    public void clearHomes(@NotNull User user) {
-        publicHomes.removeIf(home -> home.getOwner().equals(user));
+    protected void applyHomeMarkers(@NotNull MarkerBatch<Home> batch) {
+        batch.removed().forEach(home -> getWorldMarkers(publicHomeMarkers, home).remove(home.getUuid()));
+        batch.updated().forEach(home -> getWorldMarkers(publicHomeMarkers, home).put(home.getUuid(), Marker.icon(
+                plugin.getKey("public_home_" + home.getUuid()).asString(),
+                Point.of(home.getX(), home.getZ()),
+                PUBLIC_HOMES_LAYER
+        ).setOptions(getMarkerOptions(home))));
     }
 
     @Override
-    public void clearHomes(@NotNull String worldName) {
-        publicHomes.removeIf(home -> home.getWorld().getName().equals(worldName));
+    protected void applyWarpMarkers(@NotNull MarkerBatch<Warp> batch) {
+        batch.removed().forEach(warp -> getWorldMarkers(warpMarkers, warp).remove(warp.getUuid()));
+        batch.updated().forEach(warp -> getWorldMarkers(warpMarkers, warp).put(warp.getUuid(), Icon.of(
+                plugin.getKey("warp_" + warp.getUuid()).asString(),
+                Point.of(warp.getX(), warp.getZ()),
+                WARPS_LAYER
+        ).setOptions(getMarkerOptions(warp))));
     }
 
-    @Override
-    public void updateWarp(@NotNull Warp warp) {
-        warps.remove(warp);
-        if (isValidPosition(warp)) {
-            warps.add(warp);
-        }
-    }
-
-    @Override
-    public void removeWarp(@NotNull Warp warp) {
-        warps.remove(warp);
-    }
-
-    @Override
-    public void clearWarps() {
-        warps.clear();
+    @NotNull
+    private static Map<UUID, Marker<?>> getWorldMarkers(@NotNull Map<String, Map<UUID, Marker<?>>> markers,
+                                                        @NotNull SavedPosition position) {
+        return markers.computeIfAbsent(position.getWorld().getName(), k -> new ConcurrentHashMap<>());
     }
 
-    @Override
-    public void clearWarps(@NotNull String worldName) {
-        warps.removeIf(warp -> warp.getWorld().getName().equals(worldName));
+    @NotNull
+    private static Collection<Marker<?>> getMarkers(@NotNull Map<String, Map<UUID, Marker<?>>> markers,
+                                                    @NotNull World mapWorld) {
+        final Map<UUID, Marker<?>> worldMarkers = markers.get(mapWorld.getName());
+        return worldMarkers == null ? List.of() : List.copyOf(worldMarkers.values());
     }
 
     private void registerIcon(@NotNull String key, @NotNull String iconFileName) {
@@ -158,10 +146,9 @@ public class Pl3xMapHook extends MapHook implements EventListener {
         Pl3xMap.api().getWorldRegistry().forEach(this::registerLayers);
 
         // Update home positions
-        plugin.runAsync(() -> {
-            plugin.getDatabase().getLocalPublicHomes(plugin).forEach(this::updateHome);
-            plugin.getDatabase().getLocalWarps(plugin).forEach(this::updateWarp);
-        });
+        publicHomeMarkers.clear();
+        warpMarkers.clear();
+        this.populateMap();
     }
 
     @EventHandler
@@ -209,14 +196,7 @@ public class Pl3xMapHook extends MapHook implements EventListener {
         @Override
         @NotNull
         public Collection<Marker<?>> getMarkers() {
-            return hook.warps.stream()
-                    .filter(warp -> warp.getWorld().getName().equals(mapWorld.getName()))
-                    .map(warp -> Icon.of(
-                            hook.plugin.getKey("warp_" + warp.getUuid()).asString(),
-                            Point.of(warp.getX(), warp.getZ()),
-                            WARPS_LAYER
-                    ).setOptions(hook.getMarkerOptions(warp)))
-                    .collect(Collectors.toCollection(LinkedList::new));
+            return Pl3xMapHook.getMarkers(hook.warpMarkers, mapWorld);
         }
 
     }
@@ -235,14 +215,7 @@ public class Pl3xMapHook extends MapHook implements EventListener {
         @Override
         @NotNull
         public Collection<Marker<?>> getMarkers() {
-            return hook.publicHomes.stream()
-                    .filter(home -> home.getWorld().getName().equals(mapWorld.getName()))
-                    .map(home -> Marker.icon(
-                            hook.plugin.getKey("public_home_" + home.getUuid()).asString(),
-                            Point.of(home.getX(), home.getZ()),
-                            PUBLIC_HOMES_LAYER
-                    ).setOptions(hook.getMarkerOptions(home)))
-                    .collect(Collectors.toCollection(LinkedList::new));
+            return Pl3xMapHook.getMarkers(hook.publicHomeMarkers, mapWorld);
         }
 
     }
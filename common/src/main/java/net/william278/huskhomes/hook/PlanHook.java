@@ -30,12 +30,12 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import net.william278.huskhomes.HuskHomes;
-import net.william278.huskhomes.database.Database;
-import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.manager.HomesManager;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.user.SavedUser;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Optional;
 import java.util.UUID;
 import java.util.logging.Level;
 
@@ -68,7 +68,7 @@ public class PlanHook extends Hook {
 
     private void registerDataExtension() {
         try {
-            ExtensionService.getInstance().register(new PlanDataExtension(plugin.getDatabase()));
+            ExtensionService.getInstance().register(new PlanDataExtension(plugin));
         } catch (IllegalStateException | IllegalArgumentException e) {
             plugin.log(Level.SEVERE, "Failed to register HuskHomes Plan extension", e);
         }
@@ -95,7 +95,7 @@ public class PlanHook extends Hook {
     protected static class PlanDataExtension implements DataExtension {
 
         private static final String UNKNOWN_STRING = "N/A";
-        private Database database;
+        private HuskHomes plugin;
 
         @Override
         public CallEvents[] callExtensionMethodsOn() {
@@ -114,7 +114,7 @@ public class PlanHook extends Hook {
                 hidden = true
         )
         public boolean getHasUserData(@NotNull UUID uuid) {
-            return database.getUserData(uuid).isPresent();
+            return getSavedUser(uuid).isPresent();
         }
 
         @NumberProvider(
@@ -126,8 +126,10 @@ public class PlanHook extends Hook {
         )
         @Conditional("hasData")
         public long getHomeCount(@NotNull UUID uuid) {
-            return database.getUserData(uuid)
-                    .map(userData -> (long) database.getHomes(userData.getUser()).size())
+            return getSavedUser(uuid)
+                    .map(userData -> (long) plugin.getManager().homes().findUserHomeSummary(userData.getUser())
+                            .map(HomesManager.HomeSummary::count)
+                            .orElseGet(() -> plugin.getDatabase().getHomeCounts(uuid).total()))
                     .orElse(0L);
         }
 
@@ -140,9 +142,11 @@ public class PlanHook extends Hook {
         )
         @Conditional("hasData")
         public long getPublicHomeCount(@NotNull UUID uuid) {
-            return database.getUserData(uuid)
-                    .map(userData -> database.getHomes(userData.getUser()).stream()
-                            .filter(Home::isPublic).count())
+            final HomesManager homes = plugin.getManager().homes();
+            return getSavedUser(uuid)
+                    .map(userData -> (long) (homes.findUserHomeSummary(userData.getUser()).isPresent()
+                            ? homes.getPublicHomeSummary(userData.getUser()).count()
+                            : plugin.getDatabase().getHomeCounts(uuid).publicHomes()))
                     .orElse(0L);
         }
 
@@ -155,7 +159,7 @@ public class PlanHook extends Hook {
         )
         @Conditional("hasData")
         public long getPurchasedHomeSlots(@NotNull UUID uuid) {
-            return database.getUserData(uuid)
+            return getSavedUser(uuid)
                     .map(userData -> (long) userData.getHomeSlots())
                     .orElse(0L);
         }
@@ -169,7 +173,7 @@ public class PlanHook extends Hook {
         )
         @Conditional("hasData")
         public boolean isIgnoringTeleportRequests(@NotNull UUID uuid) {
-            return database.getUserData(uuid)
+            return getSavedUser(uuid)
                     .map(SavedUser::isIgnoringTeleports)
                     .orElse(false);
         }
@@ -183,12 +187,21 @@ public class PlanHook extends Hook {
         )
         @Conditional("hasData")
         public String getOfflinePosition(@NotNull UUID uuid) {
-            return database.getUserData(uuid)
-                    .map(userData -> database.getOfflinePosition(userData.getUser())
+            return getSavedUser(uuid)
+                    .map(userData -> plugin.getDatabase().getOfflinePosition(userData.getUser())
                             .map(Position::toString)
                             .orElse(UNKNOWN_STRING))
                     .orElse(UNKNOWN_STRING);
         }
 
+        // Online users' data is already in memory; only query the database for offline users
+        @NotNull
+        private Optional<SavedUser> getSavedUser(@NotNull UUID uuid) {
+            return plugin.getSavedUsers().stream()
+                    .filter(savedUser -> savedUser.getUser().getUuid().equals(uuid))
+                    .findFirst()
+                    .or(() -> plugin.getDatabase().getUserData(uuid));
+        }
+
     }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.importer;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.database.Database;
+import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.user.CommandUser;
+import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.SavedUser;
+import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.user.UserSession;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Exports the data on the database to a {@link DataArchive}, which can be imported with {@link ArchiveImporter}.
+ *
+ * <p>Users and warps are read from the database a page at a time and streamed to the archive, so exports of any size
+ * are made in bounded memory.
+ *
+ * @since 4.8
+ */
+public class ArchiveExporter {
+
+    private static final int PAGE_SIZE = 500;
+    private static final long PROGRESS_INTERVAL_MILLIS = 5000;
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    private final HuskHomes plugin;
+    private long lastProgressLog;
+
+    public ArchiveExporter(@NotNull HuskHomes plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Export all data to a new archive in the {@link DataArchive#getDirectory(HuskHomes) archive directory}.
+     *
+     * @param user the user who started the export, who will be sent progress messages
+     * @return the exported archive file, if the export succeeded
+     */
+    @NotNull
+    public Optional<Path> start(@NotNull CommandUser user) {
+        final LocalDateTime startTime = LocalDateTime.now();
+        final Path directory = DataArchive.getDirectory(plugin);
+        final String fileName = "export_" + FILE_NAME_FORMAT.format(startTime) + DataArchive.FILE_EXTENSION;
+        final Path file = directory.resolve(fileName);
+        log(user, Level.INFO, "⌚ Starting data export to " + fileName + "...");
+
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, "export", ".tmp");
+            final int users;
+            final int warps;
+            try (DataArchive.Writer writer = DataArchive.Writer.open(temporary)) {
+                users = exportUsers(user, writer);
+                warps = exportWarps(writer);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+
+            final long timeTaken = startTime.until(LocalDateTime.now(), ChronoUnit.SECONDS);
+            log(user, Level.INFO, "✔ Exported " + users + " users and " + warps + " warps to " + fileName
+                    + " (took " + timeTaken + "s)");
+            return Optional.of(file);
+        } catch (Throwable e) {
+            log(user, Level.WARNING, "❌ Failed to export data: " + e.getMessage(), e);
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                    // The partial export will be left in the archive directory
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private int exportUsers(@NotNull CommandUser user, @NotNull DataArchive.Writer writer) throws IOException {
+        final Database database = plugin.getDatabase();
+        int exported = 0;
+        UUID after = null;
+        List<SavedUser> page;
+        do {
+            page = database.getUsers(after, PAGE_SIZE);
+            for (SavedUser savedUser : page) {
+                final User pageUser = savedUser.getUser();
+                final UserSession session = database.loadSession(pageUser);
+                writer.writeUser(new DataArchive.UserEntry(
+                        savedUser, session.getHomes(), database.getCooldowns(pageUser),
+                        database.getLastPosition(pageUser).orElse(null),
+                        database.getOfflinePosition(pageUser).orElse(null),
+                        database.getRespawnPosition(pageUser).orElse(null)
+                ));
+                after = savedUser.getUserUuid();
+            }
+            exported += page.size();
+            logProgress(user, exported);
+        } while (page.size() == PAGE_SIZE);
+        return exported;
+    }
+
+    private int exportWarps(@NotNull DataArchive.Writer writer) throws IOException {
+        final Database database = plugin.getDatabase();
+        int exported = 0;
+        Database.PageCursor after = null;
+        List<Warp> page;
+        do {
+            page = database.getWarps(after, 0, PAGE_SIZE);
+            for (Warp warp : page) {
+                writer.writeWarp(warp);
+                after = Database.PageCursor.of(warp);
+            }
+            exported += page.size();
+        } while (page.size() == PAGE_SIZE);
+        return exported;
+    }
+
+    private void logProgress(@NotNull CommandUser user, int users) {
+        final long now = System.currentTimeMillis();
+        if (now - lastProgressLog < PROGRESS_INTERVAL_MILLIS) {
+            return;
+        }
+        lastProgressLog = now;
+        log(user, Level.INFO, "⌚ Exporting users... " + users + " so far");
+    }
+
+    private void log(@NotNull CommandUser user, @NotNull Level level, @NotNull String message,
+                     @NotNull Throwable... e) {
+        message = "[Exporter] " + message;
+        if (user instanceof OnlineUser online) {
+            final TextColor color = level == Level.SEVERE || level == Level.WARNING
+                    ? TextColor.color(0xff3300)
+                    : TextColor.color(0xC3C3C3);
+            online.sendMessage(Component.text(message, color));
+        }
+        plugin.log(level, message, e);
+    }
+
+}
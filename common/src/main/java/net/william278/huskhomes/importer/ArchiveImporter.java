@@ -0,0 +1,216 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.importer;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.database.Database;
+import net.william278.huskhomes.position.Home;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Imports data from a HuskHomes {@link DataArchive}, such as one exported by {@link ArchiveExporter}.
+ *
+ * <p>The archive is streamed once for each type of data, and rows are written in batches by several loaders in
+ * parallel, so only a few batches are held in memory at once.
+ *
+ * @since 4.8
+ */
+public class ArchiveImporter extends Importer {
+
+    private static final int USER_BATCH_SIZE = 500;
+    private static final int HOME_BATCH_SIZE = 1000;
+    private static final int WARP_BATCH_SIZE = 100;
+    private static final int MAX_LOADERS = 4;
+
+    private final Path file;
+
+    public ArchiveImporter(@NotNull Path file, @NotNull HuskHomes plugin) {
+        super("Archive", List.of(ImportData.USERS, ImportData.HOMES, ImportData.WARPS), plugin);
+        this.file = file;
+    }
+
+    @Override
+    protected int importData(@NotNull ImportData importData) throws Throwable {
+        return switch (importData) {
+            case USERS -> importUsers();
+            case HOMES -> importHomes();
+            case WARPS -> importWarps();
+        };
+    }
+
+    private int importUsers() throws Throwable {
+        return load(ImportData.USERS, USER_BATCH_SIZE, DataArchive.Reader::forEachUser,
+                plugin.getDatabase()::saveUsers);
+    }
+
+    private int importHomes() throws Throwable {
+        final Database database = plugin.getDatabase();
+        final Loader loader = new Loader();
+        final AtomicInteger homes = new AtomicInteger();
+        final List<Home> batch = new ArrayList<>(HOME_BATCH_SIZE);
+        try (DataArchive.Reader reader = DataArchive.Reader.open(file)) {
+            reader.forEachUser(entry -> {
+                // Keep each owner's homes in one batch, so parallel loaders never write homes of the same owner
+                if (!batch.isEmpty() && batch.size() + entry.homes().size() > HOME_BATCH_SIZE) {
+                    loader.submit(ImportData.HOMES, batch, homes, database::saveHomes);
+                    batch.clear();
+                }
+                batch.addAll(entry.homes());
+            });
+            if (!batch.isEmpty()) {
+                loader.submit(ImportData.HOMES, batch, homes, database::saveHomes);
+            }
+        } finally {
+            loader.await();
+        }
+
+        plugin.getManager().homes().reloadHomeCaches();
+        return homes.get();
+    }
+
+    private int importWarps() throws Throwable {
+        final int warps = load(ImportData.WARPS, WARP_BATCH_SIZE, DataArchive.Reader::forEachWarp,
+                plugin.getDatabase()::saveWarps);
+        plugin.getManager().warps().updateWarpCache();
+        return warps;
+    }
+
+    // Stream entries from the archive, writing them in batches on parallel loaders
+    private <T> int load(@NotNull ImportData data, int batchSize, @NotNull ArchiveStream<T> stream,
+                         @NotNull BatchWriter<T> writer) throws Throwable {
+        final Loader loader = new Loader();
+        final AtomicInteger loaded = new AtomicInteger();
+        final List<T> batch = new ArrayList<>(batchSize);
+        try (DataArchive.Reader reader = DataArchive.Reader.open(file)) {
+            stream.forEach(reader, entry -> {
+                batch.add(entry);
+                if (batch.size() >= batchSize) {
+                    loader.submit(data, batch, loaded, writer);
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                loader.submit(data, batch, loaded, writer);
+            }
+        } finally {
+            loader.await();
+        }
+        return loaded.get();
+    }
+
+    @NotNull
+    public Path getFile() {
+        return file;
+    }
+
+    @FunctionalInterface
+    private interface ArchiveStream<T> {
+        void forEach(@NotNull DataArchive.Reader reader, @NotNull Consumer<T> consumer) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface BatchWriter<T> {
+        int write(@NotNull List<T> batch) throws SQLException;
+    }
+
+    /**
+     * Runs batches of writes in parallel, blocking the reader while every loader is busy so that memory stays
+     * bounded. SQLite databases share a single connection, so they are written to by one loader at a time.
+     *
+     * <p>Loaders run on their own threads rather than the plugin's async pool, which is small on some platforms and
+     * would otherwise be occupied by the import until it finishes.
+     */
+    private final class Loader {
+
+        private final int loaders;
+        private final Semaphore permits;
+        private final ExecutorService executor;
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private Loader() {
+            final Database.Type type = plugin.getSettings().getDatabase().getType();
+            this.loaders = type == Database.Type.SQLITE ? 1 : Math.max(1, Math.min(MAX_LOADERS,
+                    plugin.getSettings().getDatabase().getPoolOptions().getSize() / 2));
+            this.permits = new Semaphore(loaders);
+            this.executor = Executors.newFixedThreadPool(loaders, runnable -> {
+                final Thread thread = new Thread(runnable, "huskhomes:archive_loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        // Write a copy of a batch on the next free loader, counting the rows written. A failed batch is rolled back
+        // and fails the import
+        private <T> void submit(@NotNull ImportData data, @NotNull List<T> entries, @NotNull AtomicInteger counter,
+                                @NotNull BatchWriter<T> writer) {
+            final List<T> batch = List.copyOf(entries);
+            rethrow();
+            permits.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        logProgress(data, counter.addAndGet(writer.write(batch)), -1);
+                    } catch (Throwable e) {
+                        error.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (Throwable e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        // Wait for every submitted batch to be written and stop the loaders, then surface the first failure, if any
+        private void await() throws Throwable {
+            permits.acquireUninterruptibly(loaders);
+            permits.release(loaders);
+            executor.shutdown();
+            if (error.get() != null) {
+                throw error.get();
+            }
+        }
+
+        private void rethrow() {
+            final Throwable e = error.get();
+            if (e instanceof RuntimeException runtime) {
+                throw runtime;
+            } else if (e != null) {
+                throw new IllegalStateException("Failed to write a batch of archived data", e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,496 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.importer;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.PositionMeta;
+import net.william278.huskhomes.position.SavedPosition;
+import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.position.World;
+import net.william278.huskhomes.user.SavedUser;
+import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.util.TransactionResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A HuskHomes data archive: a gzip-compressed JSON document of users (with their homes, cooldowns and positions) and
+ * warps, written and read as a stream so that archives of any size can be handled in bounded memory.
+ *
+ * <p>Archives are used to back up data and to move it between database backends.
+ *
+ * @since 4.8
+ */
+public final class DataArchive {
+
+    /**
+     * The current archive format version. Archives with a newer version can't be read.
+     */
+    public static final int FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".json.gz";
+    private static final String FORMAT_NAME = "huskhomes-archive";
+
+    private DataArchive() {
+    }
+
+    /**
+     * Get the directory archives are exported to, and imported from.
+     *
+     * @param plugin the plugin instance
+     * @return the archive directory
+     */
+    @NotNull
+    public static Path getDirectory(@NotNull HuskHomes plugin) {
+        return plugin.getConfigDirectory().resolve("archives");
+    }
+
+    /**
+     * List the names of the archives in the archive directory.
+     *
+     * @param plugin the plugin instance
+     * @return the archive file names
+     */
+    @NotNull
+    public static List<String> getArchiveNames(@NotNull HuskHomes plugin) {
+        final Path directory = getDirectory(plugin);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(FILE_EXTENSION))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * A user's data in an archive.
+     *
+     * @param savedUser       the user's saved data
+     * @param homes           the user's homes
+     * @param cooldowns       the expiry times of the user's cooldowns
+     * @param lastPosition    the user's last position, if any
+     * @param offlinePosition the user's offline position, if any
+     * @param respawnPosition the user's respawn position, if any
+     */
+    public record UserEntry(@NotNull SavedUser savedUser, @NotNull List<Home> homes,
+                            @NotNull Map<TransactionResolver.Action, Instant> cooldowns,
+                            @Nullable Position lastPosition, @Nullable Position offlinePosition,
+                            @Nullable Position respawnPosition) {
+    }
+
+    /**
+     * Writes an archive. Users are written first, then warps; each must be written in one go.
+     */
+    public static final class Writer implements Closeable {
+
+        private final JsonWriter json;
+        private boolean writingWarps;
+
+        private Writer(@NotNull JsonWriter json) {
+            this.json = json;
+        }
+
+        /**
+         * Open a writer to a new archive file, writing the archive header.
+         *
+         * @param file the file to write to
+         * @return the writer
+         * @throws IOException if the file could not be written to
+         */
+        @NotNull
+        public static Writer open(@NotNull Path file) throws IOException {
+            final JsonWriter json = new JsonWriter(new OutputStreamWriter(new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(file))), StandardCharsets.UTF_8));
+            json.beginObject();
+            json.name("format").value(FORMAT_NAME);
+            json.name("version").value(FORMAT_VERSION);
+            json.name("created").value(Instant.now().toString());
+            json.name("users").beginArray();
+            return new Writer(json);
+        }
+
+        public void writeUser(@NotNull UserEntry entry) throws IOException {
+            if (writingWarps) {
+                throw new IllegalStateException("Users must be written before warps");
+            }
+            final SavedUser savedUser = entry.savedUser();
+            json.beginObject();
+            json.name("uuid").value(savedUser.getUserUuid().toString());
+            json.name("username").value(savedUser.getUsername());
+            json.name("home_slots").value(savedUser.getHomeSlots());
+            json.name("ignoring_requests").value(savedUser.isIgnoringTeleports());
+            json.name("cooldowns").beginObject();
+            for (Map.Entry<TransactionResolver.Action, Instant> cooldown : entry.cooldowns().entrySet()) {
+                json.name(cooldown.getKey().name()).value(cooldown.getValue().toString());
+            }
+            json.endObject();
+            writePosition("last_position", entry.lastPosition());
+            writePosition("offline_position", entry.offlinePosition());
+            writePosition("respawn_position", entry.respawnPosition());
+            json.name("homes").beginArray();
+            for (Home home : entry.homes()) {
+                json.beginObject();
+                writeSavedPosition(home);
+                json.name("public").value(home.isPublic());
+                json.endObject();
+            }
+            json.endArray();
+            json.endObject();
+        }
+
+        public void writeWarp(@NotNull Warp warp) throws IOException {
+            if (!writingWarps) {
+                json.endArray();
+                json.name("warps").beginArray();
+                writingWarps = true;
+            }
+            json.beginObject();
+            writeSavedPosition(warp);
+            json.endObject();
+        }
+
+        private void writeSavedPosition(@NotNull SavedPosition position) throws IOException {
+            json.name("uuid").value(position.getUuid().toString());
+            json.name("name").value(position.getName());
+            json.name("description").value(position.getMeta().getDescription());
+            json.name("tags").value(position.getMeta().getSerializedTags());
+            json.name("created").value(position.getMeta().getCreationTime().toString());
+            writePosition("position", position);
+        }
+
+        private void writePosition(@NotNull String name, @Nullable Position position) throws IOException {
+            if (position == null) {
+                return;
+            }
+            json.name(name).beginObject();
+            json.name("x").value(position.getX());
+            json.name("y").value(position.getY());
+            json.name("z").value(position.getZ());
+            json.name("yaw").value(position.getYaw());
+            json.name("pitch").value(position.getPitch());
+            json.name("world_name").value(position.getWorld().getName());
+            json.name("world_uuid").value(position.getWorld().getUuid().toString());
+            json.name("server").value(position.getServer());
+            json.endObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!writingWarps) {
+                json.endArray();
+                json.name("warps").beginArray();
+                writingWarps = true;
+            }
+            json.endArray();
+            json.endObject();
+            json.close();
+        }
+
+    }
+
+    /**
+     * Reads an archive as a stream.
+     */
+    public static final class Reader implements Closeable {
+
+        private final JsonReader json;
+
+        private Reader(@NotNull JsonReader json) {
+            this.json = json;
+        }
+
+        /**
+         * Open a reader on an archive file, validating the archive header.
+         *
+         * @param file the file to read
+         * @return the reader
+         * @throws IOException if the file could not be read, or is not a supported archive
+         */
+        @NotNull
+        public static Reader open(@NotNull Path file) throws IOException {
+            final JsonReader json = new JsonReader(new InputStreamReader(new GZIPInputStream(
+                    new BufferedInputStream(Files.newInputStream(file))), StandardCharsets.UTF_8));
+            try {
+                json.beginObject();
+                String format = null;
+                int version = -1;
+                while (json.hasNext() && (format == null || version < 0)) {
+                    switch (json.nextName()) {
+                        case "format" -> format = json.nextString();
+                        case "version" -> version = json.nextInt();
+                        default -> json.skipValue();
+                    }
+                }
+                if (!FORMAT_NAME.equals(format)) {
+                    throw new IOException("Not a HuskHomes data archive");
+                }
+                if (version > FORMAT_VERSION) {
+                    throw new IOException("Unsupported archive version " + version + " (newest supported: "
+                            + FORMAT_VERSION + ")");
+                }
+                return new Reader(json);
+            } catch (IOException | RuntimeException e) {
+                json.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Read every user in the archive, passing each to a consumer as it is read.
+         *
+         * @param consumer the consumer of users
+         * @throws IOException if the archive could not be read
+         */
+        public void forEachUser(@NotNull Consumer<UserEntry> consumer) throws IOException {
+            if (seekArray("users")) {
+                while (json.hasNext()) {
+                    consumer.accept(readUser());
+                }
+                json.endArray();
+            }
+        }
+
+        /**
+         * Read every warp in the archive, passing each to a consumer as it is read.
+         *
+         * @param consumer the consumer of warps
+         * @throws IOException if the archive could not be read
+         */
+        public void forEachWarp(@NotNull Consumer<Warp> consumer) throws IOException {
+            if (seekArray("warps")) {
+                while (json.hasNext()) {
+                    json.beginObject();
+                    final SavedPositionFields fields = new SavedPositionFields();
+                    while (json.hasNext()) {
+                        if (!fields.read(json.nextName(), json)) {
+                            json.skipValue();
+                        }
+                    }
+                    json.endObject();
+                    consumer.accept(fields.toWarp());
+                }
+                json.endArray();
+            }
+        }
+
+        // Skip forward to the named top-level array, returning false if the archive has no such array
+        private boolean seekArray(@NotNull String name) throws IOException {
+            while (json.hasNext()) {
+                if (json.nextName().equals(name)) {
+                    json.beginArray();
+                    return true;
+                }
+                json.skipValue();
+            }
+            return false;
+        }
+
+        @NotNull
+        private UserEntry readUser() throws IOException {
+            UUID uuid = null;
+            String username = null;
+            int homeSlots = 0;
+            boolean ignoringRequests = false;
+            final Map<TransactionResolver.Action, Instant> cooldowns = new EnumMap<>(TransactionResolver.Action.class);
+            Position lastPosition = null;
+            Position offlinePosition = null;
+            Position respawnPosition = null;
+            final List<SavedPositionFields> homes = new ArrayList<>();
+
+            json.beginObject();
+            while (json.hasNext()) {
+                switch (json.nextName()) {
+                    case "uuid" -> uuid = UUID.fromString(json.nextString());
+                    case "username" -> username = json.nextString();
+                    case "home_slots" -> homeSlots = json.nextInt();
+                    case "ignoring_requests" -> ignoringRequests = json.nextBoolean();
+                    case "cooldowns" -> {
+                        json.beginObject();
+                        while (json.hasNext()) {
+                            final String action = json.nextName();
+                            final Instant expiry = Instant.parse(json.nextString());
+                            try {
+                                cooldowns.put(TransactionResolver.Action.valueOf(action), expiry);
+                            } catch (IllegalArgumentException ignored) {
+                                // Cooldowns for actions this version doesn't have are dropped
+                            }
+                        }
+                        json.endObject();
+                    }
+                    case "last_position" -> lastPosition = readPosition();
+                    case "offline_position" -> offlinePosition = readPosition();
+                    case "respawn_position" -> respawnPosition = readPosition();
+                    case "homes" -> {
+                        json.beginArray();
+                        while (json.hasNext()) {
+                            json.beginObject();
+                            final SavedPositionFields home = new SavedPositionFields();
+                            while (json.hasNext()) {
+                                final String name = json.nextName();
+                                if (name.equals("public")) {
+                                    home.isPublic = json.nextBoolean();
+                                } else if (!home.read(name, json)) {
+                                    json.skipValue();
+                                }
+                            }
+                            json.endObject();
+                            homes.add(home);
+                        }
+                        json.endArray();
+                    }
+                    default -> json.skipValue();
+                }
+            }
+            json.endObject();
+            if (uuid == null || username == null) {
+                throw new IOException("Archive contains a user without a UUID or username");
+            }
+
+            final User user = User.of(uuid, username);
+            return new UserEntry(
+                    new SavedUser(user, homeSlots, ignoringRequests),
+                    homes.stream().map(home -> home.toHome(user)).toList(),
+                    cooldowns, lastPosition, offlinePosition, respawnPosition
+            );
+        }
+
+        @NotNull
+        private Position readPosition() throws IOException {
+            double x = 0;
+            double y = 0;
+            double z = 0;
+            float yaw = 0;
+            float pitch = 0;
+            String worldName = null;
+            UUID worldUuid = null;
+            String server = null;
+            json.beginObject();
+            while (json.hasNext()) {
+                switch (json.nextName()) {
+                    case "x" -> x = json.nextDouble();
+                    case "y" -> y = json.nextDouble();
+                    case "z" -> z = json.nextDouble();
+                    case "yaw" -> yaw = (float) json.nextDouble();
+                    case "pitch" -> pitch = (float) json.nextDouble();
+                    case "world_name" -> worldName = json.nextString();
+                    case "world_uuid" -> worldUuid = UUID.fromString(json.nextString());
+                    case "server" -> server = json.nextString();
+                    default -> json.skipValue();
+                }
+            }
+            json.endObject();
+            if (worldName == null || worldUuid == null || server == null) {
+                throw new IOException("Archive contains a position without a world or server");
+            }
+            return Position.at(x, y, z, yaw, pitch, World.from(worldName, worldUuid), server);
+        }
+
+        @Override
+        public void close() throws IOException {
+            json.close();
+        }
+
+        // The fields shared by archived homes and warps
+        private final class SavedPositionFields {
+            private UUID uuid;
+            private String name;
+            private String description = "";
+            private String tags;
+            private Instant created = Instant.now();
+            private Position position;
+            private boolean isPublic;
+
+            private boolean read(@NotNull String field, @NotNull JsonReader json) throws IOException {
+                switch (field) {
+                    case "uuid" -> uuid = UUID.fromString(json.nextString());
+                    case "name" -> name = json.nextString();
+                    case "description" -> description = json.nextString();
+                    case "tags" -> {
+                        if (json.peek() == JsonToken.NULL) {
+                            json.nextNull();
+                        } else {
+                            tags = json.nextString();
+                        }
+                    }
+                    case "created" -> created = Instant.parse(json.nextString());
+                    case "position" -> position = readPosition();
+                    default -> {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @NotNull
+            private PositionMeta toMeta() {
+                if (uuid == null || name == null || position == null) {
+                    throw new IllegalStateException("Archive contains a home or warp without a UUID, name or position");
+                }
+                return PositionMeta.from(name, description, created, tags);
+            }
+
+            @NotNull
+            private Home toHome(@NotNull User owner) {
+                final PositionMeta meta = toMeta();
+                return Home.from(position.getX(), position.getY(), position.getZ(), position.getYaw(),
+                        position.getPitch(), position.getWorld(), position.getServer(), meta, uuid, owner, isPublic);
+            }
+
+            @NotNull
+            private Warp toWarp() {
+                final PositionMeta meta = toMeta();
+                return Warp.from(position.getX(), position.getY(), position.getZ(), position.getYaw(),
+                        position.getPitch(), position.getWorld(), position.getServer(), meta, uuid);
+            }
+        }
+
+    }
+
+}
@@ -34,9 +34,13 @@ import java.util.logging.Level;
 
 public abstract class Importer extends Hook {
 
+    private static final long PROGRESS_INTERVAL_MILLIS = 5000;
+
     protected final HuskHomes plugin;
     private final String name;
     private final List<ImportData> supportedImportData;
+    private CommandUser executor;
+    private long lastProgressLog;
 
     protected Importer(@NotNull String name, @NotNull List<ImportData> supportedData, @NotNull HuskHomes plugin) {
         super(plugin, name + " Importer");
@@ -51,6 +55,7 @@ public abstract class Importer extends Hook {
     }
 
     public final void start(@NotNull CommandUser user) {
+        this.executor = user;
         final LocalDateTime startTime = LocalDateTime.now();
         log(user, Level.INFO, "⌚ Starting " + name + " data import...");
 
@@ -71,6 +76,29 @@ public abstract class Importer extends Hook {
 
     protected abstract int importData(@NotNull ImportData importData) throws Throwable;
 
+    /**
+     * Report the progress of an import to the user who started it, at most once every few seconds.
+     *
+     * @param data      the type of data being imported
+     * @param processed the number of entries processed so far
+     * @param total     the total number of entries to process, or {@code -1} if not known
+     * @since 4.8
+     */
+    protected final synchronized void logProgress(@NotNull ImportData data, int processed, int total) {
+        final long now = System.currentTimeMillis();
+        if (executor == null || now - lastProgressLog < PROGRESS_INTERVAL_MILLIS) {
+            return;
+        }
+        lastProgressLog = now;
+        if (total < 0) {
+            log(executor, Level.INFO, "⌚ Importing " + data.getName() + "... " + processed + " so far");
+            return;
+        }
+        final int percent = total > 0 ? (int) (processed * 100L / total) : 100;
+        log(executor, Level.INFO, "⌚ Importing " + data.getName() + "... " + processed + "/" + total
+                + " (" + percent + "%)");
+    }
+
     protected final void log(@NotNull CommandUser user, @NotNull Level level, @NotNull String message,
                              @NotNull Throwable... e) {
         message = "[Importer] " + message;
@@ -24,6 +24,7 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.command.BackCommand;
 import net.william278.huskhomes.command.Command;
 import net.william278.huskhomes.config.Settings;
+import net.william278.huskhomes.event.ITeleportWarmupCancelledEvent;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.Message;
 import net.william278.huskhomes.network.Payload;
@@ -32,10 +33,13 @@ import net.william278.huskhomes.teleport.Teleport;
 import net.william278.huskhomes.teleport.TeleportBuilder;
 import net.william278.huskhomes.teleport.TeleportationException;
 import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.UserSession;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 
 /**
@@ -56,43 +60,86 @@ public class EventListener {
      * @param onlineUser the joining {@link OnlineUser}
      */
     protected final void handlePlayerJoin(@NotNull OnlineUser onlineUser) {
-        plugin.runAsync(() -> {
-            // Ensure the user is in the database
-            plugin.getDatabase().ensureUser(onlineUser);
-            plugin.getCurrentlyOnWarmup().remove(onlineUser.getUuid());
+        final long startTime = System.nanoTime();
+        plugin.getWarmupTicker().unregister(onlineUser.getUuid());
+        plugin.getPermissionLimits().invalidate(onlineUser.getUuid());
+
+        // Load the user's session, ensuring they are in the database
+        final CompletableFuture<UserSession> session = plugin.supplyAsync(() -> plugin.getJoinTimings().time(
+                JoinTimings.Stage.LOAD_SESSION, () -> plugin.getDatabase().loadSession(onlineUser)
+        ));
+        final CompletableFuture<Void> stages = CompletableFuture.allOf(
+                session.thenAccept(loaded -> this.applySession(onlineUser, loaded)),
+                handleCrossServerJoin(onlineUser, session)
+        );
+        stages.whenComplete((ignored, throwable) -> {
+            plugin.getJoinTimings().record(JoinTimings.Stage.TOTAL, System.nanoTime() - startTime);
+            if (throwable != null) {
+                plugin.log(Level.WARNING, "Failed to handle join for " + onlineUser.getName(), throwable);
+            }
+        });
+    }
 
-            // Handle cross-server checks
-            if (plugin.getSettings().getCrossServer().isEnabled()) {
-                this.handleInboundTeleport(onlineUser);
+    // Run the cross-server join stages
+    @NotNull
+    private CompletableFuture<Void> handleCrossServerJoin(@NotNull OnlineUser onlineUser,
+                                                          @NotNull CompletableFuture<UserSession> session) {
+        if (!plugin.getSettings().getCrossServer().isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-                // Synchronize the global player list
-                plugin.runSyncDelayed(() -> this.synchronizeGlobalPlayerList(
-                                onlineUser, plugin.getLocalPlayerList()),
-                        onlineUser, 40L
-                );
+        // Synchronize the global player list
+        plugin.runSyncDelayed(() -> this.synchronizeGlobalPlayerList(
+                        onlineUser, plugin.getLocalPlayerList()),
+                onlineUser, 40L
+        );
 
-                // Request updated player lists from other servers
-                if (plugin.getOnlineUsers().size() == 1) {
+        // Request updated caches from the database if this is the first player on the server
+        final CompletableFuture<Void> caches = plugin.getOnlineUsers().size() == 1
+                ? runStage(JoinTimings.Stage.REFRESH_GLOBAL_CACHES, () -> {
                     plugin.getManager().homes().updatePublicHomeCache();
                     plugin.getManager().warps().updateWarpCache();
-                }
-            }
+                })
+                : CompletableFuture.completedFuture(null);
+
+        // Complete a teleport handed off ahead of the player without waiting for their session
+        final Optional<Teleport> handoff = plugin.getMessenger().getTeleportHandoffs().claim(onlineUser);
+        final CompletableFuture<Void> inbound = handoff.isPresent()
+                ? runStage(JoinTimings.Stage.INBOUND_TELEPORT, () -> this.handleInboundTeleport(
+                        onlineUser, handoff.get()))
+                : session.thenCompose(loaded -> loaded.getPendingTeleport()
+                        .map(pending -> runStage(JoinTimings.Stage.INBOUND_TELEPORT, () -> {
+                            plugin.getMessenger().getTeleportHandoffs().discard(onlineUser.getUuid());
+                            try {
+                                this.handleInboundTeleport(onlineUser, pending.toTeleport(plugin, onlineUser));
+                            } catch (TeleportationException e) {
+                                e.displayMessage(onlineUser);
+                            }
+                        }))
+                        .orElseGet(() -> CompletableFuture.completedFuture(null)));
+        return CompletableFuture.allOf(inbound, caches);
+    }
 
-            // Cache this user's homes
-            plugin.getManager().homes().cacheUserHomes(onlineUser);
+    // Populate caches from the user's session
+    private void applySession(@NotNull OnlineUser onlineUser, @NotNull UserSession session) {
+        plugin.getManager().homes().cacheUserHomes(onlineUser, session.getHomes());
+        plugin.getSavedUsers().add(session.getSavedUser());
 
-            // Set their ignoring requests state
-            plugin.getDatabase().getUserData(onlineUser.getUuid()).ifPresent(userData -> {
-                plugin.getSavedUsers().add(userData);
+        // Send a reminder message if they are still ignoring requests
+        if (session.getSavedUser().isIgnoringTeleports()) {
+            plugin.getLocales().getRawLocale("tpignore_on_notification", plugin.getLocales()
+                    .getRawLocale("tpignore_toggle_button")
+                    .orElse("")).ifPresent(locale -> onlineUser.sendMessage(new MineDown(locale)));
+        }
+    }
 
-                // Send a reminder message if they are still ignoring requests
-                if (userData.isIgnoringTeleports()) {
-                    plugin.getLocales().getRawLocale("tpignore_on_notification", plugin.getLocales()
-                            .getRawLocale("tpignore_toggle_button")
-                            .orElse("")).ifPresent(locale -> onlineUser.sendMessage(new MineDown(locale)));
-                }
-            });
-        });
+    // Run a join stage asynchronously, recording its timing
+    @NotNull
+    private CompletableFuture<Void> runStage(@NotNull JoinTimings.Stage stage, @NotNull Runnable runnable) {
+        return plugin.supplyAsync(() -> plugin.getJoinTimings().time(stage, () -> {
+            runnable.run();
+            return null;
+        }));
     }
 
     /**
@@ -102,15 +149,20 @@ public class EventListener {
      */
     protected final void handlePlayerLeave(@NotNull OnlineUser onlineUser) {
         onlineUser.removeInvulnerabilityIfPermitted();
+        plugin.getPermissionLimits().invalidate(onlineUser.getUuid());
         plugin.runAsync(() -> {
             // Set offline position
             plugin.getDatabase().setOfflinePosition(onlineUser, onlineUser.getPosition());
 
+            // Write and forget their last position
+            plugin.getManager().lastPositions().unload(onlineUser);
+
             // Remove this user's home cache
             plugin.getManager().homes().removeUserHomes(onlineUser);
 
-            // Update global lists
+            // Discard any unclaimed teleport handoff and update global lists
             if (plugin.getSettings().getCrossServer().isEnabled()) {
+                plugin.getMessenger().getTeleportHandoffs().discard(onlineUser.getUuid());
                 final List<String> localPlayerList = plugin.getLocalPlayerList().stream()
                         .filter(player -> !player.equals(onlineUser.getUsername()))
                         .toList();
@@ -132,26 +184,25 @@ public class EventListener {
      * Handle inbound cross-server teleports.
      *
      * @param teleporter user to handle the checks for
+     * @param teleport   the teleport to complete
      */
-    private void handleInboundTeleport(@NotNull OnlineUser teleporter) {
-        plugin.getDatabase().getCurrentTeleport(teleporter).ifPresent(teleport -> {
-            if (teleport.getType() == Teleport.Type.RESPAWN) {
-                handleInboundRespawn(teleporter);
-                return;
-            }
+    private void handleInboundTeleport(@NotNull OnlineUser teleporter, @NotNull Teleport teleport) {
+        if (teleport.getType() == Teleport.Type.RESPAWN) {
+            handleInboundRespawn(teleporter);
+            return;
+        }
 
-            try {
-                teleporter.teleportLocally(
-                        (Position) teleport.getTarget(),
-                        plugin.getSettings().getGeneral().isTeleportAsync()
-                );
-            } catch (TeleportationException e) {
-                e.displayMessage(teleporter);
-            }
-            plugin.getDatabase().clearCurrentTeleport(teleporter);
-            teleport.displayTeleportingComplete(teleporter);
-            teleporter.handleInvulnerability();
-        });
+        try {
+            teleporter.teleportLocally(
+                    (Position) teleport.getTarget(),
+                    plugin.getSettings().getGeneral().isTeleportAsync()
+            );
+        } catch (TeleportationException e) {
+            e.displayMessage(teleporter);
+        }
+        plugin.getDatabase().clearCurrentTeleport(teleporter);
+        teleport.displayTeleportingComplete(teleporter);
+        teleporter.handleInvulnerability();
     }
 
     /**
@@ -219,7 +270,7 @@ public class EventListener {
     protected final void handlePlayerDeath(@NotNull OnlineUser onlineUser) {
         if (plugin.getSettings().getGeneral().getBackCommand().isReturnByDeath() && plugin.getCommand(BackCommand.class)
                 .map(Command::getPermission).map(onlineUser::hasPermission).orElse(false)) {
-            plugin.getDatabase().setLastPosition(onlineUser, onlineUser.getPosition());
+            plugin.getManager().lastPositions().setLastPosition(onlineUser, onlineUser.getPosition());
         }
     }
 
@@ -288,8 +339,9 @@ public class EventListener {
             return;
         }
 
-        plugin.runAsync(() -> plugin.getDatabase().getUserData(onlineUser.getUuid())
-                .ifPresent(data -> plugin.getDatabase().setLastPosition(data.getUser(), sourcePosition)));
+        // Only track users with saved data, skipping non-player entities other plugins may teleport
+        plugin.getSavedUser(onlineUser).ifPresent(data -> plugin.getManager().lastPositions()
+                .setLastPosition(onlineUser, sourcePosition));
     }
 
     /**
@@ -306,10 +358,46 @@ public class EventListener {
         }
     }
 
+    /**
+     * Handle when a player moves, cancelling their teleport warmup if they have moved too far.
+     *
+     * <p>Takes the player's UUID and coordinates so that listeners needn't adapt the player on every move.
+     *
+     * @param uuid the UUID of the player who moved
+     * @param x    the x coordinate they moved to
+     * @param y    the y coordinate they moved to
+     * @param z    the z coordinate they moved to
+     */
+    protected final void handlePlayerMove(@NotNull UUID uuid, double x, double y, double z) {
+        if (!plugin.getSettings().getGeneral().isTeleportWarmupCancelOnMove()) {
+            return;
+        }
+
+        plugin.getWarmupTicker().getWarmup(uuid)
+                .filter(teleport -> teleport.hasMovedFrom(x, y, z))
+                .ifPresent(teleport -> plugin.getWarmupTicker().cancel(
+                        uuid, ITeleportWarmupCancelledEvent.CancelReason.PLAYER_MOVE
+                ));
+    }
+
+    /**
+     * Handle when a player takes damage, cancelling their teleport warmup.
+     *
+     * @param uuid the UUID of the player who took damage
+     */
+    protected final void handlePlayerDamage(@NotNull UUID uuid) {
+        if (!plugin.getSettings().getGeneral().isTeleportWarmupCancelOnDamage()) {
+            return;
+        }
+
+        plugin.getWarmupTicker().cancel(uuid, ITeleportWarmupCancelledEvent.CancelReason.PLAYER_DAMAGE);
+    }
+
     /**
      * Handle when the plugin is disabling (server is shutting down).
      */
     public final void handlePluginDisable() {
+        plugin.getManager().lastPositions().persistAll();
         plugin.log(Level.INFO, "Successfully disabled HuskHomes v" + plugin.getVersion());
     }
 
@@ -0,0 +1,123 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.listener;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each stage of the player join pipeline takes.
+ *
+ * @since 4.8
+ */
+public class JoinTimings {
+
+    private final Map<Stage, LongAdder> totalNanos = new EnumMap<>(Stage.class);
+    private final Map<Stage, LongAdder> counts = new EnumMap<>(Stage.class);
+    private final Map<Stage, AtomicLong> maxNanos = new EnumMap<>(Stage.class);
+
+    public JoinTimings() {
+        for (Stage stage : Stage.values()) {
+            totalNanos.put(stage, new LongAdder());
+            counts.put(stage, new LongAdder());
+            maxNanos.put(stage, new AtomicLong());
+        }
+    }
+
+    /**
+     * Run a stage of the join pipeline, recording how long it took.
+     *
+     * @param stage    the stage being run
+     * @param supplier the stage body
+     * @param <T>      the stage result type
+     * @return the result of the stage
+     */
+    public <T> T time(@NotNull Stage stage, @NotNull Supplier<T> supplier) {
+        final long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Record a completed stage of the join pipeline.
+     *
+     * @param stage the stage that completed
+     * @param nanos how long it took, in nanoseconds
+     */
+    public void record(@NotNull Stage stage, long nanos) {
+        totalNanos.get(stage).add(nanos);
+        counts.get(stage).increment();
+        maxNanos.get(stage).accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Get the number of times a stage has completed.
+     *
+     * @param stage the stage
+     * @return the completion count
+     */
+    public long getCount(@NotNull Stage stage) {
+        return counts.get(stage).sum();
+    }
+
+    /**
+     * Get the mean time a stage has taken.
+     *
+     * @param stage the stage
+     * @return the mean duration, or {@link Duration#ZERO} if the stage has not run
+     */
+    @NotNull
+    public Duration getAverage(@NotNull Stage stage) {
+        final long count = getCount(stage);
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.get(stage).sum() / count);
+    }
+
+    /**
+     * Get the longest time a stage has taken.
+     *
+     * @param stage the stage
+     * @return the maximum duration
+     */
+    @NotNull
+    public Duration getMax(@NotNull Stage stage) {
+        return Duration.ofNanos(maxNanos.get(stage).get());
+    }
+
+    /**
+     * Stages of the join pipeline.
+     */
+    public enum Stage {
+        LOAD_SESSION,
+        INBOUND_TELEPORT,
+        REFRESH_GLOBAL_CACHES,
+        TOTAL
+    }
+
+}
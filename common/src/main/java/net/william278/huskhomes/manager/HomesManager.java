@@ -20,7 +20,8 @@
 package net.william278.huskhomes.manager;
 
 import net.william278.huskhomes.HuskHomes;
-import net.william278.huskhomes.command.ListCommand;
+import net.william278.huskhomes.command.HomeListCommand;
+import net.william278.huskhomes.command.PublicHomeListCommand;
 import net.william278.huskhomes.network.Message;
 import net.william278.huskhomes.network.Payload;
 import net.william278.huskhomes.position.Home;
@@ -37,17 +38,23 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
 
 public class HomesManager {
 
     private final HuskHomes plugin;
     private final ConcurrentLinkedQueue<Home> publicHomes;
     private final ConcurrentHashMap<String, ConcurrentLinkedQueue<Home>> userHomes;
+    private final ConcurrentHashMap<String, HomeSummary> userHomeSummaries;
+    private final ConcurrentHashMap<String, HomeSummary> publicHomeSummaries;
 
     protected HomesManager(@NotNull HuskHomes plugin) {
         this.plugin = plugin;
         this.publicHomes = new ConcurrentLinkedQueue<>(plugin.getDatabase().getPublicHomes());
         this.userHomes = new ConcurrentHashMap<>();
+        this.userHomeSummaries = new ConcurrentHashMap<>();
+        this.publicHomeSummaries = new ConcurrentHashMap<>();
+        this.updateAllSummaries();
         plugin.runAsync(() -> plugin.getOnlineUsers()
                 .forEach(this::cacheUserHomes));
     }
@@ -59,9 +66,33 @@ public class HomesManager {
      */
     @NotNull
     public Map<String, List<String>> getUserHomes() {
-        return userHomes.entrySet().stream()
-                .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue().stream().map(Home::getName).toList()),
-                        HashMap::putAll);
+        final Map<String, List<String>> homes = new HashMap<>();
+        userHomeSummaries.forEach((username, summary) -> homes.put(username, summary.names()));
+        return homes;
+    }
+
+    /**
+     * Get a summary of a user's cached homes, for quick lookup of their home count and names.
+     *
+     * @param user the user
+     * @return the summary of the user's homes; empty if their homes are not cached
+     * @since 4.8
+     */
+    @NotNull
+    public HomeSummary getUserHomeSummary(@NotNull User user) {
+        return userHomeSummaries.getOrDefault(user.getUsername(), HomeSummary.EMPTY);
+    }
+
+    /**
+     * Get a summary of a user's homes, if they are cached (i.e. the user is online).
+     *
+     * @param user the user
+     * @return the summary of the user's homes, if cached
+     * @since 4.8
+     */
+    @NotNull
+    public Optional<HomeSummary> findUserHomeSummary(@NotNull User user) {
+        return Optional.ofNullable(userHomeSummaries.get(user.getUsername()));
     }
 
     /**
@@ -81,11 +112,21 @@ public class HomesManager {
      */
     @NotNull
     public Map<String, List<String>> getPublicHomes() {
-        return publicHomes.stream().collect(
-                HashMap::new,
-                (m, e) -> m.put(e.getOwner().getUsername(), List.of(e.getName())),
-                HashMap::putAll
-        );
+        final Map<String, List<String>> homes = new HashMap<>();
+        publicHomeSummaries.forEach((username, summary) -> homes.put(username, summary.names()));
+        return homes;
+    }
+
+    /**
+     * Get a summary of a user's cached public homes, for quick lookup of their public home count and names.
+     *
+     * @param user the user
+     * @return the summary of the user's public homes
+     * @since 4.8
+     */
+    @NotNull
+    public HomeSummary getPublicHomeSummary(@NotNull User user) {
+        return publicHomeSummaries.getOrDefault(user.getUsername(), HomeSummary.EMPTY);
     }
 
     /**
@@ -123,7 +164,19 @@ public class HomesManager {
      * @param user the user to cache homes for
      */
     public void cacheUserHomes(@NotNull User user) {
-        userHomes.put(user.getUsername(), new ConcurrentLinkedQueue<>(plugin.getDatabase().getHomes(user)));
+        cacheUserHomes(user, plugin.getDatabase().getHomes(user));
+    }
+
+    /**
+     * Cache already-loaded user homes for a given user.
+     *
+     * @param user  the user to cache homes for
+     * @param homes the user's homes
+     * @since 4.8
+     */
+    public void cacheUserHomes(@NotNull User user, @NotNull Collection<Home> homes) {
+        userHomes.put(user.getUsername(), new ConcurrentLinkedQueue<>(homes));
+        this.updateUserSummary(user.getUsername());
     }
 
     /**
@@ -138,7 +191,8 @@ public class HomesManager {
             v.add(home);
             return v;
         });
-        if (publicHomes.remove(home) && !home.isPublic()) {
+        final boolean wasPublic = publicHomes.remove(home);
+        if (wasPublic && !home.isPublic()) {
             plugin.getMapHook().ifPresent(hook -> hook.removeHome(home));
         }
         if (home.isPublic()) {
@@ -146,29 +200,45 @@ public class HomesManager {
             plugin.getMapHook().ifPresent(hook -> hook.updateHome(home));
         }
 
-        plugin.getCommands().stream()
-                .filter(command -> command instanceof ListCommand)
-                .map(command -> (ListCommand) command)
-                .forEach(ListCommand::invalidateCaches);
+        this.updateUserSummary(home.getOwner().getUsername());
+        if (wasPublic || home.isPublic()) {
+            this.updatePublicSummary(home.getOwner().getUsername());
+        }
+        this.invalidateListCaches(home.getOwner(), wasPublic || home.isPublic());
         if (propagate) {
             propagateCacheUpdate(home.getUuid());
         }
     }
 
     public void unCacheHome(@NotNull UUID homeId, boolean propagate) {
-        userHomes.values().forEach(homes -> homes.removeIf(home -> home.getUuid().equals(homeId)));
-        publicHomes.removeIf(home -> {
+        final List<User> owners = new ArrayList<>();
+        userHomes.values().forEach(homes -> homes.removeIf(home -> {
+            if (home.getUuid().equals(homeId)) {
+                owners.add(home.getOwner());
+                return true;
+            }
+            return false;
+        }));
+        final boolean wasPublic = publicHomes.removeIf(home -> {
             if (home.getUuid().equals(homeId)) {
                 plugin.getMapHook().ifPresent(hook -> hook.removeHome(home));
+                owners.add(home.getOwner());
                 return true;
             }
             return false;
         });
 
-        plugin.getCommands().stream()
-                .filter(command -> command instanceof ListCommand)
-                .map(command -> (ListCommand) command)
-                .forEach(ListCommand::invalidateCaches);
+        owners.forEach(owner -> {
+            this.updateUserSummary(owner.getUsername());
+            this.updatePublicSummary(owner.getUsername());
+        });
+
+        // If the owner's homes weren't cached, we don't know whose list to invalidate
+        if (owners.isEmpty()) {
+            this.invalidateListCaches(null, true);
+        } else {
+            owners.forEach(owner -> this.invalidateListCaches(owner, wasPublic));
+        }
         if (propagate) {
             this.propagateCacheUpdate(homeId);
         }
@@ -192,12 +262,102 @@ public class HomesManager {
         }
     }
 
+    /**
+     * Invalidate cached home lists affected by a change to a user's homes.
+     *
+     * @param owner        the owner of the changed home(s), or {@code null} to invalidate every user's home list
+     * @param publicChange whether the change affected the public home list
+     */
+    private void invalidateListCaches(@Nullable User owner, boolean publicChange) {
+        plugin.getCommands().forEach(command -> {
+            if (command instanceof HomeListCommand homeList) {
+                if (owner != null) {
+                    homeList.invalidateCaches(owner.getUuid());
+                } else {
+                    homeList.invalidateCaches();
+                }
+            } else if (publicChange && command instanceof PublicHomeListCommand publicHomeList) {
+                publicHomeList.invalidateCaches();
+            }
+        });
+    }
+
+    // Recompute the summary of a user's cached homes
+    private void updateUserSummary(@NotNull String username) {
+        userHomeSummaries.compute(username, (name, summary) -> {
+            final Collection<Home> homes = userHomes.get(name);
+            return homes != null ? HomeSummary.of(homes) : null;
+        });
+    }
+
+    // Recompute the summary of a user's cached public homes
+    private void updatePublicSummary(@NotNull String username) {
+        publicHomeSummaries.compute(username, (name, summary) -> {
+            final List<Home> homes = publicHomes.stream()
+                    .filter(home -> home.getOwner().getUsername().equals(name))
+                    .toList();
+            return !homes.isEmpty() ? HomeSummary.of(homes) : null;
+        });
+    }
+
+    // Recompute the summaries of all cached homes
+    private void updateAllSummaries() {
+        userHomes.keySet().forEach(this::updateUserSummary);
+        userHomeSummaries.keySet().retainAll(userHomes.keySet());
+
+        final Map<String, List<Home>> ownedPublicHomes = publicHomes.stream()
+                .collect(Collectors.groupingBy(home -> home.getOwner().getUsername()));
+        ownedPublicHomes.forEach((username, homes) -> publicHomeSummaries.put(username, HomeSummary.of(homes)));
+        publicHomeSummaries.keySet().retainAll(ownedPublicHomes.keySet());
+    }
+
+    /**
+     * Refresh the cached public homes from the database. Homes are replaced in bulk and the home summaries rebuilt
+     * once afterward, rather than updated with each home.
+     */
     public void updatePublicHomeCache() {
-        plugin.getDatabase().getPublicHomes().forEach(home -> cacheHome(home, false));
+        final List<Home> loaded = plugin.getDatabase().getPublicHomes();
+        final Set<UUID> loadedIds = loaded.stream().map(Home::getUuid).collect(Collectors.toSet());
+        publicHomes.removeIf(home -> loadedIds.contains(home.getUuid()));
+        publicHomes.addAll(loaded);
+        loaded.forEach(home -> userHomes.computeIfPresent(home.getOwner().getUsername(), (k, v) -> {
+            v.remove(home);
+            v.add(home);
+            return v;
+        }));
+        plugin.getMapHook().ifPresent(hook -> loaded.forEach(hook::updateHome));
+
+        this.updateAllSummaries();
+        this.invalidateListCaches(null, true);
+    }
+
+    /**
+     * Reload the public homes and online users' homes from the database, and have other servers update their caches.
+     * Used after homes have been written to the database in bulk (e.g. by an importer), in place of updating the
+     * cache for each home.
+     *
+     * @since 4.8
+     */
+    public void reloadHomeCaches() {
+        final List<Home> loaded = plugin.getDatabase().getPublicHomes();
+        final Set<UUID> loadedIds = loaded.stream().map(Home::getUuid).collect(Collectors.toSet());
+        plugin.getMapHook().ifPresent(hook -> {
+            publicHomes.stream().filter(home -> !loadedIds.contains(home.getUuid())).forEach(hook::removeHome);
+            loaded.forEach(hook::updateHome);
+        });
+        publicHomes.clear();
+        publicHomes.addAll(loaded);
+        plugin.getOnlineUsers().forEach(user -> userHomes.put(
+                user.getUsername(), new ConcurrentLinkedQueue<>(plugin.getDatabase().getHomes(user))
+        ));
+        this.updateAllSummaries();
+        this.invalidateListCaches(null, true);
+        plugin.getManager().propagateCacheUpdate();
     }
 
     public void removeUserHomes(@NotNull User user) {
-        userHomes.remove(user.getUuid().toString());
+        userHomes.remove(user.getUsername());
+        this.updateUserSummary(user.getUsername());
     }
 
     @NotNull
@@ -229,10 +389,10 @@ public class HomesManager {
             }
 
             // Perform transaction and increase user slot size
-            if (!plugin.validateTransaction(online, TransactionResolver.Action.ADDITIONAL_HOME_SLOT)) {
+            final List<TransactionResolver.Action> slot = List.of(TransactionResolver.Action.ADDITIONAL_HOME_SLOT);
+            if (!plugin.validateTransactions(online, slot) || !plugin.performTransactions(online, slot)) {
                 throw new ValidationException(ValidationException.Type.TRANSACTION_FAILED);
             }
-            plugin.performTransaction(online, TransactionResolver.Action.ADDITIONAL_HOME_SLOT);
             plugin.editUserData(online, (SavedUser saved) -> saved.setHomeSlots(saved.getHomeSlots() + 1));
         }
 
@@ -277,11 +437,10 @@ public class HomesManager {
             return v;
         });
         publicHomes.removeIf(h -> h.getOwner().getUuid().equals(owner.getUuid()));
+        this.updateUserSummary(owner.getUsername());
+        this.updatePublicSummary(owner.getUsername());
         plugin.getMapHook().ifPresent(hook -> hook.clearHomes(owner));
-        plugin.getCommands().stream()
-                .filter(command -> command instanceof ListCommand)
-                .map(command -> (ListCommand) command)
-                .forEach(ListCommand::invalidateCaches);
+        this.invalidateListCaches(owner, true);
         plugin.getManager().propagateCacheUpdate();
         return deleted;
     }
@@ -292,13 +451,11 @@ public class HomesManager {
                 h -> h.getWorld().getName().equals(worldName) && h.getServer().equals(serverName)
         ));
         publicHomes.removeIf(h -> h.getWorld().getName().equals(worldName) && h.getServer().equals(serverName));
+        this.updateAllSummaries();
         if (plugin.getSettings().getCrossServer().isEnabled() && serverName.equals(plugin.getServerName())) {
             plugin.getMapHook().ifPresent(hook -> hook.clearHomes(worldName));
         }
-        plugin.getCommands().stream()
-                .filter(command -> command instanceof ListCommand)
-                .map(command -> (ListCommand) command)
-                .forEach(ListCommand::invalidateCaches);
+        this.invalidateListCaches(null, true);
         plugin.getManager().propagateCacheUpdate();
         return deleted;
     }
@@ -419,4 +576,24 @@ public class HomesManager {
         ) : plugin.getSettings().getEconomy().getFreeHomeSlots();
     }
 
+    /**
+     * A summary of a user's homes, maintained as their homes change so that it can be read without iterating them.
+     *
+     * @param count       the number of homes
+     * @param names       the names of the homes
+     * @param joinedNames the names of the homes, comma-separated
+     * @since 4.8
+     */
+    public record HomeSummary(int count, @NotNull List<String> names, @NotNull String joinedNames) {
+
+        public static final HomeSummary EMPTY = new HomeSummary(0, List.of(), "");
+
+        @NotNull
+        private static HomeSummary of(@NotNull Collection<Home> homes) {
+            final List<String> names = homes.stream().map(Home::getName).toList();
+            return new HomeSummary(names.size(), names, String.join(", ", names));
+        }
+
+    }
+
 }
@@ -0,0 +1,160 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.manager;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.util.Task;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the last position of online users for {@code /back}, persisting changes to the database asynchronously.
+ *
+ * <p>Positions are served from memory once known. Recorded positions are marked dirty and written in the
+ * background, so a user teleporting many times between writes only costs one database update.
+ *
+ * @since 4.8
+ */
+public class LastPositionManager {
+
+    private static final long PERSIST_INTERVAL = 20L * 30;
+
+    private final HuskHomes plugin;
+
+    // Last positions of users, by UUID
+    private final Map<UUID, Position> positions = new ConcurrentHashMap<>();
+
+    // Last positions that have yet to be written to the database
+    private final Map<UUID, Dirty> dirty = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    @Nullable
+    private Task.Repeating persistTask;
+
+    public LastPositionManager(@NotNull HuskHomes plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Get the last position of a user, loading it from the database if it is not yet known.
+     *
+     * <p>Positions loaded for an {@link OnlineUser} are kept in memory until they {@link #unload(User) leave}.
+     * This may query the database, so should be called asynchronously.
+     *
+     * @param user the user
+     * @return the user's last position, if they have one
+     */
+    public Optional<Position> getLastPosition(@NotNull User user) {
+        final Position position = positions.get(user.getUuid());
+        if (position != null) {
+            return Optional.of(position);
+        }
+        return plugin.getDatabase().getLastPosition(user).map(loaded -> {
+            if (!(user instanceof OnlineUser)) {
+                return loaded;
+            }
+            final Position existing = positions.putIfAbsent(user.getUuid(), loaded);
+            return existing != null ? existing : loaded;
+        });
+    }
+
+    /**
+     * Record the last position of a user. The position will be persisted in the background.
+     *
+     * <p>This does not query the database, so is safe to call from the main thread.
+     *
+     * @param user     the user
+     * @param position the user's last position
+     */
+    public void setLastPosition(@NotNull User user, @NotNull Position position) {
+        if (user instanceof OnlineUser) {
+            positions.put(user.getUuid(), position);
+        } else {
+            positions.computeIfPresent(user.getUuid(), (uuid, existing) -> position);
+        }
+        dirty.put(user.getUuid(), new Dirty(user, position));
+        startPersistTask();
+    }
+
+    /**
+     * Write a user's last position to the database now, if it has changed since it was last written.
+     *
+     * <p>Writes are serialized so that an older position can never overwrite a newer one.
+     * This queries the database, so should be called asynchronously.
+     *
+     * @param user the user
+     */
+    public void persist(@NotNull User user) {
+        synchronized (writeLock) {
+            final Dirty pending = dirty.remove(user.getUuid());
+            if (pending != null) {
+                plugin.getDatabase().setLastPosition(pending.user(), pending.position());
+            }
+        }
+    }
+
+    /**
+     * Write all changed last positions to the database.
+     *
+     * <p>This queries the database, so should be called asynchronously.
+     */
+    public void persistAll() {
+        synchronized (writeLock) {
+            dirty.keySet().forEach(uuid -> {
+                final Dirty pending = dirty.remove(uuid);
+                if (pending != null) {
+                    plugin.getDatabase().setLastPosition(pending.user(), pending.position());
+                }
+            });
+        }
+    }
+
+    /**
+     * Persist and forget a user's last position, such as when they leave the server.
+     *
+     * <p>This queries the database, so should be called asynchronously.
+     *
+     * @param user the user
+     */
+    public void unload(@NotNull User user) {
+        persist(user);
+        positions.remove(user.getUuid());
+    }
+
+    // Start the task that periodically writes changed positions, if it isn't already running
+    private synchronized void startPersistTask() {
+        if (persistTask == null) {
+            persistTask = plugin.getRepeatingTask(this::persistAll, PERSIST_INTERVAL);
+            persistTask.run();
+        }
+    }
+
+    private record Dirty(@NotNull User user, @NotNull Position position) {
+    }
+
+}
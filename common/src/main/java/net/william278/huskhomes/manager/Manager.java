@@ -29,12 +29,14 @@ public class Manager {
     private final HomesManager homes;
     private final WarpsManager warps;
     private final RequestsManager requests;
+    private final LastPositionManager lastPositions;
 
     public Manager(@NotNull HuskHomes plugin) {
         this.plugin = plugin;
         this.homes = new HomesManager(plugin);
         this.warps = new WarpsManager(plugin);
         this.requests = new RequestsManager(plugin);
+        this.lastPositions = new LastPositionManager(plugin);
     }
 
     @NotNull
@@ -52,6 +54,11 @@ public class Manager {
         return requests;
     }
 
+    @NotNull
+    public LastPositionManager lastPositions() {
+        return lastPositions;
+    }
+
     // Update caches on all servers
     protected void propagateCacheUpdate() {
         if (plugin.getSettings().getCrossServer().isEnabled()) {
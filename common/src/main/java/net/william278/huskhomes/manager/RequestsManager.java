@@ -29,26 +29,31 @@ import net.william278.huskhomes.teleport.TeleportRequest;
 import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.util.Task;
 import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 /**
  * Manages {@link TeleportRequest}s between players.
  */
 public class RequestsManager {
 
+    private static final long EXPIRY_CHECK_INTERVAL = 20L;
+
     private final HuskHomes plugin;
 
-    // Map of user UUIDs to a queue of received teleport requests
-    private final Map<UUID, Deque<TeleportRequest>> requests;
+    // Received teleport requests, by recipient and requester
+    private final TeleportRequestStore requests;
+    @Nullable
+    private Task.Repeating expiryTask;
 
     public RequestsManager(@NotNull HuskHomes plugin) {
         this.plugin = plugin;
-        this.requests = new ConcurrentHashMap<>();
+        this.requests = new TeleportRequestStore(Instant.now().getEpochSecond());
     }
 
     /**
@@ -62,26 +67,26 @@ public class RequestsManager {
     }
 
     /**
-     * Add a teleport request to a user's request queue.
+     * Add a teleport request to a user's received requests, replacing any existing request from the same requester.
+     *
+     * <p>The request will be removed once it expires.
      *
      * @param request   the {@link TeleportRequest} to add
      * @param recipient the {@link User} recipient of the request
      */
     public void addTeleportRequest(@NotNull TeleportRequest request, @NotNull User recipient) {
-        this.requests.computeIfAbsent(recipient.getUuid(), uuid -> new LinkedList<>()).addFirst(request);
+        this.requests.add(request, recipient);
+        this.startExpiryTask();
     }
 
     /**
-     * Remove {@link TeleportRequest}(s) sent by a requester, by name, from a recipient's queue.
+     * Remove the {@link TeleportRequest} sent by a requester, by name, from a recipient's received requests.
      *
      * @param requesterName the sender's username, whose requests should be removed
      * @param recipient     the {@link User} recipient of the request
      */
     public void removeTeleportRequest(@NotNull String requesterName, @NotNull User recipient) {
-        this.requests.computeIfPresent(recipient.getUuid(), (uuid, requests) -> {
-            requests.removeIf(teleportRequest -> teleportRequest.getRequesterName().equalsIgnoreCase(requesterName));
-            return requests.isEmpty() ? null : requests;
-        });
+        this.requests.remove(requesterName, recipient);
     }
 
     /**
@@ -91,51 +96,72 @@ public class RequestsManager {
      * @return the last received request, if present
      */
     public Optional<TeleportRequest> getLastTeleportRequest(@NotNull User recipient) {
-        return this.requests.getOrDefault(recipient.getUuid(), new LinkedList<>()).stream().findFirst();
+        return this.requests.getLatest(recipient);
     }
 
     /**
-     * Returns the last non-expired teleport request received from a requester.
-     * <ol>
-     * <li>If there are no unexpired requests sent by the requester, then the last expired request is returned.</li>
-     * <li>If there are no requests at all from the requester, then an empty optional is returned.</li>
-     * </ol>
+     * Returns the last teleport request received from a requester.
+     *
+     * <p>Requests are removed shortly after they expire, so the returned request may have only just expired.
      *
      * @param requesterName the name of the requester
      * @param recipient     the recipient {@link User}
-     * @return the last unexpired teleport request received from the requester, if present
+     * @return the last teleport request received from the requester, if present
      */
     public Optional<TeleportRequest> getTeleportRequest(@NotNull String requesterName, @NotNull User recipient) {
-        return this.requests.getOrDefault(recipient.getUuid(), new LinkedList<>()).stream()
-                .filter(request -> request.getRequesterName().equalsIgnoreCase(requesterName))
-                .filter(request -> !request.hasExpired())
-                .findFirst()
-                .or(() -> this.requests.getOrDefault(recipient.getUuid(), new LinkedList<>()).stream()
-                        .filter(request -> request.getRequesterName().equalsIgnoreCase(requesterName))
-                        .findFirst());
+        return this.requests.get(requesterName, recipient);
+    }
+
+    // Start the task that purges expired requests, if it isn't already running
+    private synchronized void startExpiryTask() {
+        if (expiryTask == null) {
+            expiryTask = plugin.getRepeatingTask(this::expireRequests, EXPIRY_CHECK_INTERVAL);
+            expiryTask.run();
+        }
+    }
+
+    // Remove expired requests, firing an expiry event for each
+    private void expireRequests() {
+        requests.purgeExpired(Instant.now().getEpochSecond()).forEach(expiry -> plugin.fireEvent(
+                plugin.getTeleportRequestExpireEvent(expiry.recipient(), expiry.request()), null
+        ));
     }
 
+    /**
+     * Sends a {@code /tpahere} request from the requester to every player on the network.
+     *
+     * @param requester The user making the request
+     */
     public void sendTeleportAllRequest(@NotNull OnlineUser requester) {
         final long expiry = Instant.now().getEpochSecond()
                 + plugin.getSettings().getGeneral().getTeleportRequestExpiryTime();
         final TeleportRequest request = new TeleportRequest(requester, TeleportRequest.Type.TPA_HERE, expiry);
-        for (OnlineUser onlineUser : plugin.getOnlineUsers()) {
-            if (onlineUser.equals(requester)) {
-                continue;
-            }
-            request.setRecipientName(onlineUser.getUsername());
-            sendLocalTeleportRequest(request, onlineUser);
-        }
+        sendLocalTeleportAllRequest(request);
 
+        // Send a single message for each other server to fan out to its players
         if (plugin.getSettings().getCrossServer().isEnabled()) {
             Message.builder()
-                    .type(Message.Type.TELEPORT_REQUEST)
+                    .type(Message.Type.TELEPORT_REQUEST_ALL)
+                    .scope(Message.Scope.SERVER)
                     .payload(Payload.withTeleportRequest(request))
                     .target(Message.TARGET_ALL)
                     .build().send(plugin.getMessenger(), requester);
         }
     }
 
+    /**
+     * Sends a copy of a teleport request to every player on this server other than the requester, in batches
+     * spread over consecutive ticks.
+     *
+     * @param request The {@link TeleportRequest} to send
+     */
+    public void sendLocalTeleportAllRequest(@NotNull TeleportRequest request) {
+        plugin.runBatched(plugin.getOnlineUsers().stream()
+                        .filter(user -> !user.getUsername().equalsIgnoreCase(request.getRequesterName()))
+                        .toList(),
+                recipient -> sendLocalTeleportRequest(request.copyFor(recipient.getUsername()), recipient));
+    }
+
     /**
      * Sends a teleport request of the given type to the specified user, by name, if they exist.
      *
@@ -259,12 +285,17 @@ public class RequestsManager {
             return;
         }
 
-        // Validate the economy check
-        if (accepted && !plugin.validateTransaction(recipient, TransactionResolver.Action.ACCEPT_TELEPORT_REQUEST)) {
+        // Validate the economy check, then handle the response
+        if (!accepted) {
+            handleRequestResponse(lastRequest.get(), recipient, false);
             return;
         }
-
-        handleRequestResponse(lastRequest.get(), recipient, accepted);
+        plugin.validateTransactionAsync(recipient, TransactionResolver.Action.ACCEPT_TELEPORT_REQUEST)
+                .thenAccept(valid -> {
+                    if (valid) {
+                        handleRequestResponse(lastRequest.get(), recipient, true);
+                    }
+                });
     }
 
     /**
@@ -276,7 +307,7 @@ public class RequestsManager {
      */
     private void handleRequestResponse(@NotNull TeleportRequest request, @NotNull OnlineUser recipient,
                                        boolean accepted) {
-        // Remove the request(s) from the sender from the recipient's queue
+        // Remove the request from the sender from the recipient's requests
         removeTeleportRequest(request.getRequesterName(), recipient);
 
         // Check if the request has expired
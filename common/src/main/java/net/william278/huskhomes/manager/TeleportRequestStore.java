@@ -0,0 +1,188 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.manager;
+
+import net.william278.huskhomes.teleport.TeleportRequest;
+import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.util.TimingWheel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stores pending {@link TeleportRequest}s by recipient, holding the latest request from each requester.
+ *
+ * <p>Requests are looked up by (recipient, requester) in constant time, and are purged from the store once
+ * they expire by a {@link TimingWheel}.
+ */
+public class TeleportRequestStore {
+
+    private static final int WHEEL_SLOTS = 512;
+
+    private final Map<UUID, Inbox> inboxes = new ConcurrentHashMap<>();
+    private final TimingWheel<Expiry> expiries;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public TeleportRequestStore(long now) {
+        this.expiries = new TimingWheel<>(WHEEL_SLOTS, now);
+    }
+
+    /**
+     * Add a request to a recipient's inbox, replacing any request they have from the same requester.
+     *
+     * @param request   the request
+     * @param recipient the recipient of the request
+     */
+    public void add(@NotNull TeleportRequest request, @NotNull User recipient) {
+        final Entry entry = new Entry(request, sequence.incrementAndGet());
+        inboxes.compute(recipient.getUuid(), (uuid, inbox) -> {
+            final Inbox updated = inbox == null ? new Inbox() : inbox;
+            updated.put(entry);
+            return updated;
+        });
+        expiries.schedule(new Expiry(request, recipient), request.getExpiryTime());
+    }
+
+    /**
+     * Get the request a recipient has from a requester.
+     *
+     * @param requesterName the name of the requester
+     * @param recipient     the recipient of the request
+     * @return the request, if the recipient has one from the requester
+     */
+    public Optional<TeleportRequest> get(@NotNull String requesterName, @NotNull User recipient) {
+        final Inbox inbox = inboxes.get(recipient.getUuid());
+        if (inbox == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(inbox.requests.get(key(requesterName))).map(Entry::request);
+    }
+
+    /**
+     * Get the request a recipient most recently received.
+     *
+     * @param recipient the recipient
+     * @return the latest request, if the recipient has any
+     */
+    public Optional<TeleportRequest> getLatest(@NotNull User recipient) {
+        final Inbox inbox = inboxes.get(recipient.getUuid());
+        if (inbox == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(inbox.latest).map(Entry::request);
+    }
+
+    /**
+     * Remove the request a recipient has from a requester.
+     *
+     * @param requesterName the name of the requester
+     * @param recipient     the recipient of the request
+     */
+    public void remove(@NotNull String requesterName, @NotNull User recipient) {
+        inboxes.computeIfPresent(recipient.getUuid(), (uuid, inbox) -> {
+            inbox.remove(key(requesterName), null);
+            return inbox.requests.isEmpty() ? null : inbox;
+        });
+    }
+
+    /**
+     * Remove every request that has expired by the given time.
+     *
+     * @param now the current time, in epoch seconds
+     * @return the expired requests that were still pending
+     */
+    @NotNull
+    public List<Expiry> purgeExpired(long now) {
+        return expiries.advance(now).stream().filter(this::remove).toList();
+    }
+
+    /**
+     * Get the number of requests waiting to expire, including those that have since been removed.
+     *
+     * @return the number of scheduled expiries
+     */
+    public int getScheduledExpiries() {
+        return expiries.size();
+    }
+
+    // Remove an expired request, if it hasn't since been responded to or replaced
+    private boolean remove(@NotNull Expiry expiry) {
+        final boolean[] removed = new boolean[1];
+        inboxes.computeIfPresent(expiry.recipient().getUuid(), (uuid, inbox) -> {
+            removed[0] = inbox.remove(key(expiry.request().getRequesterName()), expiry.request());
+            return inbox.requests.isEmpty() ? null : inbox;
+        });
+        return removed[0];
+    }
+
+    @NotNull
+    private static String key(@NotNull String requesterName) {
+        return requesterName.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * A request that has expired.
+     *
+     * @param request   the expired request
+     * @param recipient the recipient of the request
+     */
+    public record Expiry(@NotNull TeleportRequest request, @NotNull User recipient) {
+    }
+
+    private record Entry(@NotNull TeleportRequest request, long sequence) {
+    }
+
+    // A recipient's requests. Only mutated within a compute on the inbox map, so updates are serialized
+    private static final class Inbox {
+        private final Map<String, Entry> requests = new ConcurrentHashMap<>();
+        @Nullable
+        private volatile Entry latest;
+
+        private void put(@NotNull Entry entry) {
+            requests.put(key(entry.request().getRequesterName()), entry);
+            latest = entry;
+        }
+
+        // Remove the request by a requester, optionally only if it is the given request
+        private boolean remove(@NotNull String requester, @Nullable TeleportRequest request) {
+            final Entry entry = requests.get(requester);
+            if (entry == null || (request != null && entry.request() != request)) {
+                return false;
+            }
+            requests.remove(requester);
+            if (entry == latest) {
+                latest = requests.values().stream()
+                        .max(Comparator.comparingLong(Entry::sequence))
+                        .orElse(null);
+            }
+            return true;
+        }
+    }
+
+}
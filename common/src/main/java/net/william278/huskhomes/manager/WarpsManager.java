@@ -20,7 +20,7 @@
 package net.william278.huskhomes.manager;
 
 import net.william278.huskhomes.HuskHomes;
-import net.william278.huskhomes.command.ListCommand;
+import net.william278.huskhomes.command.WarpListCommand;
 import net.william278.huskhomes.hook.MapHook;
 import net.william278.huskhomes.network.Message;
 import net.william278.huskhomes.network.Payload;
@@ -51,10 +51,7 @@ public class WarpsManager {
         warps.add(warp);
         plugin.getMapHook().ifPresent(hook -> hook.updateWarp(warp));
 
-        plugin.getCommands().stream()
-                .filter(command -> command instanceof ListCommand)
-                .map(command -> (ListCommand) command)
-                .forEach(ListCommand::invalidateCaches);
+        this.invalidateListCaches();
         if (propagate) {
             this.propagateCacheUpdate(warp.getUuid());
         }
@@ -69,10 +66,7 @@ public class WarpsManager {
             return false;
         });
 
-        plugin.getCommands().stream()
-                .filter(command -> command instanceof ListCommand)
-                .map(command -> (ListCommand) command)
-                .forEach(ListCommand::invalidateCaches);
+        this.invalidateListCaches();
         if (propagate) {
             this.propagateCacheUpdate(warpId);
         }
@@ -89,6 +83,13 @@ public class WarpsManager {
         }
     }
 
+    private void invalidateListCaches() {
+        plugin.getCommands().stream()
+                .filter(command -> command instanceof WarpListCommand)
+                .map(command -> (WarpListCommand) command)
+                .forEach(WarpListCommand::invalidateCaches);
+    }
+
     public void updateWarpCache() {
         plugin.getDatabase().getWarps().forEach(warp -> cacheWarp(warp, false));
     }
@@ -159,10 +160,7 @@ public class WarpsManager {
         final int deleted = plugin.getDatabase().deleteAllWarps();
         warps.clear();
         plugin.getMapHook().ifPresent(MapHook::clearWarps);
-        plugin.getCommands().stream()
-                .filter(command -> command instanceof ListCommand)
-                .map(command -> (ListCommand) command)
-                .forEach(ListCommand::invalidateCaches);
+        this.invalidateListCaches();
         plugin.getManager().propagateCacheUpdate();
         return deleted;
     }
@@ -173,10 +171,7 @@ public class WarpsManager {
         if (plugin.getSettings().getCrossServer().isEnabled() && plugin.getServerName().equals(serverName)) {
             plugin.getMapHook().ifPresent(hook -> hook.clearWarps(worldName));
         }
-        plugin.getCommands().stream()
-                .filter(command -> command instanceof ListCommand)
-                .map(command -> (ListCommand) command)
-                .forEach(ListCommand::invalidateCaches);
+        this.invalidateListCaches();
         plugin.getManager().propagateCacheUpdate();
         return deleted;
     }
@@ -38,6 +38,8 @@ import java.util.logging.Level;
 public abstract class Broker {
 
     protected final HuskHomes plugin;
+    protected final ServerLoadTracker serverLoads;
+    protected final TeleportHandoffs teleportHandoffs;
 
     /**
      * Create a new broker.
@@ -46,6 +48,8 @@ public abstract class Broker {
      */
     protected Broker(@NotNull HuskHomes plugin) {
         this.plugin = plugin;
+        this.serverLoads = new ServerLoadTracker(plugin, this);
+        this.teleportHandoffs = new TeleportHandoffs(plugin, this);
     }
 
     /**
@@ -79,6 +83,18 @@ public abstract class Broker {
                     .getTeleportRequest()
                     .ifPresent(teleportRequest -> plugin.getManager().requests()
                             .sendLocalTeleportRequest(teleportRequest, receiver));
+            case TELEPORT_REQUEST_ALL -> message.getPayload()
+                    .getTeleportRequest()
+                    .ifPresent(teleportRequest -> plugin.getManager().requests()
+                            .sendLocalTeleportAllRequest(teleportRequest));
+            case TELEPORT_ALL_TO_POSITION -> message.getPayload()
+                    .getPosition().ifPresent(position -> plugin.runBatched(plugin.getOnlineUsers(),
+                            user -> Teleport.builder(plugin)
+                                    .teleporter(user)
+                                    .target(position)
+                                    .toTeleport()
+                                    .complete()));
+            case TELEPORT_HANDOFF -> handleTeleportHandoff(message);
             case TELEPORT_REQUEST_RESPONSE -> message.getPayload()
                     .getTeleportRequest()
                     .ifPresent(teleportRequest -> plugin.getManager().requests()
@@ -155,7 +171,7 @@ public abstract class Broker {
                                 .build().send(plugin.getMessenger(), request.getUsername());
                         return;
                     }
-                    plugin.getRandomTeleportEngine().getRandomPosition(world.get(), null)
+                    serverLoads.trackRtpRequest(plugin.getRandomTeleportEngine().getRandomPosition(world.get(), null))
                             .thenAccept((position) -> {
                                 final Message.Builder builder = Message.builder()
                                         .type(Message.Type.RTP_LOCATION)
@@ -171,6 +187,51 @@ public abstract class Broker {
                 });
     }
 
+    /**
+     * Separate handler for server load beacons, as they don't need a receiver to handle them.
+     *
+     * @param message the message to handle
+     */
+    protected void handleServerLoad(@NotNull Message message) {
+        if (message.getSourceServer().equals(getServer())) {
+            return;
+        }
+        message.getPayload().getServerLoad()
+                .ifPresent(load -> serverLoads.update(message.getSourceServer(), load));
+    }
+
+    /**
+     * Separate handler for teleport handoffs, as the teleporter won't have joined this server yet.
+     *
+     * @param message the message to handle
+     */
+    protected void handleTeleportHandoff(@NotNull Message message) {
+        if (message.getSourceServer().equals(getServer()) || !message.getTarget().equals(getServer())) {
+            return;
+        }
+        message.getPayload().getTeleportHandoff().ifPresent(teleportHandoffs::receive);
+    }
+
+    /**
+     * Get the tracker of server load beacons published across the network.
+     *
+     * @return the {@link ServerLoadTracker}
+     */
+    @NotNull
+    public ServerLoadTracker getServerLoads() {
+        return serverLoads;
+    }
+
+    /**
+     * Get the handler of cross-server teleports handed off ahead of the teleporter.
+     *
+     * @return the {@link TeleportHandoffs}
+     */
+    @NotNull
+    public TeleportHandoffs getTeleportHandoffs() {
+        return teleportHandoffs;
+    }
+
     /**
      * Initialize the message broker.
      *
@@ -182,6 +182,10 @@ public class Message {
         UPDATE_CACHES,
         REQUEST_RTP_LOCATION,
         RTP_LOCATION,
+        SERVER_LOAD,
+        TELEPORT_REQUEST_ALL,
+        TELEPORT_ALL_TO_POSITION,
+        TELEPORT_HANDOFF,
     }
 
     public enum Scope {
@@ -24,12 +24,14 @@ import com.google.gson.annotations.SerializedName;
 import lombok.Value;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.World;
+import net.william278.huskhomes.teleport.Teleport;
 import net.william278.huskhomes.teleport.TeleportRequest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Represents a payload sent in a cross-server {@link Message}.
@@ -59,6 +61,16 @@ public class Payload {
     @SerializedName("rtp_request")
     private RTPRequest rtpRequest;
 
+    @Nullable
+    @Expose
+    @SerializedName("server_load")
+    private ServerLoad serverLoad;
+
+    @Nullable
+    @Expose
+    @SerializedName("teleport_handoff")
+    private TeleportHandoff teleportHandoff;
+
     @Nullable
     @Expose
     private String string;
@@ -157,6 +169,26 @@ public class Payload {
         return payload;
     }
 
+    /**
+     * A server load beacon field.
+     */
+    @NotNull
+    public static Payload withServerLoad(@NotNull ServerLoad serverLoad) {
+        final Payload payload = new Payload();
+        payload.serverLoad = serverLoad;
+        return payload;
+    }
+
+    /**
+     * A cross-server teleport handoff field.
+     */
+    @NotNull
+    public static Payload withTeleportHandoff(@NotNull TeleportHandoff teleportHandoff) {
+        final Payload payload = new Payload();
+        payload.teleportHandoff = teleportHandoff;
+        return payload;
+    }
+
     private Payload() {
     }
 
@@ -209,6 +241,20 @@ public class Payload {
         return Optional.ofNullable(rtpRequest);
     }
 
+    /**
+     * A server load beacon.
+     */
+    public Optional<ServerLoad> getServerLoad() {
+        return Optional.ofNullable(serverLoad);
+    }
+
+    /**
+     * A cross-server teleport handoff.
+     */
+    public Optional<TeleportHandoff> getTeleportHandoff() {
+        return Optional.ofNullable(teleportHandoff);
+    }
+
     @Value(staticConstructor = "of")
     public static class RTPResponse {
         @Expose String username;
@@ -220,4 +266,25 @@ public class Payload {
         @Expose String username;
         @Expose String worldName;
     }
+
+    /**
+     * A lightweight snapshot of a server's load, published periodically for cross-server /rtp target selection.
+     * The average tick time is in milliseconds, or {@code -1} if the platform does not expose it.
+     */
+    @Value(staticConstructor = "of")
+    public static class ServerLoad {
+        @Expose double averageTickTime;
+        @Expose int playerCount;
+        @Expose int pendingRtpRequests;
+    }
+
+    /**
+     * A teleport handed off to the server of its target, ahead of the teleporter switching to that server.
+     */
+    @Value(staticConstructor = "of")
+    public static class TeleportHandoff {
+        @Expose UUID uuid;
+        @Expose Position position;
+        @Expose Teleport.Type type;
+    }
 }
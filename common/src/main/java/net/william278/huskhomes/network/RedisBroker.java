@@ -66,6 +66,11 @@ public class RedisBroker extends PluginMessageBroker {
         final Thread thread = new Thread(subscriber::subscribe, "huskhomes:redis_subscriber");
         thread.setDaemon(true);
         thread.start();
+
+        // Publish server load beacons for picking cross-server /rtp targets
+        if (plugin.getSettings().getRtp().isCrossServer()) {
+            serverLoads.start();
+        }
     }
 
     @NotNull
@@ -111,6 +116,7 @@ public class RedisBroker extends PluginMessageBroker {
     @Blocking
     public void close() {
         super.close();
+        serverLoads.stop();
         subscriber.disable();
     }
 
@@ -211,6 +217,16 @@ public class RedisBroker extends PluginMessageBroker {
                 return;
             }
 
+            if (message.getType() == Message.Type.SERVER_LOAD) {
+                broker.handleServerLoad(message);
+                return;
+            }
+
+            if (message.getType() == Message.Type.TELEPORT_HANDOFF) {
+                broker.handleTeleportHandoff(message);
+                return;
+            }
+
             if (message.getScope() == Message.Scope.PLAYER) {
                 broker.plugin.getOnlineUsers().stream()
                         .filter(online -> message.getTarget().equals(Message.TARGET_ALL)
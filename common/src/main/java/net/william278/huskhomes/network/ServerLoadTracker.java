@@ -0,0 +1,199 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.network;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.util.Task;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the load of servers on the network through periodically broadcast {@link Payload.ServerLoad} beacons,
+ * for picking which server a cross-server random teleport should be carried out on.
+ */
+public class ServerLoadTracker {
+
+    // How often beacons are published, and how long before a beacon is considered stale
+    private static final long PUBLISH_INTERVAL_TICKS = 100L;
+    private static final long STALE_AFTER_MILLIS = PUBLISH_INTERVAL_TICKS * 50L * 3;
+
+    private static final double MIN_WEIGHT = 0.01d;
+    private static final double TARGET_TICK_TIME = 50d;
+    private static final double UNKNOWN_HEADROOM = 0.5d;
+    private static final double PLAYERS_PER_HALF_WEIGHT = 50d;
+
+    private final HuskHomes plugin;
+    private final Broker broker;
+    private final Map<String, Beacon> beacons = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingRtpRequests = new AtomicInteger();
+    @Nullable
+    private Task.Repeating publisher;
+
+    protected ServerLoadTracker(@NotNull HuskHomes plugin, @NotNull Broker broker) {
+        this.plugin = plugin;
+        this.broker = broker;
+    }
+
+    /**
+     * Start periodically publishing this server's load to the network.
+     */
+    public void start() {
+        this.publisher = plugin.getRepeatingTask(this::publish, PUBLISH_INTERVAL_TICKS);
+        this.publisher.run();
+    }
+
+    /**
+     * Stop publishing this server's load.
+     */
+    public void stop() {
+        if (publisher != null) {
+            publisher.cancel();
+            publisher = null;
+        }
+    }
+
+    private void publish() {
+        Message.builder()
+                .type(Message.Type.SERVER_LOAD)
+                .scope(Message.Scope.SERVER)
+                .target(Message.TARGET_ALL)
+                .payload(Payload.withServerLoad(getLocalLoad()))
+                .build().send(broker, plugin.getServerName());
+    }
+
+    /**
+     * Record a load beacon received from another server.
+     *
+     * @param server the name of the server that published the beacon
+     * @param load   the published load
+     */
+    protected void update(@NotNull String server, @NotNull Payload.ServerLoad load) {
+        beacons.put(server, new Beacon(load, System.currentTimeMillis()));
+    }
+
+    /**
+     * Track a random teleport position search being carried out on this server, reported in published beacons
+     * until it completes.
+     *
+     * @param search the position search
+     * @param <T>    the search result type
+     * @return the search, for chaining
+     */
+    @NotNull
+    public <T> CompletableFuture<T> trackRtpRequest(@NotNull CompletableFuture<T> search) {
+        pendingRtpRequests.incrementAndGet();
+        search.whenComplete((result, error) -> pendingRtpRequests.decrementAndGet());
+        return search;
+    }
+
+    /**
+     * Get the last known load of a server on the network. This server's load is always known.
+     *
+     * @param server the server name
+     * @return the server load, if a beacon has been received from the server recently
+     */
+    public Optional<Payload.ServerLoad> getLoad(@NotNull String server) {
+        if (server.equals(plugin.getServerName())) {
+            return Optional.of(getLocalLoad());
+        }
+        final Beacon beacon = beacons.get(server);
+        if (beacon == null || System.currentTimeMillis() - beacon.receivedAt() > STALE_AFTER_MILLIS) {
+            return Optional.empty();
+        }
+        return Optional.of(beacon.load());
+    }
+
+    /**
+     * Pick a server from a list of candidates, weighted towards those with the lowest load.
+     *
+     * <p>Servers with tick time headroom, fewer players and fewer in-progress random teleport searches are
+     * preferred. Servers whose tick time is unknown are given the mean headroom of the candidates whose tick time is
+     * known, so they are neither favoured nor avoided. Servers that haven't published a beacon recently are likely
+     * offline, so they are only picked, at random, when no candidate has published a recent beacon.
+     *
+     * @param servers the candidate server names
+     * @return the picked server name
+     * @throws IllegalArgumentException if the list of candidates is empty
+     */
+    @NotNull
+    public String pickServer(@NotNull List<String> servers) {
+        if (servers.isEmpty()) {
+            throw new IllegalArgumentException("No candidate servers to pick from");
+        }
+        final List<Optional<Payload.ServerLoad>> loads = servers.stream().map(this::getLoad).toList();
+        final double unknownHeadroom = loads.stream()
+                .flatMap(Optional::stream)
+                .filter(load -> load.getAverageTickTime() >= 0)
+                .mapToDouble(ServerLoadTracker::getHeadroom)
+                .average().orElse(UNKNOWN_HEADROOM);
+        final double[] weights = new double[servers.size()];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = loads.get(i).map(load -> getWeight(load, unknownHeadroom)).orElse(0d);
+            total += weights[i];
+        }
+        if (total <= 0) {
+            return servers.get(ThreadLocalRandom.current().nextInt(servers.size()));
+        }
+
+        double pick = ThreadLocalRandom.current().nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return servers.get(i);
+            }
+        }
+        return servers.get(servers.size() - 1);
+    }
+
+    // Weight a server by its tick time headroom, player count and queue of pending random teleport searches
+    private static double getWeight(@NotNull Payload.ServerLoad load, double unknownHeadroom) {
+        final double headroom = load.getAverageTickTime() < 0 ? unknownHeadroom : getHeadroom(load);
+        final double crowding = 1d + load.getPlayerCount() / PLAYERS_PER_HALF_WEIGHT;
+        return Math.max(MIN_WEIGHT, headroom / crowding / (1d + load.getPendingRtpRequests()));
+    }
+
+    // Fraction of the target tick time a server has spare; only meaningful if its tick time is known
+    private static double getHeadroom(@NotNull Payload.ServerLoad load) {
+        return Math.max(0d, TARGET_TICK_TIME - load.getAverageTickTime()) / TARGET_TICK_TIME;
+    }
+
+    @NotNull
+    private Payload.ServerLoad getLocalLoad() {
+        return Payload.ServerLoad.of(
+                plugin.getAverageTickTime().orElse(-1d),
+                plugin.getOnlineUsers().size(),
+                pendingRtpRequests.get()
+        );
+    }
+
+    private record Beacon(@NotNull Payload.ServerLoad load, long receivedAt) {
+    }
+
+}
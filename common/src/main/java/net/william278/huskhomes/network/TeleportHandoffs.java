@@ -0,0 +1,131 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.network;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.teleport.Teleport;
+import net.william278.huskhomes.teleport.TeleportationException;
+import net.william278.huskhomes.user.OnlineUser;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands pending cross-server teleports off to the destination server ahead of the player.
+ *
+ * <p>When a player is sent to another server to complete a teleport, the teleport is published to the destination
+ * before they switch servers. The destination pre-loads the target chunks, then applies the teleport when the player
+ * joins without reading it back from the database. The database row is still written, and is used if the handoff
+ * doesn't arrive in time (e.g. if the destination had no players to receive a plugin message).
+ */
+public class TeleportHandoffs {
+
+    // How long a received handoff is held for the player to arrive
+    private static final long EXPIRE_AFTER_TICKS = 600L;
+    private static final long EXPIRE_AFTER_MILLIS = EXPIRE_AFTER_TICKS * 50L;
+
+    private final HuskHomes plugin;
+    private final Broker broker;
+    private final Map<UUID, Handoff> handoffs = new ConcurrentHashMap<>();
+
+    protected TeleportHandoffs(@NotNull HuskHomes plugin, @NotNull Broker broker) {
+        this.plugin = plugin;
+        this.broker = broker;
+    }
+
+    /**
+     * Publish a teleport to the server of its target, ahead of the teleporter switching to that server.
+     *
+     * @param teleporter the user being teleported
+     * @param target     the target position, on another server
+     * @param type       the type of teleport
+     */
+    public void send(@NotNull OnlineUser teleporter, @NotNull Position target, @NotNull Teleport.Type type) {
+        Message.builder()
+                .type(Message.Type.TELEPORT_HANDOFF)
+                .scope(Message.Scope.SERVER)
+                .target(target.getServer())
+                .payload(Payload.withTeleportHandoff(Payload.TeleportHandoff.of(teleporter.getUuid(), target, type)))
+                .build().send(broker, teleporter);
+    }
+
+    /**
+     * Hold a teleport handed off to this server until the teleporter joins, pre-loading the target chunks.
+     *
+     * @param handoff the received handoff
+     */
+    protected void receive(@NotNull Payload.TeleportHandoff handoff) {
+        final long now = System.currentTimeMillis();
+        handoffs.values().removeIf(pending -> now - pending.receivedAt() > EXPIRE_AFTER_MILLIS);
+        handoffs.put(handoff.getUuid(), new Handoff(handoff, now));
+
+        // Respawns are resolved on arrival, so there's no target to pre-load
+        final int radius = plugin.getSettings().getGeneral().getTeleportWarmupPreloadRadius();
+        if (handoff.getType() == Teleport.Type.RESPAWN || radius <= 0) {
+            return;
+        }
+        final Position position = handoff.getPosition();
+        plugin.preloadChunks(position, radius);
+        plugin.runAsyncDelayed(() -> plugin.releaseChunks(position, radius), EXPIRE_AFTER_TICKS);
+    }
+
+    /**
+     * Take the teleport handed off to this server for a user who has joined, if one was received recently.
+     *
+     * @param teleporter the user who joined
+     * @return the teleport to complete, if one was handed off
+     */
+    public Optional<Teleport> claim(@NotNull OnlineUser teleporter) {
+        final Handoff handoff = handoffs.remove(teleporter.getUuid());
+        if (handoff == null || System.currentTimeMillis() - handoff.receivedAt() > EXPIRE_AFTER_MILLIS) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Teleport.builder(plugin)
+                    .teleporter(teleporter)
+                    .target(handoff.handoff().getPosition())
+                    .type(handoff.handoff().getType())
+                    .updateLastPosition(false)
+                    .toTeleport());
+        } catch (TeleportationException e) {
+            e.displayMessage(teleporter);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Discard any teleport handed off to this server for a user, so it can't be applied if they rejoin later. Call
+     * this when the user leaves, or when their teleport has been completed from the database instead.
+     *
+     * @param uuid the user's UUID
+     */
+    public void discard(@NotNull UUID uuid) {
+        handoffs.remove(uuid);
+    }
+
+    private record Handoff(@NotNull Payload.TeleportHandoff handoff, long receivedAt) {
+    }
+
+}
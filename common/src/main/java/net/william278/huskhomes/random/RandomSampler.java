@@ -0,0 +1,198 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shared random sampling utilities for {@link RandomTeleportEngine} implementations.
+ *
+ * <p>Samples are drawn from the calling thread's {@link ThreadLocalRandom}, so no {@code Random} instances are
+ * allocated per-sample and engines may safely be called from multiple threads at once.
+ */
+public final class RandomSampler {
+
+    private static final double FULL_TURN = Math.PI * 2;
+    private static final double INVERSE_CDF_LOW = 0.02425;
+
+    private RandomSampler() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Generate a uniformly distributed value in the range {@code [min, max)}.
+     *
+     * @param min The inclusive lower bound
+     * @param max The exclusive upper bound
+     * @return the generated value
+     */
+    public static double nextUniform(double min, double max) {
+        return min + ThreadLocalRandom.current().nextDouble() * (max - min);
+    }
+
+    /**
+     * Generate a normally distributed value with a mean of {@code 0} and a standard deviation of {@code 1}.
+     *
+     * @return the generated value
+     */
+    public static double nextGaussian() {
+        return ThreadLocalRandom.current().nextGaussian();
+    }
+
+    /**
+     * Generate a normally distributed value, truncated to the range {@code [min, max]}.
+     *
+     * <p>The value is sampled directly by inverting the normal CDF over the truncated range, so the cost of a sample
+     * doesn't depend on how much of the distribution lies outside the range.
+     *
+     * @param mean              The mean of the distribution
+     * @param standardDeviation The standard deviation of the distribution
+     * @param min               The inclusive lower bound
+     * @param max               The inclusive upper bound
+     * @return the generated value
+     */
+    public static double nextTruncatedGaussian(double mean, double standardDeviation, double min, double max) {
+        if (max <= min) {
+            return min;
+        }
+        if (!(standardDeviation > 0)) {
+            return Math.max(min, Math.min(max, mean));
+        }
+
+        // Mirror ranges above the mean into the lower tail, where the CDF keeps its precision
+        double lower = (min - mean) / standardDeviation;
+        double upper = (max - mean) / standardDeviation;
+        final boolean mirrored = lower > 0;
+        if (mirrored) {
+            final double flipped = lower;
+            lower = -upper;
+            upper = -flipped;
+        }
+
+        final double lowerCdf = normalCdf(lower);
+        final double upperCdf = normalCdf(upper);
+        double value = upper;
+        if (upperCdf > lowerCdf) {
+            final double p = lowerCdf + ThreadLocalRandom.current().nextDouble() * (upperCdf - lowerCdf);
+            value = Math.max(lower, Math.min(upper, inverseNormalCdf(p)));
+        }
+        return mean + standardDeviation * (mirrored ? -value : value);
+    }
+
+    // The standard normal CDF, using the complementary error function approximation from Numerical Recipes
+    private static double normalCdf(double x) {
+        final double z = Math.abs(x) / Math.sqrt(2);
+        final double t = 1 / (1 + 0.5 * z);
+        final double erfc = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196
+                + t * (0.09678418 + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398
+                + t * (1.48851587 + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? 1 - erfc / 2 : erfc / 2;
+    }
+
+    // The inverse of the standard normal CDF, using Acklam's rational approximation
+    private static double inverseNormalCdf(double p) {
+        if (p <= 0) {
+            return Double.NEGATIVE_INFINITY;
+        } else if (p >= 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (p < INVERSE_CDF_LOW) {
+            final double q = Math.sqrt(-2 * Math.log(p));
+            return inverseCdfTail(q);
+        } else if (p > 1 - INVERSE_CDF_LOW) {
+            final double q = Math.sqrt(-2 * Math.log(1 - p));
+            return -inverseCdfTail(q);
+        }
+        final double q = p - 0.5;
+        final double r = q * q;
+        return (((((-3.969683028665376e+01 * r + 2.209460984245205e+02) * r - 2.759285104469687e+02) * r
+                + 1.383577518672690e+02) * r - 3.066479806614716e+01) * r + 2.506628277459239e+00) * q
+                / (((((-5.447609879822406e+01 * r + 1.615858368580409e+02) * r - 1.556989798598866e+02) * r
+                + 6.680131188771972e+01) * r - 1.328068155288572e+01) * r + 1);
+    }
+
+    private static double inverseCdfTail(double q) {
+        return (((((-7.784894002430293e-03 * q - 3.223964580411365e-01) * q - 2.400758277161838e+00) * q
+                - 2.549732539343734e+00) * q + 4.374664141464968e+00) * q + 2.938163982698783e+00)
+                / ((((7.784695709041462e-03 * q + 3.224671290700398e-01) * q + 2.445134137142996e+00) * q
+                + 3.754408661907416e+00) * q + 1);
+    }
+
+    /**
+     * Generate a random angle, in radians, in the range {@code [0, 2pi)}.
+     *
+     * @return the generated angle
+     */
+    public static double nextAngle() {
+        return ThreadLocalRandom.current().nextDouble() * FULL_TURN;
+    }
+
+    /**
+     * Generate a radius such that points are uniformly distributed by area over the annulus between the minimum
+     * and maximum radii, by inverting the area CDF {@code F(r) = (r^2 - min^2) / (max^2 - min^2)}.
+     *
+     * @param minRadius The inner radius of the annulus
+     * @param maxRadius The outer radius of the annulus
+     * @return the generated radius
+     */
+    public static double nextAnnulusRadius(double minRadius, double maxRadius) {
+        final double minSquared = minRadius * minRadius;
+        return Math.sqrt(minSquared + ThreadLocalRandom.current().nextDouble() * (maxRadius * maxRadius - minSquared));
+    }
+
+    /**
+     * Pick a random index, weighted by the cumulative weights.
+     *
+     * @param cumulativeWeights Cumulative weights, as returned by {@link #getCumulativeWeights(List)}
+     * @return the index of the picked weight
+     */
+    public static int nextWeightedIndex(@NotNull double[] cumulativeWeights) {
+        final double pick = ThreadLocalRandom.current().nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        final int index = Arrays.binarySearch(cumulativeWeights, pick);
+        return Math.min(index >= 0 ? index + 1 : -(index + 1), cumulativeWeights.length - 1);
+    }
+
+    /**
+     * Compute a cumulative weight table from a list of weights, for use with {@link #nextWeightedIndex(double[])}.
+     *
+     * @param weights The weights. Negative weights are treated as {@code 0}.
+     * @return the cumulative weights
+     * @throws IllegalArgumentException if there are no weights, or all weights are {@code 0}
+     */
+    @NotNull
+    public static double[] getCumulativeWeights(@NotNull List<Double> weights) {
+        final double[] cumulative = new double[weights.size()];
+        double total = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            total += Math.max(0, weights.get(i));
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be greater than zero");
+        }
+        return cumulative;
+    }
+
+}
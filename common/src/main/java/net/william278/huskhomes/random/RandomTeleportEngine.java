@@ -26,6 +26,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Represents an engine for generating random position targets.
@@ -85,4 +86,40 @@ public abstract class RandomTeleportEngine {
     public abstract CompletableFuture<Optional<Position>> getRandomPosition(@NotNull World world,
                                                                             @NotNull String[] args);
 
+    /**
+     * Identifies the built-in random teleport engines.
+     */
+    public enum Type {
+        NORMAL_DISTRIBUTION("Normal Distribution", NormalDistributionEngine::new),
+        UNIFORM_AREA("Uniform Area", UniformAreaEngine::new),
+        SQUARE_REGION("Square Region", SquareRegionEngine::new),
+        WEIGHTED_SECTORS("Weighted Sectors", WeightedSectorEngine::new);
+
+        @NotNull
+        private final String displayName;
+        @NotNull
+        private final Function<HuskHomes, RandomTeleportEngine> factory;
+
+        Type(@NotNull String displayName, @NotNull Function<HuskHomes, RandomTeleportEngine> factory) {
+            this.displayName = displayName;
+            this.factory = factory;
+        }
+
+        @NotNull
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * Create a new instance of this engine.
+         *
+         * @param plugin The HuskHomes plugin instance
+         * @return the created engine
+         */
+        @NotNull
+        public RandomTeleportEngine create(@NotNull HuskHomes plugin) {
+            return factory.apply(plugin);
+        }
+    }
+
 }
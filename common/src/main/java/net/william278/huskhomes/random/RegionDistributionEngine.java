@@ -0,0 +1,122 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.config.Settings;
+import net.william278.huskhomes.network.Broker;
+import net.william278.huskhomes.position.Location;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+
+/**
+ * A random teleport engine that distributes positions over the configured region about the world center point,
+ * retrying until a safe ground location is found.
+ */
+public abstract class RegionDistributionEngine extends RandomTeleportEngine {
+
+    protected final int minRadius;
+    protected final int maxRadius;
+
+    protected RegionDistributionEngine(@NotNull HuskHomes plugin, @NotNull String name) {
+        super(plugin, name);
+        final Settings.RtpSettings.RtpRadius region = plugin.getSettings().getRtp().getRegion();
+        this.maxRadius = region.getMax();
+        this.minRadius = determineSpawnRadius(region.getMax(), region.getMin(), plugin);
+
+        if (plugin.getSettings().getRtp().isCrossServer()
+                && (plugin.getSettings().getCrossServer().isEnabled()
+                && plugin.getSettings().getCrossServer().getBrokerType() != Broker.Type.REDIS)) {
+            plugin.log(Level.WARNING, "Cross-server /rtp support has been disabled as "
+                    + "a REDIS message broker is required for this feature.");
+        }
+    }
+
+    // Utility for determining a valid spawn radius
+    private static int determineSpawnRadius(int radius, int spawnRadius, @NotNull HuskHomes plugin) {
+        if (spawnRadius >= radius) {
+            plugin.log(Level.WARNING, "The RTP spawn radius is greater than or equal to the RTP radius. "
+                    + "This will result in the RTP engine being unable to find a suitable location to teleport to. "
+                    + "Please set the RTP spawn radius to a value less than the RTP radius.");
+            return radius - 1;
+        }
+        return spawnRadius;
+    }
+
+    /**
+     * Generate a random {@link Location} in the region about the origin position.
+     *
+     * @param origin The origin position
+     * @return A generated location
+     */
+    @NotNull
+    protected abstract Location generateLocation(@NotNull Location origin);
+
+    /**
+     * Generate a safe ground-level {@link Location} in the region about the world center point.
+     *
+     * @param world The world to generate the location in
+     * @return A generated location
+     */
+    private CompletableFuture<Optional<Location>> generateSafeLocation(@NotNull World world) {
+        return plugin.findSafeGroundLocation(generateLocation(getCenterPoint(world)));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Position>> getRandomPosition(@NotNull World world, @NotNull String[] args) {
+        return plugin.supplyAsync(() -> {
+            Optional<Location> location = generateSafeLocation(world).join();
+            int attempts = 0;
+            while (location.isEmpty()) {
+                location = generateSafeLocation(world).join();
+                if (attempts >= maxAttempts) {
+                    return Optional.empty();
+                }
+                attempts++;
+            }
+            return location.map(resolved -> Position.at(resolved, plugin.getServerName()));
+        });
+    }
+
+    /**
+     * Offset an origin position by an x and z value, returning a {@link Location} to search for ground at.
+     *
+     * @param origin The origin position
+     * @param x      The x offset
+     * @param z      The z offset
+     * @return The offset location
+     */
+    @NotNull
+    protected static Location offset(@NotNull Location origin, double x, double z) {
+        return Location.at(
+                Math.round(origin.getX()) + x,
+                128d,
+                Math.round(origin.getZ()) + z,
+                origin.getWorld()
+        );
+    }
+
+}
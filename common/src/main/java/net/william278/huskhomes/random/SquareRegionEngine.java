@@ -0,0 +1,75 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Location;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A random teleport engine that distributes positions uniformly over a square region, excluding an inner square
+ * about the center. The region radii are treated as the half-widths of the inner and outer squares, matching the
+ * shape of a vanilla world border.
+ */
+public final class SquareRegionEngine extends RegionDistributionEngine {
+
+    public SquareRegionEngine(@NotNull HuskHomes plugin) {
+        super(plugin, "Square Region");
+    }
+
+    /**
+     * Generate a {@link Location} uniformly distributed over a square ring about the origin position.
+     *
+     * <p>The ring is split into four rectangular strips (north and south strips spanning the full width, and east and
+     * west strips between them); a strip is picked weighted by its area, then a point is picked uniformly within it.
+     *
+     * @param origin        The origin position
+     * @param minHalfWidth  The half-width of the excluded inner square
+     * @param maxHalfWidth  The half-width of the outer square
+     * @return A generated location
+     */
+    @NotNull
+    public static Location generateLocation(@NotNull Location origin, float minHalfWidth, float maxHalfWidth) {
+        final double band = maxHalfWidth - minHalfWidth;
+        final double northSouthArea = 2 * maxHalfWidth * band;
+        final double eastWestArea = 2 * minHalfWidth * band;
+        final double pick = RandomSampler.nextUniform(0, 2 * (northSouthArea + eastWestArea));
+
+        final double x;
+        final double z;
+        if (pick < 2 * northSouthArea) {
+            x = RandomSampler.nextUniform(-maxHalfWidth, maxHalfWidth);
+            z = RandomSampler.nextUniform(minHalfWidth, maxHalfWidth) * (pick < northSouthArea ? -1 : 1);
+        } else {
+            x = RandomSampler.nextUniform(minHalfWidth, maxHalfWidth)
+                    * (pick < 2 * northSouthArea + eastWestArea ? -1 : 1);
+            z = RandomSampler.nextUniform(-minHalfWidth, minHalfWidth);
+        }
+        return offset(origin, x, z);
+    }
+
+    @NotNull
+    @Override
+    protected Location generateLocation(@NotNull Location origin) {
+        return generateLocation(origin, minRadius, maxRadius);
+    }
+
+}
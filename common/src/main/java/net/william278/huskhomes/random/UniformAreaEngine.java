@@ -0,0 +1,58 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Location;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A random teleport engine that distributes positions uniformly by area over the annulus between the minimum
+ * and maximum region radii, so that every block in the region is equally likely to be picked.
+ */
+public final class UniformAreaEngine extends RegionDistributionEngine {
+
+    public UniformAreaEngine(@NotNull HuskHomes plugin) {
+        super(plugin, "Uniform Area");
+    }
+
+    /**
+     * Generate a {@link Location} uniformly distributed by area over an annulus about the origin position.
+     *
+     * @param origin    The origin position
+     * @param minRadius The inner radius of the annulus
+     * @param maxRadius The outer radius of the annulus
+     * @return A generated location
+     */
+    @NotNull
+    public static Location generateLocation(@NotNull Location origin, float minRadius, float maxRadius) {
+        final double radius = RandomSampler.nextAnnulusRadius(minRadius, maxRadius);
+        final double angle = RandomSampler.nextAngle();
+        return offset(origin, radius * Math.sin(angle), radius * Math.cos(angle));
+    }
+
+    @NotNull
+    @Override
+    protected Location generateLocation(@NotNull Location origin) {
+        return generateLocation(origin, minRadius, maxRadius);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * A random teleport engine that divides the region annulus into equally sized angular sectors, picking a sector
+ * by its configured weight and then a position uniformly by area within it.
+ *
+ * <p>Sectors are ordered starting from due south (positive z) and sweeping towards due east (positive x).
+ */
+public final class WeightedSectorEngine extends RegionDistributionEngine {
+
+    private static final int DEFAULT_SECTORS = 4;
+
+    private final double[] cumulativeWeights;
+
+    public WeightedSectorEngine(@NotNull HuskHomes plugin) {
+        super(plugin, "Weighted Sectors");
+        this.cumulativeWeights = getCumulativeWeights(plugin, plugin.getSettings().getRtp().getSectorWeights());
+    }
+
+    // Fall back to equally weighted sectors if no configured sector has a weight
+    @NotNull
+    private static double[] getCumulativeWeights(@NotNull HuskHomes plugin, @NotNull List<Double> weights) {
+        try {
+            return RandomSampler.getCumulativeWeights(weights);
+        } catch (IllegalArgumentException e) {
+            plugin.log(Level.WARNING, "No RTP sector weight is above zero; weighting all sectors equally");
+            return RandomSampler.getCumulativeWeights(Collections.nCopies(
+                    Math.max(weights.size(), DEFAULT_SECTORS), 1d));
+        }
+    }
+
+    /**
+     * Generate a {@link Location} in a weighted sector of an annulus about the origin position.
+     *
+     * @param origin            The origin position
+     * @param cumulativeWeights The cumulative sector weights, as returned by
+     *                          {@link RandomSampler#getCumulativeWeights(List)}
+     * @param minRadius         The inner radius of the annulus
+     * @param maxRadius         The outer radius of the annulus
+     * @return A generated location
+     */
+    @NotNull
+    public static Location generateLocation(@NotNull Location origin, @NotNull double[] cumulativeWeights,
+                                            float minRadius, float maxRadius) {
+        final double sectorAngle = (Math.PI * 2) / cumulativeWeights.length;
+        final int sector = RandomSampler.nextWeightedIndex(cumulativeWeights);
+        final double angle = RandomSampler.nextUniform(sector * sectorAngle, (sector + 1) * sectorAngle);
+        final double radius = RandomSampler.nextAnnulusRadius(minRadius, maxRadius);
+        return offset(origin, radius * Math.sin(angle), radius * Math.cos(angle));
+    }
+
+    @NotNull
+    @Override
+    protected Location generateLocation(@NotNull Location origin) {
+        return generateLocation(origin, cumulativeWeights, minRadius, maxRadius);
+    }
+
+}
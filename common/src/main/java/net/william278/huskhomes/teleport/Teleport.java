@@ -19,6 +19,7 @@
 
 package net.william278.huskhomes.teleport;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import net.william278.desertwell.util.ThrowingConsumer;
@@ -53,6 +54,8 @@ public class Teleport implements Completable {
     protected final List<TransactionResolver.Action> actions;
     private final boolean async;
     protected final boolean updateLastPosition;
+    @Getter(AccessLevel.NONE)
+    private long startedAt;
 
     protected Teleport(@NotNull OnlineUser executor, @NotNull Teleportable teleporter, @NotNull Target target,
                        @NotNull Type type, boolean updateLastPosition,
@@ -81,34 +84,59 @@ public class Teleport implements Completable {
      * @throws TeleportationException if the teleport fails for some reason.
      */
     public void execute() throws TeleportationException {
-        validateTransactions();
-        resolveLocalTeleporter().ifPresentOrElse(this::executeLocal, this::executeRemote);
+        final TeleportMetrics.Trace trace = plugin.getTeleportMetrics().start();
+        startedAt = System.currentTimeMillis();
+        try {
+            validateTransactions();
+            trace.lap(TeleportMetrics.Stage.VALIDATE);
+            resolveLocalTeleporter().ifPresentOrElse(
+                    teleporter -> executeLocal(teleporter, trace),
+                    () -> executeRemote(trace)
+            );
+        } catch (TeleportationException e) {
+            trace.finish(TeleportMetrics.Outcome.FAILED);
+            throw e;
+        }
     }
 
-    private void executeLocal(@NotNull OnlineUser teleporter) throws TeleportationException {
+    private void executeLocal(@NotNull OnlineUser teleporter,
+                              @NotNull TeleportMetrics.Trace trace) throws TeleportationException {
         if (target instanceof Username username) {
             final Optional<OnlineUser> localTarget = username.name().equals("@s")
                     ? Optional.of(executor) : username.findLocally(plugin);
             if (localTarget.isPresent()) {
-                fireEvent((event) -> {
-                    performTransactions();
+                fireEvent(trace, (event) -> {
+                    if (!performTransactions()) {
+                        trace.finish(TeleportMetrics.Outcome.FAILED);
+                        return;
+                    }
+                    trace.lap(TeleportMetrics.Stage.TRANSACTIONS);
                     if (updateLastPosition) {
-                        plugin.getDatabase().setLastPosition(teleporter, teleporter.getPosition());
+                        plugin.getManager().lastPositions().setLastPosition(teleporter, teleporter.getPosition());
                     }
+                    trace.lap(TeleportMetrics.Stage.PERSIST);
                     teleporter.teleportLocally(localTarget.get().getPosition(), async);
+                    trace.lap(TeleportMetrics.Stage.TELEPORT);
                     this.displayTeleportingComplete(teleporter);
                     teleporter.handleInvulnerability();
+                    trace.finish(TeleportMetrics.Outcome.COMPLETED);
                 });
                 return;
             }
 
             if (plugin.getSettings().getCrossServer().isEnabled()) {
-                fireEvent((event) -> {
-                    performTransactions();
+                fireEvent(trace, (event) -> {
+                    if (!performTransactions()) {
+                        trace.finish(TeleportMetrics.Outcome.FAILED);
+                        return;
+                    }
+                    trace.lap(TeleportMetrics.Stage.TRANSACTIONS);
                     Message.builder()
                             .type(Message.Type.TELEPORT_TO_NETWORKED_POSITION)
                             .target(username.name())
                             .build().send(plugin.getMessenger(), executor);
+                    trace.lap(TeleportMetrics.Stage.TELEPORT);
+                    trace.finish(TeleportMetrics.Outcome.CROSS_SERVER);
                 });
                 return;
             }
@@ -116,48 +144,65 @@ public class Teleport implements Completable {
             throw new TeleportationException(TeleportationException.Type.TARGET_NOT_FOUND, plugin);
         }
 
-        fireEvent((event) -> {
-            performTransactions();
+        fireEvent(trace, (event) -> {
+            if (!performTransactions()) {
+                trace.finish(TeleportMetrics.Outcome.FAILED);
+                return;
+            }
+            trace.lap(TeleportMetrics.Stage.TRANSACTIONS);
             if (updateLastPosition) {
-                plugin.getDatabase().setLastPosition(teleporter, teleporter.getPosition());
+                plugin.getManager().lastPositions().setLastPosition(teleporter, teleporter.getPosition());
             }
 
             final Position target = (Position) this.target;
             if (!plugin.getSettings().getCrossServer().isEnabled()
                     || target.getServer().equals(plugin.getServerName())) {
+                trace.lap(TeleportMetrics.Stage.PERSIST);
                 teleporter.teleportLocally(target, async);
+                trace.lap(TeleportMetrics.Stage.TELEPORT);
                 this.displayTeleportingComplete(teleporter);
                 teleporter.handleInvulnerability();
+                trace.finish(TeleportMetrics.Outcome.COMPLETED);
                 return;
             }
 
+            plugin.getMessenger().getTeleportHandoffs().send(teleporter, target, type);
+            plugin.getManager().lastPositions().persist(teleporter);
             plugin.getDatabase().setCurrentTeleport(teleporter, this);
+            trace.lap(TeleportMetrics.Stage.PERSIST);
             plugin.getMessenger().changeServer(teleporter, target.getServer());
+            trace.lap(TeleportMetrics.Stage.TELEPORT);
+            trace.finish(TeleportMetrics.Outcome.CROSS_SERVER);
         });
     }
 
-    private void executeRemote() throws TeleportationException {
+    private void executeRemote(@NotNull TeleportMetrics.Trace trace) throws TeleportationException {
         final Username teleporter = (Username) this.teleporter;
         if (!plugin.getSettings().getCrossServer().isEnabled()) {
             throw new TeleportationException(TeleportationException.Type.TELEPORTER_NOT_FOUND, plugin);
         }
 
-        fireEvent((event) -> {
-            performTransactions();
+        fireEvent(trace, (event) -> {
+            if (!performTransactions()) {
+                trace.finish(TeleportMetrics.Outcome.FAILED);
+                return;
+            }
+            trace.lap(TeleportMetrics.Stage.TRANSACTIONS);
             if (target instanceof Username username) {
                 Message.builder()
                         .type(Message.Type.TELEPORT_TO_NETWORKED_USER)
                         .target(teleporter.name())
                         .payload(Payload.withString(username.name()))
                         .build().send(plugin.getMessenger(), executor);
-                return;
+            } else {
+                Message.builder()
+                        .type(Message.Type.TELEPORT_TO_POSITION)
+                        .target(teleporter.name())
+                        .payload(Payload.withPosition((Position) target))
+                        .build().send(plugin.getMessenger(), executor);
             }
-
-            Message.builder()
-                    .type(Message.Type.TELEPORT_TO_POSITION)
-                    .target(teleporter.name())
-                    .payload(Payload.withPosition((Position) target))
-                    .build().send(plugin.getMessenger(), executor);
+            trace.lap(TeleportMetrics.Stage.TELEPORT);
+            trace.finish(TeleportMetrics.Outcome.CROSS_SERVER);
         });
     }
 
@@ -176,23 +221,38 @@ public class Teleport implements Completable {
                 .ifPresent(teleporter::playSound);
     }
 
-    // Fire the teleport event
-    private void fireEvent(@NotNull ThrowingConsumer<ITeleportEvent> afterFired) {
-        plugin.fireEvent(plugin.getTeleportEvent(this), afterFired);
+    // Fire the teleport event, tracing how long it takes and whether it was cancelled
+    private void fireEvent(@NotNull TeleportMetrics.Trace trace,
+                           @NotNull ThrowingConsumer<ITeleportEvent> afterFired) {
+        final ITeleportEvent event = plugin.getTeleportEvent(this);
+        plugin.runSync(() -> {
+            if (plugin.fireIsCancelled(event)) {
+                trace.finish(TeleportMetrics.Outcome.CANCELLED);
+                return;
+            }
+            plugin.runAsync(() -> {
+                trace.lap(TeleportMetrics.Stage.EVENT);
+                try {
+                    afterFired.accept(event);
+                } catch (RuntimeException e) {
+                    trace.finish(TeleportMetrics.Outcome.FAILED);
+                    throw e;
+                }
+            });
+        });
     }
 
     // Check economy actions
     protected void validateTransactions() throws TeleportationException {
-        if (actions.stream()
-                .map(action -> plugin.validateTransaction(executor, action))
-                .anyMatch(result -> !result)) {
+        if (!plugin.validateTransactions(executor, actions)) {
             throw new TeleportationException(TeleportationException.Type.TRANSACTION_FAILED, plugin);
         }
     }
 
-    // Perform economy and cooldown transactions
-    private void performTransactions() {
-        actions.forEach(action -> plugin.performTransaction(executor, action));
+    // Perform economy and cooldown transactions, returning false if the executor can no longer afford them.
+    // The balance read when validating this teleport is reused; an older one is read again
+    private boolean performTransactions() {
+        return plugin.performTransactions(executor, actions, startedAt);
     }
 
     /**
@@ -53,22 +53,28 @@ public class TeleportBuilder {
 
     @NotNull
     public Teleport toTeleport() throws TeleportationException {
+        final long startTime = System.nanoTime();
         this.validateTeleport();
-        return new Teleport(executor, teleporter, target, type, updateLastPosition, actions, plugin);
+        final Teleport teleport = new Teleport(executor, teleporter, target, type, updateLastPosition, actions, plugin);
+        plugin.getTeleportMetrics().record(TeleportMetrics.Stage.BUILD, System.nanoTime() - startTime);
+        return teleport;
     }
 
     @NotNull
     public TimedTeleport toTimedTeleport() throws IllegalStateException {
+        final long startTime = System.nanoTime();
         this.validateTeleport();
         if (!(teleporter instanceof OnlineUser onlineTeleporter)) {
             throw new IllegalStateException("Teleporter must be an OnlineUser for timed teleportation");
         }
 
-        return new TimedTeleport(
+        final TimedTeleport teleport = new TimedTeleport(
                 executor, onlineTeleporter, target, type,
                 onlineTeleporter.getMaxTeleportWarmup(plugin.getSettings().getGeneral().getTeleportWarmupTime()),
                 updateLastPosition, actions, plugin
         );
+        plugin.getTeleportMetrics().record(TeleportMetrics.Stage.BUILD, System.nanoTime() - startTime);
+        return teleport;
     }
 
     public boolean buildAndComplete(boolean timed, @NotNull String... args) {
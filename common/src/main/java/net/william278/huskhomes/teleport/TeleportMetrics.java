@@ -0,0 +1,202 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.teleport;
+
+import net.william278.huskhomes.util.LatencyHistogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long each stage of teleport execution takes, and how teleports end.
+ *
+ * @since 4.8
+ */
+public class TeleportMetrics {
+
+    private final Map<Stage, LatencyHistogram> stages = new EnumMap<>(Stage.class);
+    private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+
+    public TeleportMetrics() {
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new LatencyHistogram());
+        }
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    /**
+     * Get the histogram of durations recorded for a stage.
+     *
+     * @param stage the stage
+     * @return the stage's {@link LatencyHistogram}
+     */
+    @NotNull
+    public LatencyHistogram getHistogram(@NotNull Stage stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * Get the number of teleports that have ended with an outcome.
+     *
+     * @param outcome the outcome
+     * @return the number of teleports
+     */
+    public long getCount(@NotNull Outcome outcome) {
+        return outcomes.get(outcome).sum();
+    }
+
+    /**
+     * Record a stage duration.
+     *
+     * @param stage the stage
+     * @param nanos the duration, in nanoseconds
+     */
+    public void record(@NotNull Stage stage, long nanos) {
+        stages.get(stage).record(nanos);
+    }
+
+    /**
+     * Record a teleport outcome.
+     *
+     * @param outcome the outcome
+     */
+    public void record(@NotNull Outcome outcome) {
+        outcomes.get(outcome).increment();
+    }
+
+    /**
+     * Start tracing the execution of a teleport.
+     *
+     * @return the {@link Trace}
+     */
+    @NotNull
+    public Trace start() {
+        return new Trace();
+    }
+
+    /**
+     * Times the stages of one teleport's execution, which run in sequence.
+     */
+    public final class Trace {
+
+        private final long startTime = System.nanoTime();
+        private long lapTime = startTime;
+        private boolean finished;
+
+        private Trace() {
+        }
+
+        /**
+         * Record a stage as having completed, timed from when the previous stage completed.
+         *
+         * @param stage the stage that completed
+         */
+        public void lap(@NotNull Stage stage) {
+            final long now = System.nanoTime();
+            record(stage, now - lapTime);
+            lapTime = now;
+        }
+
+        /**
+         * Finish the trace, recording the total execution time and the outcome. Only the first call has an effect.
+         *
+         * @param outcome how the teleport ended
+         */
+        public synchronized void finish(@NotNull Outcome outcome) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            record(Stage.TOTAL, System.nanoTime() - startTime);
+            record(outcome);
+        }
+
+    }
+
+    /**
+     * Stages of teleport execution.
+     */
+    public enum Stage {
+        /**
+         * Building the teleport from a {@link TeleportBuilder}.
+         */
+        BUILD,
+        /**
+         * Waiting out the warmup of a {@link TimedTeleport}.
+         */
+        WARMUP,
+        /**
+         * Validating economy and cooldown transactions.
+         */
+        VALIDATE,
+        /**
+         * Firing the teleport event, including scheduling it on and off the main thread.
+         */
+        EVENT,
+        /**
+         * Performing economy and cooldown transactions.
+         */
+        TRANSACTIONS,
+        /**
+         * Recording the last position and, for cross-server teleports, writing the teleport to the database.
+         */
+        PERSIST,
+        /**
+         * Teleporting the player locally, or sending them to another server.
+         */
+        TELEPORT,
+        /**
+         * The whole execution, from validation to the outcome.
+         */
+        TOTAL
+    }
+
+    /**
+     * How a teleport ended.
+     */
+    public enum Outcome {
+        /**
+         * The teleporter was teleported on this server.
+         */
+        COMPLETED,
+        /**
+         * The teleport was handed to another server to complete.
+         */
+        CROSS_SERVER,
+        /**
+         * The teleport event was cancelled.
+         */
+        CANCELLED,
+        /**
+         * The teleport warmup was cancelled by the teleporter moving or taking damage.
+         */
+        WARMUP_CANCELLED,
+        /**
+         * The teleport failed, such as due to a failed transaction or missing target.
+         */
+        FAILED
+    }
+
+}
@@ -47,7 +47,6 @@ public class TeleportRequest {
     private Position requesterPosition;
     @Expose
     @SerializedName("expiry_time")
-    @Getter(AccessLevel.NONE)
     @Setter(AccessLevel.NONE)
     private long expiryTime;
     @Expose
@@ -71,6 +70,24 @@ public class TeleportRequest {
         this.expiryTime = expiryTime;
     }
 
+    /**
+     * Create a copy of this request addressed to a recipient, for sending one request to many players.
+     *
+     * @param recipientName the name of the recipient
+     * @return the addressed copy of the request
+     */
+    @NotNull
+    public TeleportRequest copyFor(@NotNull String recipientName) {
+        final TeleportRequest copy = new TeleportRequest();
+        copy.setRequesterName(requesterName);
+        copy.setRequesterPosition(requesterPosition);
+        copy.setType(type);
+        copy.setStatus(Status.PENDING);
+        copy.setRecipientName(recipientName);
+        copy.expiryTime = expiryTime;
+        return copy;
+    }
+
     /**
      * Returns if the request has now expired.
      *
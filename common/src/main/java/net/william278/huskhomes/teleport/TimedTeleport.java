@@ -25,9 +25,9 @@ import net.william278.huskhomes.config.Settings;
 import net.william278.huskhomes.event.ITeleportWarmupCancelledEvent;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.user.OnlineUser;
-import net.william278.huskhomes.util.Task;
 import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -37,14 +37,19 @@ import java.util.List;
  *
  * @see Teleport#builder(HuskHomes)
  */
-public class TimedTeleport extends Teleport implements Runnable, Completable {
+public class TimedTeleport extends Teleport implements Completable {
 
     public static final String BYPASS_PERMISSION = "huskhomes.bypass_teleport_warmup";
+    private static final long PRELOAD_RELEASE_DELAY_TICKS = 100L;
+    private static final double MAX_MOVEMENT_DISTANCE = 0.1d;
     private final OnlineUser teleporter;
     private final Position startLocation;
-    private final double startHealth;
     private final int warmupTime;
-    private Task.Repeating task;
+    private final int preloadRadius;
+    @Nullable
+    private Position preloadedDestination;
+    private volatile boolean cancelled;
+    private long warmupStartTime;
     private int timeLeft;
 
     protected TimedTeleport(@NotNull OnlineUser executor, @NotNull OnlineUser teleporter, @NotNull Target target,
@@ -52,9 +57,9 @@ public class TimedTeleport extends Teleport implements Runnable, Completable {
                             @NotNull List<TransactionResolver.Action> actions, @NotNull HuskHomes plugin) {
         super(teleporter, executor, target, type, updateLastPosition, actions, plugin);
         this.startLocation = teleporter.getPosition();
-        this.startHealth = teleporter.getHealth();
         this.warmupTime = warmupTime;
         this.timeLeft = Math.max(warmupTime, 0);
+        this.preloadRadius = plugin.getSettings().getGeneral().getTeleportWarmupPreloadRadius();
         this.teleporter = teleporter;
     }
 
@@ -86,18 +91,29 @@ public class TimedTeleport extends Teleport implements Runnable, Completable {
     // Execute the warmup, fire the event, then execute the teleport if warmup completes normally
     private void process() {
         plugin.fireEvent(plugin.getTeleportWarmupEvent(this, timeLeft), (event) -> {
-            plugin.getCurrentlyOnWarmup().add(teleporter.getUuid());
+            if (!plugin.getWarmupTicker().register(this)) {
+                return;
+            }
+            this.warmupStartTime = System.nanoTime();
             plugin.getLocales().getLocale("teleporting_warmup_start", Integer.toString(timeLeft))
                     .ifPresent(teleporter::sendMessage);
-
-            // Run the warmup
-            this.task = plugin.getRepeatingTask(this, 20L);
-            this.task.run();
+            this.preloadDestination();
         });
     }
 
-    @Override
-    public void run() {
+    /**
+     * Tick the warmup, displaying the countdown and executing the teleport once the warmup has elapsed.
+     *
+     * <p>Called once per second by the {@link WarmupTicker}. Movement and damage are handled by platform
+     * listeners, which {@link WarmupTicker#cancel cancel} the warmup as soon as they occur.
+     *
+     * @return {@code true} if the timed teleport has finished, {@code false} otherwise
+     */
+    boolean tick() {
+        if (cancelled) {
+            return true;
+        }
+
         // Display a countdown action bar message
         if (timeLeft > 0) {
             plugin.getSettings().getGeneral().getSoundEffects().get(Settings.SoundEffectAction.TELEPORTATION_WARMUP)
@@ -107,87 +123,99 @@ public class TimedTeleport extends Teleport implements Runnable, Completable {
         } else {
             plugin.getLocales().getLocale("teleporting_action_bar_processing")
                     .ifPresent(this::sendStatusMessage);
+            plugin.getTeleportMetrics().record(TeleportMetrics.Stage.WARMUP, System.nanoTime() - warmupStartTime);
 
-            try {
-                super.execute();
-            } catch (TeleportationException e) {
-                e.displayMessage(teleporter);
-                task.cancel();
-                plugin.getCurrentlyOnWarmup().remove(teleporter.getUuid());
-                return;
+            // Unregister before teleporting, so the teleport itself isn't seen as the teleporter moving. Transaction
+            // checks query the database, so complete the teleport off the ticking thread
+            if (plugin.getWarmupTicker().unregister(this)) {
+                plugin.runAsync(this::complete);
             }
+            return true;
         }
 
-        // Tick (decrement) the timed teleport timer and end it if done
-        if (tickAndGetIfDone()) {
-            task.cancel();
-            plugin.getCurrentlyOnWarmup().remove(teleporter.getUuid());
-        }
+        // Tick (decrement) the timed teleport timer
+        timeLeft--;
+        return false;
     }
 
-    /**
-     * Ticks a timed teleport, decrementing the time left until the teleport is complete.
-     *
-     * <p>A timed teleport will be canceled if certain criteria are met:
-     * <ul>
-     *     <li>The player has left the server</li>
-     *     <li>The plugin is disabling</li>
-     *     <li>The player has moved beyond the movement threshold from when the warmup started</li>
-     *     <li>The player has taken damage (though they may heal, have status ailments or lose/gain hunger)</li>
-     * </ul>
-     *
-     * @return {@code true} if the warmup is complete, {@code false} otherwise
-     */
-    private boolean tickAndGetIfDone() {
-        if (timeLeft <= 0) {
-            return true;
+    // Execute the teleport once the warmup has elapsed
+    private void complete() {
+        try {
+            super.execute();
+        } catch (TeleportationException e) {
+            e.displayMessage(teleporter);
+        } finally {
+            this.releaseDestination();
         }
+    }
 
-        // Cancel the timed teleport if the player takes damage
-        if (hasTeleporterTakenDamage() && plugin.getSettings().getGeneral().isTeleportWarmupCancelOnDamage()) {
-            plugin.fireEvent(plugin.getTeleportWarmupCancelledEvent(this, warmupTime,
-                    timeLeft, ITeleportWarmupCancelledEvent.CancelReason.PLAYER_DAMAGE), null);
-            plugin.getLocales().getLocale("teleporting_cancelled_damage")
-                    .ifPresent(teleporter::sendMessage);
-            plugin.getLocales().getLocale("teleporting_action_bar_cancelled")
-                    .ifPresent(this::sendStatusMessage);
-            plugin.getSettings().getGeneral().getSoundEffects().get(Settings.SoundEffectAction.TELEPORTATION_CANCELLED)
-                    .ifPresent(teleporter::playSound);
-            return true;
+    // Pre-load the chunks around the destination during the warmup, if it's a position on this server
+    private void preloadDestination() {
+        if (preloadRadius <= 0 || !(target instanceof Position position)) {
+            return;
+        }
+        if (plugin.getSettings().getCrossServer().isEnabled()
+                && !position.getServer().equals(plugin.getServerName())) {
+            return;
         }
+        this.preloadedDestination = position;
+        plugin.preloadChunks(position, preloadRadius);
+    }
 
-        // Cancel the timed teleport if the player moves
-        if (hasTeleporterMoved() && plugin.getSettings().getGeneral().isTeleportWarmupCancelOnMove()) {
-            plugin.fireEvent(plugin.getTeleportWarmupCancelledEvent(this, warmupTime,
-                    timeLeft, ITeleportWarmupCancelledEvent.CancelReason.PLAYER_MOVE), null);
-            plugin.getLocales().getLocale("teleporting_cancelled_movement")
-                    .ifPresent(teleporter::sendMessage);
-            plugin.getLocales().getLocale("teleporting_action_bar_cancelled")
-                    .ifPresent(this::sendStatusMessage);
-            plugin.getSettings().getGeneral().getSoundEffects().get(Settings.SoundEffectAction.TELEPORTATION_CANCELLED)
-                    .ifPresent(teleporter::playSound);
-            return true;
+    // Release pre-loaded chunks, after a delay to allow the teleport to finish and the teleporter to load them
+    private synchronized void releaseDestination() {
+        final Position destination = preloadedDestination;
+        if (destination == null) {
+            return;
         }
+        this.preloadedDestination = null;
+        plugin.runAsyncDelayed(() -> plugin.releaseChunks(destination, preloadRadius), PRELOAD_RELEASE_DELAY_TICKS);
+    }
 
-        // Decrement the countdown timer
-        timeLeft--;
-        return false;
+    /**
+     * Cancel the warmup, notifying the teleporter. Called by the {@link WarmupTicker} once the warmup has been
+     * unregistered, so this is only ever called once.
+     *
+     * @param reason the reason the warmup was cancelled
+     */
+    void cancel(@NotNull ITeleportWarmupCancelledEvent.CancelReason reason) {
+        this.cancelled = true;
+        plugin.getTeleportMetrics().record(TeleportMetrics.Stage.WARMUP, System.nanoTime() - warmupStartTime);
+        plugin.getTeleportMetrics().record(TeleportMetrics.Outcome.WARMUP_CANCELLED);
+        plugin.fireEvent(plugin.getTeleportWarmupCancelledEvent(this, warmupTime, timeLeft, reason), null);
+        plugin.getLocales().getLocale(reason == ITeleportWarmupCancelledEvent.CancelReason.PLAYER_DAMAGE
+                        ? "teleporting_cancelled_damage" : "teleporting_cancelled_movement")
+                .ifPresent(teleporter::sendMessage);
+        plugin.getLocales().getLocale("teleporting_action_bar_cancelled")
+                .ifPresent(this::sendStatusMessage);
+        plugin.getSettings().getGeneral().getSoundEffects().get(Settings.SoundEffectAction.TELEPORTATION_CANCELLED)
+                .ifPresent(teleporter::playSound);
+        this.releaseDestination();
     }
 
     private void sendStatusMessage(@NotNull MineDown message) {
         teleporter.sendMessage(message, plugin.getSettings().getGeneral().getTeleportWarmupDisplay());
     }
 
-    private boolean hasTeleporterMoved() {
-        final double maxMovementDistance = 0.1d;
-        double movementDistance = Math.abs(startLocation.getX() - teleporter.getPosition().getX())
-                + Math.abs(startLocation.getY() - teleporter.getPosition().getY())
-                + Math.abs(startLocation.getZ() - teleporter.getPosition().getZ());
-        return movementDistance > maxMovementDistance;
+    /**
+     * Returns if the given coordinates are beyond the movement threshold from where the warmup started.
+     *
+     * @param x the teleporter's x coordinate
+     * @param y the teleporter's y coordinate
+     * @param z the teleporter's z coordinate
+     * @return {@code true} if the teleporter has moved too far to continue the warmup
+     */
+    public boolean hasMovedFrom(double x, double y, double z) {
+        final double movementDistance = Math.abs(startLocation.getX() - x)
+                + Math.abs(startLocation.getY() - y)
+                + Math.abs(startLocation.getZ() - z);
+        return movementDistance > MAX_MOVEMENT_DISTANCE;
     }
 
-    private boolean hasTeleporterTakenDamage() {
-        return teleporter.getHealth() < startHealth;
+    @NotNull
+    @Override
+    public OnlineUser getTeleporter() {
+        return teleporter;
     }
 
 }
@@ -0,0 +1,169 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.teleport;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.event.ITeleportWarmupCancelledEvent;
+import net.william278.huskhomes.util.Task;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ticks every active {@link TimedTeleport} from a single repeating task, rather than scheduling one task per warmup.
+ *
+ * <p>The ticker only drives warmup countdowns; platform listeners {@link #cancel cancel} warmups when the
+ * teleporter moves or takes damage. The task is started when the first warmup is registered and stopped once no
+ * warmups remain.
+ */
+public class WarmupTicker implements Runnable {
+
+    private static final long TICK_INTERVAL = 20L;
+
+    protected final HuskHomes plugin;
+    private final Map<UUID, TimedTeleport> warmups = new ConcurrentHashMap<>();
+    @Nullable
+    private Task.Repeating task;
+
+    public WarmupTicker(@NotNull HuskHomes plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Start ticking a timed teleport.
+     *
+     * @param teleport the timed teleport
+     * @return {@code false} if the teleporter already has a warmup in progress
+     */
+    public boolean register(@NotNull TimedTeleport teleport) {
+        if (warmups.putIfAbsent(teleport.getTeleporter().getUuid(), teleport) != null) {
+            return false;
+        }
+        synchronized (this) {
+            if (task == null) {
+                task = plugin.getRepeatingTask(this, TICK_INTERVAL);
+                task.run();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stop ticking a user's timed teleport, if they have one in progress.
+     *
+     * @param userUuid the user's UUID
+     * @return the removed timed teleport, if there was one
+     */
+    public Optional<TimedTeleport> unregister(@NotNull UUID userUuid) {
+        return Optional.ofNullable(warmups.remove(userUuid));
+    }
+
+    // Stop ticking a timed teleport, returning false if it was no longer registered (i.e. it has been cancelled)
+    boolean unregister(@NotNull TimedTeleport teleport) {
+        return warmups.remove(teleport.getTeleporter().getUuid(), teleport);
+    }
+
+    /**
+     * Cancel a user's timed teleport, if they have one in progress, notifying them of the cancellation.
+     *
+     * @param userUuid the user's UUID
+     * @param reason   the reason the warmup was cancelled
+     */
+    public void cancel(@NotNull UUID userUuid, @NotNull ITeleportWarmupCancelledEvent.CancelReason reason) {
+        unregister(userUuid).ifPresent(teleport -> teleport.cancel(reason));
+    }
+
+    /**
+     * Returns if the given user is currently warming up to teleport.
+     *
+     * @param userUuid the user's UUID
+     * @return {@code true} if the user has a timed teleport in progress
+     */
+    public boolean isWarmingUp(@NotNull UUID userUuid) {
+        return warmups.containsKey(userUuid);
+    }
+
+    /**
+     * Get the timed teleport a user has in progress.
+     *
+     * @param userUuid the user's UUID
+     * @return the timed teleport, if there is one
+     */
+    public Optional<TimedTeleport> getWarmup(@NotNull UUID userUuid) {
+        return Optional.ofNullable(warmups.get(userUuid));
+    }
+
+    /**
+     * Get the UUIDs of users currently warming up to teleport.
+     *
+     * @return an unmodifiable view of the UUIDs of users with a timed teleport in progress
+     */
+    @NotNull
+    public Set<UUID> getWarmingUpUsers() {
+        return Collections.unmodifiableSet(warmups.keySet());
+    }
+
+    /**
+     * Get the timed teleports currently in progress.
+     *
+     * @return an unmodifiable view of the active timed teleports
+     */
+    @NotNull
+    public Collection<TimedTeleport> getWarmups() {
+        return Collections.unmodifiableCollection(warmups.values());
+    }
+
+    @Override
+    public void run() {
+        if (warmups.isEmpty()) {
+            synchronized (this) {
+                if (warmups.isEmpty() && task != null) {
+                    task.cancel();
+                    task = null;
+                }
+            }
+            return;
+        }
+        warmups.values().forEach(this::dispatch);
+    }
+
+    /**
+     * Tick a timed teleport, removing it once it has finished.
+     *
+     * <p>Platforms with region-threaded schedulers should override this to tick teleports on the thread owning
+     * the teleporter.
+     *
+     * @param teleport the timed teleport to tick
+     */
+    protected void dispatch(@NotNull TimedTeleport teleport) {
+        if (teleport.tick()) {
+            warmups.remove(teleport.getTeleporter().getUuid(), teleport);
+        }
+    }
+
+}
@@ -301,20 +301,6 @@ public abstract class OnlineUser extends User implements Teleportable, CommandUs
      */
     @NotNull
     protected List<Integer> getNumericalPermissions(@NotNull String nodePrefix) {
-        return getPermissions().entrySet().stream()
-                .filter(Map.Entry::getValue)
-                .filter(permission -> permission.getKey().startsWith(nodePrefix))
-                .filter(permission -> {
-                    try {
-                        // Remove node prefix from the permission and parse as an integer
-                        Integer.parseInt(permission.getKey().substring(nodePrefix.length()));
-                    } catch (final NumberFormatException e) {
-                        return false;
-                    }
-                    return true;
-                })
-                .map(permission -> Integer.parseInt(permission.getKey().substring(nodePrefix.length())))
-                .sorted(Collections.reverseOrder())
-                .toList();
+        return plugin.getPermissionLimits().getValues(this, nodePrefix);
     }
 }
\ No newline at end of file
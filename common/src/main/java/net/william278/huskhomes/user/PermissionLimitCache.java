@@ -0,0 +1,143 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.user;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the numerical permission node values (max homes, teleport warmup, etc.) of online users.
+ *
+ * <p>Each user's values are read from a single pass over their effective permissions, and kept for a short time,
+ * or until {@link #invalidate(UUID) invalidated} (i.e. when the user logs in or out, or their permissions change).
+ * All values are {@link #invalidateAll() invalidated} when the plugin is reloaded.
+ *
+ * @since 4.8
+ */
+public class PermissionLimitCache {
+
+    /**
+     * Prefixes of the numerical permission nodes that are cached.
+     */
+    public static final List<String> NODE_PREFIXES = List.of(
+            "huskhomes.max_homes.",
+            "huskhomes.max_public_homes.",
+            "huskhomes.free_homes.",
+            "huskhomes.teleport_warmup."
+    );
+    private static final long SNAPSHOT_LIFETIME = TimeUnit.SECONDS.toNanos(10);
+
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Get the values of a user's numerical permission nodes with a prefix.
+     *
+     * @param user       the user
+     * @param nodePrefix the prefix of the permission nodes
+     * @return the values of the nodes, sorted largest first
+     */
+    @NotNull
+    public List<Integer> getValues(@NotNull OnlineUser user, @NotNull String nodePrefix) {
+        if (!NODE_PREFIXES.contains(nodePrefix)) {
+            return readValues(user.getPermissions(), nodePrefix);
+        }
+
+        final long now = System.nanoTime();
+        Snapshot snapshot = snapshots.get(user.getUuid());
+        if (snapshot == null || now - snapshot.created() > SNAPSHOT_LIFETIME) {
+            snapshot = Snapshot.of(user.getPermissions(), now);
+            snapshots.put(user.getUuid(), snapshot);
+        }
+        return snapshot.values().getOrDefault(nodePrefix, List.of());
+    }
+
+    /**
+     * Invalidate the cached values of a user, so they are re-read from their permissions on next use.
+     *
+     * @param uuid the UUID of the user
+     */
+    public void invalidate(@NotNull UUID uuid) {
+        snapshots.remove(uuid);
+    }
+
+    /**
+     * Invalidate the cached values of all users.
+     */
+    public void invalidateAll() {
+        snapshots.clear();
+    }
+
+    // Read the values of the granted numerical permission nodes with a prefix, sorted largest first
+    @NotNull
+    private static List<Integer> readValues(@NotNull Map<String, Boolean> permissions, @NotNull String nodePrefix) {
+        final List<Integer> values = new ArrayList<>();
+        permissions.forEach((node, granted) -> {
+            if (Boolean.TRUE.equals(granted) && node.startsWith(nodePrefix)) {
+                parseValue(node, nodePrefix.length(), values);
+            }
+        });
+        values.sort(Collections.reverseOrder());
+        return values;
+    }
+
+    private static void parseValue(@NotNull String node, int start, @NotNull List<Integer> values) {
+        try {
+            values.add(Integer.parseInt(node, start, node.length(), 10));
+        } catch (NumberFormatException ignored) {
+            // empty catch
+        }
+    }
+
+    private record Snapshot(@NotNull Map<String, List<Integer>> values, long created) {
+
+        // Read the values of every cached prefix from a single pass over the permissions
+        @NotNull
+        private static Snapshot of(@NotNull Map<String, Boolean> permissions, long created) {
+            final Map<String, List<Integer>> values = new HashMap<>();
+            permissions.forEach((node, granted) -> {
+                if (!Boolean.TRUE.equals(granted) || !node.startsWith("huskhomes.")) {
+                    return;
+                }
+                for (String prefix : NODE_PREFIXES) {
+                    if (node.startsWith(prefix)) {
+                        parseValue(node, prefix.length(), values.computeIfAbsent(prefix, p -> new ArrayList<>()));
+                        break;
+                    }
+                }
+            });
+            values.replaceAll((prefix, list) -> {
+                list.sort(Collections.reverseOrder());
+                return List.copyOf(list);
+            });
+            return new Snapshot(values, created);
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.user;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.teleport.Teleport;
+import net.william278.huskhomes.teleport.TeleportationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An immutable snapshot of the data saved about a user, loaded together when they join the server.
+ *
+ * @see net.william278.huskhomes.database.Database#loadSession(User)
+ * @since 4.8
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UserSession {
+
+    @NotNull
+    private final SavedUser savedUser;
+    @NotNull
+    private final List<Home> homes;
+    @Nullable
+    private final PendingTeleport pendingTeleport;
+
+    /**
+     * Create a new user session snapshot.
+     *
+     * @param savedUser       the user's saved data
+     * @param homes           the user's homes
+     * @param pendingTeleport the cross-server teleport the user is completing, if any
+     * @return the session
+     */
+    @NotNull
+    public static UserSession of(@NotNull SavedUser savedUser, @NotNull List<Home> homes,
+                                 @Nullable PendingTeleport pendingTeleport) {
+        return new UserSession(savedUser, List.copyOf(homes), pendingTeleport);
+    }
+
+    /**
+     * Create a session for a user with no saved data.
+     *
+     * @param user the user
+     * @return the session
+     */
+    @NotNull
+    public static UserSession empty(@NotNull User user) {
+        return new UserSession(new SavedUser(user, 0, false), List.of(), null);
+    }
+
+    /**
+     * Get a copy of this session for a user whose username has changed.
+     *
+     * @param user the user, with their current username
+     * @return the session
+     */
+    @NotNull
+    public UserSession withUser(@NotNull User user) {
+        return new UserSession(
+                new SavedUser(user, savedUser.getHomeSlots(), savedUser.isIgnoringTeleports()),
+                homes, pendingTeleport
+        );
+    }
+
+    /**
+     * Get the cross-server teleport the user is completing, if any.
+     *
+     * @return the pending teleport
+     */
+    public Optional<PendingTeleport> getPendingTeleport() {
+        return Optional.ofNullable(pendingTeleport);
+    }
+
+    /**
+     * A cross-server teleport saved to the database for a user to complete on joining.
+     *
+     * @param target the teleport destination
+     * @param type   the teleport type
+     */
+    public record PendingTeleport(@NotNull Position target, @NotNull Teleport.Type type) {
+
+        /**
+         * Build the teleport for the joining user.
+         *
+         * @param plugin     the plugin instance
+         * @param teleporter the joining user
+         * @return the teleport
+         * @throws TeleportationException if the teleport could not be built
+         */
+        @NotNull
+        public Teleport toTeleport(@NotNull HuskHomes plugin,
+                                   @NotNull OnlineUser teleporter) throws TeleportationException {
+            return Teleport.builder(plugin)
+                    .teleporter(teleporter)
+                    .target(target)
+                    .type(type)
+                    .updateLastPosition(false)
+                    .toTeleport();
+        }
+
+    }
+
+}
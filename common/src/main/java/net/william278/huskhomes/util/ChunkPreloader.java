@@ -0,0 +1,56 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.util;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Location;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Pre-loads the chunks around a teleport destination, so that they are ready by the time the teleport completes.
+ *
+ * <p>Platforms that don't support pre-loading chunks may leave these as no-ops.
+ */
+public interface ChunkPreloader {
+
+    /**
+     * Asynchronously load the chunks within a square radius of a location, holding them loaded until
+     * {@link #releaseChunks(Location, int) released}.
+     *
+     * @param location the location to load chunks around
+     * @param radius   the radius, in chunks, to load around the location's chunk
+     */
+    default void preloadChunks(@NotNull Location location, int radius) {
+    }
+
+    /**
+     * Release chunks previously held loaded by {@link #preloadChunks(Location, int)}, allowing them to unload.
+     *
+     * @param location the location chunks were loaded around
+     * @param radius   the radius, in chunks, chunks were loaded around the location's chunk
+     */
+    default void releaseChunks(@NotNull Location location, int radius) {
+    }
+
+    @NotNull
+    HuskHomes getPlugin();
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reference counts the chunk tickets held by a {@link ChunkPreloader}, so that chunks preloaded for several teleports
+ * at once stay loaded until every teleport has released them.
+ */
+public final class ChunkTickets {
+
+    private final Map<Key, Integer> references = new HashMap<>();
+
+    /**
+     * Take a reference to a chunk ticket. Call this when a preload is requested, before the ticket is added.
+     *
+     * @param key the ticket key
+     */
+    public synchronized void acquire(@NotNull Key key) {
+        references.merge(key, 1, Integer::sum);
+    }
+
+    /**
+     * Add a chunk ticket, if it is still referenced. Preloads complete asynchronously, so a ticket may have been
+     * released before it can be added; it must then not be added, or it would never be removed.
+     *
+     * @param key       the ticket key
+     * @param addTicket adds the ticket to the world
+     */
+    public synchronized void addIfHeld(@NotNull Key key, @NotNull Runnable addTicket) {
+        if (references.containsKey(key)) {
+            addTicket.run();
+        }
+    }
+
+    /**
+     * Release a reference to a chunk ticket, removing the ticket once it is no longer referenced.
+     *
+     * @param key          the ticket key
+     * @param removeTicket removes the ticket from the world
+     */
+    public synchronized void release(@NotNull Key key, @NotNull Runnable removeTicket) {
+        final Integer count = references.get(key);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            references.put(key, count - 1);
+            return;
+        }
+        references.remove(key);
+        removeTicket.run();
+    }
+
+    /**
+     * Identifies a chunk ticket.
+     *
+     * @param world  the world the chunk is in
+     * @param x      the chunk x coordinate
+     * @param z      the chunk z coordinate
+     * @param radius the radius, in chunks, the ticket holds loaded around the chunk
+     */
+    public record Key(@NotNull UUID world, int x, int z, int radius) {
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations, bucketed by powers of two microseconds.
+ *
+ * <p>Percentiles are reported as the upper bound of the bucket they fall in, so are accurate to within a factor
+ * of two; the mean and maximum are exact.
+ *
+ * @since 4.8
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos the duration, in nanoseconds
+     */
+    public void record(long nanos) {
+        final long micros = Math.max(nanos / 1000L, 1L);
+        buckets.incrementAndGet(Math.min(63 - Long.numberOfLeadingZeros(micros), BUCKETS - 1));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Get the number of durations recorded.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get the mean recorded duration.
+     *
+     * @return the mean, or {@link Duration#ZERO} if nothing has been recorded
+     */
+    @NotNull
+    public Duration getMean() {
+        final long recorded = getCount();
+        return recorded == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / recorded);
+    }
+
+    /**
+     * Get the longest recorded duration.
+     *
+     * @return the maximum
+     */
+    @NotNull
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Get the duration that a fraction of recorded durations fall within.
+     *
+     * @param percentile the fraction, between {@code 0} and {@code 1} (e.g. {@code 0.95} for the 95th percentile)
+     * @return the percentile, or {@link Duration#ZERO} if nothing has been recorded
+     */
+    @NotNull
+    public Duration getPercentile(double percentile) {
+        long remaining = (long) Math.ceil(Math.min(Math.max(percentile, 0d), 1d) * getCount());
+        if (remaining == 0) {
+            return Duration.ZERO;
+        }
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            remaining -= buckets.get(bucket);
+            if (remaining <= 0) {
+                return Duration.ofNanos(Math.min((2L << bucket) * 1000L, maxNanos.get()));
+            }
+        }
+        return getMax();
+    }
+
+}
@@ -24,7 +24,9 @@ import net.william278.huskhomes.user.OnlineUser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface Task extends Runnable {
 
@@ -87,6 +89,8 @@ public interface Task extends Runnable {
     @SuppressWarnings("UnusedReturnValue")
     interface Supplier {
 
+        int FAN_OUT_BATCH_SIZE = 25;
+
         @NotNull
         Task.Sync getSyncTask(@NotNull Runnable runnable, @Nullable OnlineUser user, long delayTicks);
 
@@ -138,6 +142,22 @@ public interface Task extends Runnable {
             return future;
         }
 
+        /**
+         * Run an action asynchronously for each item, spreading the items over consecutive ticks in batches of
+         * {@link #FAN_OUT_BATCH_SIZE}, so that acting on many players at once doesn't cause a single-tick spike.
+         *
+         * @param items  the items to act on
+         * @param action the action to run for each item
+         * @param <T>    the type of item
+         */
+        default <T> void runBatched(@NotNull List<T> items, @NotNull Consumer<T> action) {
+            final List<T> snapshot = List.copyOf(items);
+            for (int start = 0, tick = 0; start < snapshot.size(); start += FAN_OUT_BATCH_SIZE, tick++) {
+                final List<T> batch = snapshot.subList(start, Math.min(start + FAN_OUT_BATCH_SIZE, snapshot.size()));
+                runAsyncDelayed(() -> batch.forEach(action), tick);
+            }
+        }
+
         void cancelTasks();
 
         @NotNull
@@ -0,0 +1,120 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A hashed timing wheel, for expiring large numbers of items at a one-second resolution.
+ *
+ * <p>Items are hashed into a slot by their deadline (in epoch seconds); advancing the wheel only visits the slots
+ * for the seconds that have elapsed since it was last advanced, so scheduling and expiring are both O(1) per item.
+ * Items due further ahead than the wheel is wide stay in their slot until a later rotation.
+ *
+ * @param <T> the type of item to expire
+ */
+public class TimingWheel<T> {
+
+    private final List<List<Entry<T>>> slots;
+    private long cursor;
+    private int size;
+
+    /**
+     * Create a timing wheel.
+     *
+     * @param slotCount the number of one-second slots in the wheel
+     * @param now       the current time, in epoch seconds
+     */
+    public TimingWheel(int slotCount, long now) {
+        if (slotCount <= 0) {
+            throw new IllegalArgumentException("Timing wheel must have at least one slot");
+        }
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.cursor = now;
+    }
+
+    /**
+     * Schedule an item to expire.
+     *
+     * @param item     the item
+     * @param deadline the time the item should expire at, in epoch seconds. Items with a deadline that has already
+     *                 passed will expire when the wheel is next advanced.
+     */
+    public synchronized void schedule(@NotNull T item, long deadline) {
+        final long at = Math.max(deadline, cursor + 1);
+        slots.get(slotOf(at)).add(new Entry<>(item, at));
+        size++;
+    }
+
+    /**
+     * Advance the wheel to the given time, removing and returning every item whose deadline has been reached.
+     *
+     * @param now the current time, in epoch seconds
+     * @return the expired items, in no particular order
+     */
+    @NotNull
+    public synchronized List<T> advance(long now) {
+        final List<T> expired = new ArrayList<>();
+        if (now <= cursor) {
+            return expired;
+        }
+
+        // Visit each slot at most once, even if the wheel hasn't been advanced for more than a rotation
+        final long steps = Math.min(now - cursor, slots.size());
+        for (long second = now - steps + 1; second <= now; second++) {
+            final Iterator<Entry<T>> entries = slots.get(slotOf(second)).iterator();
+            while (entries.hasNext()) {
+                final Entry<T> entry = entries.next();
+                if (entry.deadline() <= now) {
+                    expired.add(entry.item());
+                    entries.remove();
+                }
+            }
+        }
+        size -= expired.size();
+        cursor = now;
+        return expired;
+    }
+
+    /**
+     * Get the number of items scheduled on the wheel.
+     *
+     * @return the number of scheduled items
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private int slotOf(long second) {
+        return (int) Math.floorMod(second, (long) slots.size());
+    }
+
+    private record Entry<T>(@NotNull T item, long deadline) {
+    }
+
+}
@@ -29,6 +29,7 @@ import org.jetbrains.annotations.NotNull;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -48,28 +49,85 @@ public interface TransactionResolver {
      * @return {@code true} if the action can be performed, {@code false} otherwise
      */
     default boolean validateTransaction(@NotNull OnlineUser player, @NotNull Action action) {
-        return hasFunds(player, action) && isNotOnCooldown(player, action);
-    }
-
-    // Validates if the user has funds to perform an action
-    private boolean hasFunds(@NotNull OnlineUser player, @NotNull Action action) {
-        return getPlugin().getSettings().getEconomy().getCost(action).map(Math::abs)
-                .flatMap(c -> player.hasPermission(Action.BYPASS_ECONOMY_PERMISSION)
-                        ? Optional.empty() : Optional.of(c))
-                .map(c -> getEconomyHook()
-                        .map(hook -> {
-                            if (hook.getPlayerBalance(player) < c) {
-                                getPlugin().getLocales().getLocale("error_insufficient_funds",
-                                                hook.formatCurrency(c))
-                                        .ifPresent(player::sendMessage);
-                                return false;
-                            }
-                            return true;
-                        })
-                        .orElse(true))
+        return validateTransactions(player, List.of(action));
+    }
+
+    /**
+     * Validates whether an {@link OnlineUser} can perform a set of {@link Action}s together, in terms of whether they
+     * have sufficient funds for their combined cost and are not on cooldown for any of them. This method will also
+     * send the user a message if they cannot perform the actions.
+     *
+     * <p>The user's balance is read from a short-lived {@link EconomyHook#getBalanceSnapshot(OnlineUser) snapshot},
+     * so validating several actions, or validating again within a teleport, only queries the economy plugin once.
+     *
+     * @param player  the {@link OnlineUser player} to perform the check on
+     * @param actions the {@link Action actions} to perform
+     * @return {@code true} if the actions can be performed, {@code false} otherwise
+     * @since 4.8
+     */
+    default boolean validateTransactions(@NotNull OnlineUser player, @NotNull Collection<Action> actions) {
+        return actions.isEmpty() || (hasFunds(player, actions, 0L)
+                && actions.stream().allMatch(action -> isNotOnCooldown(player, action)));
+    }
+
+    /**
+     * Validates whether an {@link OnlineUser} can perform an {@link Action} without blocking the calling thread on
+     * the economy plugin or database.
+     *
+     * @param player the {@link OnlineUser player} to perform the check on
+     * @param action the {@link Action action} to perform
+     * @return a future completing with {@code true} if the action can be performed, {@code false} otherwise
+     * @see #validateTransaction(OnlineUser, Action)
+     * @since 4.8
+     */
+    @NotNull
+    default CompletableFuture<Boolean> validateTransactionAsync(@NotNull OnlineUser player, @NotNull Action action) {
+        return validateTransactionsAsync(player, List.of(action));
+    }
+
+    /**
+     * Validates whether an {@link OnlineUser} can perform a set of {@link Action}s together, without blocking the
+     * calling thread on the economy plugin or database.
+     *
+     * @param player  the {@link OnlineUser player} to perform the check on
+     * @param actions the {@link Action actions} to perform
+     * @return a future completing with {@code true} if the actions can be performed, {@code false} otherwise
+     * @see #validateTransactions(OnlineUser, Collection)
+     * @since 4.8
+     */
+    @NotNull
+    default CompletableFuture<Boolean> validateTransactionsAsync(@NotNull OnlineUser player,
+                                                                 @NotNull Collection<Action> actions) {
+        return getPlugin().supplyAsync(() -> validateTransactions(player, actions));
+    }
+
+    // Validates if the user has funds to perform a set of actions, against a balance read at or after a time
+    private boolean hasFunds(@NotNull OnlineUser player, @NotNull Collection<Action> actions, long notBefore) {
+        final double cost = getTotalCost(player, actions);
+        if (cost <= 0d) {
+            return true;
+        }
+        return getEconomyHook()
+                .map(hook -> {
+                    if (hook.getBalanceSnapshot(player, notBefore) < cost) {
+                        getPlugin().getLocales().getLocale("error_insufficient_funds",
+                                        hook.formatCurrency(cost))
+                                .ifPresent(player::sendMessage);
+                        return false;
+                    }
+                    return true;
+                })
                 .orElse(true);
     }
 
+    // Get the combined cost of a set of actions to a user, or zero if they bypass economy checks
+    private double getTotalCost(@NotNull OnlineUser player, @NotNull Collection<Action> actions) {
+        final double cost = actions.stream()
+                .mapToDouble(action -> getPlugin().getSettings().getEconomy().getCost(action).map(Math::abs).orElse(0d))
+                .sum();
+        return cost > 0d && !player.hasPermission(Action.BYPASS_ECONOMY_PERMISSION) ? cost : 0d;
+    }
+
     // Validates if the user is on cooldown for an action
     private boolean isNotOnCooldown(@NotNull OnlineUser player, @NotNull Action action) {
         final long configCooldown = getPlugin().getSettings().getCooldowns().getCooldown(action);
@@ -114,25 +172,78 @@ public interface TransactionResolver {
     }
 
     /**
-     * Execute an economy transaction if needed, updating the player's balance.
+     * Execute an economy transaction if needed, updating the player's balance. The action should already have been
+     * {@link #validateTransaction(OnlineUser, Action) validated}; the player is charged unconditionally.
      *
      * @param player the {@link OnlineUser player} to deduct the cost from if needed
      * @param action the {@link Action action} to deduct the cost from if needed
      */
     default void performTransaction(@NotNull OnlineUser player, @NotNull Action action) {
-        getEconomyHook().ifPresent(hook -> getPlugin().getSettings().getEconomy()
-                .getCost(action).map(Math::abs)
-                .flatMap(c -> player.hasPermission(Action.BYPASS_ECONOMY_PERMISSION)
-                        ? Optional.empty() : Optional.of(c))
-                .ifPresent(cost -> {
-                    hook.changePlayerBalance(player, -cost);
-                    hook.notifyDeducted(player, getPlugin(), action);
-                }));
+        chargeTransactions(player, List.of(action));
+    }
 
-        final long configCooldown = getPlugin().getSettings().getCooldowns().getCooldown(action);
-        if (configCooldown > 0 && !player.hasPermission(Action.BYPASS_COOLDOWNS_PERMISSION)) {
-            getPlugin().getDatabase().setCooldown(action, player, Instant.now().plusSeconds(configCooldown));
+    /**
+     * Execute the economy transactions for a set of actions if needed, deducting their combined cost from the
+     * player's balance in one change, and apply their cooldowns.
+     *
+     * <p>The player's funds are checked against their balance snapshot before they are charged, so this does not
+     * query the economy plugin again if the actions were just validated. If the player can't afford the actions,
+     * they are sent a message and nothing is charged.
+     *
+     * @param player  the {@link OnlineUser player} to deduct the cost from if needed
+     * @param actions the {@link Action actions} to deduct the cost of if needed
+     * @return {@code true} if the transactions were performed, {@code false} if the player had insufficient funds
+     * @since 4.8
+     */
+    default boolean performTransactions(@NotNull OnlineUser player, @NotNull Collection<Action> actions) {
+        return performTransactions(player, actions, 0L);
+    }
+
+    /**
+     * Execute the economy transactions for a set of actions if needed, as part of an operation that started at a
+     * point in time, such as a teleport.
+     *
+     * <p>The player's funds are checked before they are charged, against their balance snapshot if it was read since
+     * the operation started (i.e. when the actions were validated), or otherwise against their current balance, so
+     * the charge is never approved against a balance read before the operation. If the player can't afford the
+     * actions, they are sent a message and nothing is charged.
+     *
+     * @param player    the {@link OnlineUser player} to deduct the cost from if needed
+     * @param actions   the {@link Action actions} to deduct the cost of if needed
+     * @param notBefore the time, in epoch milliseconds, the operation started
+     * @return {@code true} if the transactions were performed, {@code false} if the player had insufficient funds
+     * @since 4.8
+     */
+    default boolean performTransactions(@NotNull OnlineUser player, @NotNull Collection<Action> actions,
+                                        long notBefore) {
+        if (!hasFunds(player, actions, notBefore)) {
+            return false;
         }
+        chargeTransactions(player, actions);
+        return true;
+    }
+
+    // Deduct the combined cost of a set of actions and apply their cooldowns, without checking the player's funds
+    private void chargeTransactions(@NotNull OnlineUser player, @NotNull Collection<Action> actions) {
+        getEconomyHook().ifPresent(hook -> {
+            final double cost = getTotalCost(player, actions);
+            if (cost <= 0d) {
+                return;
+            }
+            hook.changePlayerBalance(player, -cost);
+            hook.invalidateBalanceSnapshot(player);
+            actions.stream()
+                    .filter(action -> getPlugin().getSettings().getEconomy().getCost(action).isPresent())
+                    .forEach(action -> hook.notifyDeducted(player, getPlugin(), action));
+        });
+
+        final Instant now = Instant.now();
+        actions.forEach(action -> {
+            final long configCooldown = getPlugin().getSettings().getCooldowns().getCooldown(action);
+            if (configCooldown > 0 && !player.hasPermission(Action.BYPASS_COOLDOWNS_PERMISSION)) {
+                getPlugin().getDatabase().setCooldown(action, player, now.plusSeconds(configCooldown));
+            }
+        });
     }
 
     /**
@@ -20,20 +20,34 @@
 package net.william278.huskhomes.util;
 
 import de.exlll.configlib.Configuration;
+import de.exlll.configlib.Ignore;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Configuration
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class UnsafeBlocks {
 
+    private static final String NAMESPACE_PREFIX = Key.MINECRAFT_NAMESPACE + ":";
+
     public List<String> unsafeBlocks;
     public List<String> safeOccupationBlocks;
 
+    @Ignore
+    private Set<String> unsafeBlockIds;
+    @Ignore
+    private Set<String> safeOccupationBlockIds;
+
     /**
      * Returns if the block, by provided identifier, are unsafe.
      *
@@ -41,7 +55,7 @@ public class UnsafeBlocks {
      * @return {@code true} if the block is on the unsafe blocks list, {@code false} otherwise
      */
     public boolean isUnsafe(@NotNull String blockId) {
-        return unsafeBlocks.contains(this.formatBlockId(blockId));
+        return getUnsafeBlockIds().contains(this.formatBlockId(blockId));
     }
 
     /**
@@ -51,16 +65,101 @@ public class UnsafeBlocks {
      * @return {@code true} if the block is on the unsafe blocks list, {@code false} otherwise
      */
     public boolean isUnsafeToOccupy(@NotNull String blockId) {
-        return !safeOccupationBlocks.contains(this.formatBlockId(blockId));
+        return !getSafeOccupationBlockIds().contains(this.formatBlockId(blockId));
+    }
+
+    /**
+     * Compile the unsafe block lists into a {@link Lookup} keyed by a platform's native block type.
+     *
+     * <p>Every block type is resolved to its identifier once, here, so that subsequent safety checks are
+     * plain set lookups that do not allocate.
+     *
+     * @param blockTypes  every block type known to the platform
+     * @param idResolver  function resolving a block type to its identifier (e.g. {@code minecraft:stone})
+     * @param setSupplier supplier of an empty set to hold block types, e.g. an {@link java.util.EnumSet}
+     * @param <T>         the platform block type
+     * @return the compiled {@link Lookup}
+     */
+    @NotNull
+    public <T> Lookup<T> compile(@NotNull Stream<T> blockTypes, @NotNull Function<T, String> idResolver,
+                                 @NotNull Supplier<Set<T>> setSupplier) {
+        final Set<T> unsafe = setSupplier.get();
+        final Set<T> safeToOccupy = setSupplier.get();
+        blockTypes.forEach(type -> {
+            final String blockId = this.formatBlockId(idResolver.apply(type));
+            if (getUnsafeBlockIds().contains(blockId)) {
+                unsafe.add(type);
+            }
+            if (getSafeOccupationBlockIds().contains(blockId)) {
+                safeToOccupy.add(type);
+            }
+        });
+        return new Lookup<>(unsafe, safeToOccupy);
+    }
+
+    @NotNull
+    private Set<String> getUnsafeBlockIds() {
+        if (unsafeBlockIds == null) {
+            unsafeBlockIds = formatBlockIds(unsafeBlocks);
+        }
+        return unsafeBlockIds;
+    }
+
+    @NotNull
+    private Set<String> getSafeOccupationBlockIds() {
+        if (safeOccupationBlockIds == null) {
+            safeOccupationBlockIds = formatBlockIds(safeOccupationBlocks);
+        }
+        return safeOccupationBlockIds;
+    }
+
+    @NotNull
+    private Set<String> formatBlockIds(@NotNull List<String> blockIds) {
+        final Set<String> formatted = new HashSet<>();
+        blockIds.forEach(blockId -> formatted.add(this.formatBlockId(blockId)));
+        return formatted;
     }
 
     // Format a block ID to be in the format namespace:id
     @NotNull
     private String formatBlockId(@NotNull String blockId) {
-        if (!blockId.startsWith(Key.MINECRAFT_NAMESPACE + ":")) {
-            blockId = Key.MINECRAFT_NAMESPACE + ":" + blockId;
+        if (blockId.indexOf(':') == -1) {
+            blockId = NAMESPACE_PREFIX + blockId;
         }
         return blockId;
     }
 
+    /**
+     * Unsafe block lists, compiled against a platform's native block type.
+     *
+     * @param <T> the platform block type
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Lookup<T> {
+
+        private final Set<T> unsafe;
+        private final Set<T> safeToOccupy;
+
+        /**
+         * Returns if the block type is unsafe to stand on.
+         *
+         * @param blockType The block type
+         * @return {@code true} if the block is on the unsafe blocks list, {@code false} otherwise
+         */
+        public boolean isUnsafe(@NotNull T blockType) {
+            return unsafe.contains(blockType);
+        }
+
+        /**
+         * Returns if the block type is unsafe to stand in.
+         *
+         * @param blockType The block type
+         * @return {@code true} if the block is not on the safe occupation blocks list, {@code false} otherwise
+         */
+        public boolean isUnsafeToOccupy(@NotNull T blockType) {
+            return !safeToOccupy.contains(blockType);
+        }
+
+    }
+
 }
@@ -19,20 +19,31 @@
 
 package net.william278.huskhomes.util;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Settings;
 import net.william278.huskhomes.position.Home;
 import org.jetbrains.annotations.NotNull;
 
-@AllArgsConstructor
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+@RequiredArgsConstructor
 public class Validator {
 
     public static final int MAX_NAME_LENGTH = 16;
     public static final int MAX_DESCRIPTION_LENGTH = 256;
 
+    // Default name & description regexes, which are matched without a regex engine
+    private static final String DEFAULT_NAME_REGEX = "[a-zA-Z0-9-_]*";
+    private static final String DEFAULT_DESCRIPTION_REGEX = "\\A\\p{ASCII}*\\z";
+
     private final HuskHomes plugin;
 
+    // Compiled configured regexes; recompiled when the configured regex changes (i.e. on reload)
+    private volatile CompiledRegex nameRegex;
+    private volatile CompiledRegex descriptionRegex;
+
     /**
      * Validate home and warp names.
      *
@@ -66,8 +77,8 @@ public class Validator {
     // Check a home/warp name contains only valid characters
     private boolean isValidNameCharacters(@NotNull String name) {
         final Settings.GeneralSettings.NameSettings config = plugin.getSettings().getGeneral().getNames();
-        return (name.matches(config.getRegex()) || !config.isRestrict())
-                && !name.contains("\u0000")
+        return (!config.isRestrict() || getNameRegex(config.getRegex()).matches(name))
+                && name.indexOf('\u0000') < 0
                 && !containsWhitespace(name)
                 && !name.contains(Home.IDENTIFIER_DELIMITER);
     }
@@ -80,8 +91,8 @@ public class Validator {
     // Check a home/warp description contains only valid characters
     private boolean isValidDescriptionCharacters(@NotNull String description) {
         final Settings.GeneralSettings.DescriptionSettings config = plugin.getSettings().getGeneral().getDescriptions();
-        return (description.matches(config.getRegex()) || !config.isRestrict())
-                && !description.contains("\u0000");
+        return (!config.isRestrict() || getDescriptionRegex(config.getRegex()).matches(description))
+                && description.indexOf('\u0000') < 0;
     }
 
     // Check a home/warp description is of a valid length
@@ -89,9 +100,82 @@ public class Validator {
         return description.length() <= MAX_DESCRIPTION_LENGTH;
     }
 
-    // Check if a string contains whitespace
-    private boolean containsWhitespace(@NotNull String string) {
-        return string.matches(".*\\s.*");
+    @NotNull
+    private CompiledRegex getNameRegex(@NotNull String regex) {
+        CompiledRegex compiled = nameRegex;
+        if (compiled == null || !compiled.regex().equals(regex)) {
+            compiled = CompiledRegex.compile(regex);
+            nameRegex = compiled;
+        }
+        return compiled;
+    }
+
+    @NotNull
+    private CompiledRegex getDescriptionRegex(@NotNull String regex) {
+        CompiledRegex compiled = descriptionRegex;
+        if (compiled == null || !compiled.regex().equals(regex)) {
+            compiled = CompiledRegex.compile(regex);
+            descriptionRegex = compiled;
+        }
+        return compiled;
+    }
+
+    // Check if a string contains whitespace (the characters matched by the regex \s)
+    private static boolean containsWhitespace(@NotNull String string) {
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            if (c == ' ' || (c >= '\t' && c <= '\r')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Equivalent to matching the default name regex, [a-zA-Z0-9-_]*
+    private static boolean isDefaultNameCharacters(@NotNull String string) {
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Equivalent to matching the default description regex, \A\p{ASCII}*\z
+    private static boolean isAscii(@NotNull String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A configured regex, compiled once.
+     *
+     * @param regex   the source regex
+     * @param matcher predicate matching an entire string against the regex
+     */
+    private record CompiledRegex(@NotNull String regex, @NotNull Predicate<String> matcher) {
+
+        @NotNull
+        private static CompiledRegex compile(@NotNull String regex) {
+            return switch (regex) {
+                case DEFAULT_NAME_REGEX -> new CompiledRegex(regex, Validator::isDefaultNameCharacters);
+                case DEFAULT_DESCRIPTION_REGEX -> new CompiledRegex(regex, Validator::isAscii);
+                default -> {
+                    final Pattern pattern = Pattern.compile(regex);
+                    yield new CompiledRegex(regex, string -> pattern.matcher(string).matches());
+                }
+            };
+        }
+
+        private boolean matches(@NotNull String string) {
+            return matcher.test(string);
+        }
+
     }
 
 }
@@ -69,6 +69,7 @@ CREATE TABLE IF NOT EXISTS "%saved_positions_table%"
     PRIMARY KEY ("id"),
     FOREIGN KEY ("position_id") REFERENCES "%positions_table%" ("id") ON DELETE CASCADE ON UPDATE NO ACTION
 );
+CREATE INDEX IF NOT EXISTS "%saved_positions_table%_name" ON "%saved_positions_table%" ("name");
 
 /* Create the homes table if it does not exist */
 CREATE TABLE IF NOT EXISTS "%homes_table%"
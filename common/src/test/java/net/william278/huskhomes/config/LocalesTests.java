@@ -64,6 +64,15 @@ public class LocalesTests {
         ));
     }
 
+    @Test
+    @DisplayName("Test Locale Replacements Applied")
+    public void testLocaleReplacementsApplied() {
+        final String raw = englishLocales.getRawLocale("error_invalid_syntax").orElseThrow();
+        assertEquals(raw.replace("%1%", "/home %2%"),
+                englishLocales.getRawLocale("error_invalid_syntax", "/home %2%", "unused").orElseThrow());
+        assertEquals(raw, englishLocales.getRawLocale("error_invalid_syntax", new String[0]).orElseThrow());
+    }
+
     @NotNull
     private static Stream<Arguments> provideLocaleFiles() {
         final URL url = LocalesTests.class.getClassLoader().getResource("locales");
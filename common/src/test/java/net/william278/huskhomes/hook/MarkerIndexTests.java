@@ -0,0 +1,133 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.hook;
+
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.PositionMeta;
+import net.william278.huskhomes.position.World;
+import net.william278.huskhomes.user.User;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@DisplayName("Map Marker Index Tests")
+public class MarkerIndexTests {
+
+    private static final World OVERWORLD = World.from("world", UUID.randomUUID());
+    private static final World NETHER = World.from("world_nether", UUID.randomUUID());
+
+    @Test
+    @DisplayName("Test Only Changed Markers Are Drained")
+    public void testOnlyChangedMarkersDrained() {
+        final MarkerIndex<Home> index = createIndex();
+        final Home home = createHome(User.of(UUID.randomUUID(), "Steve"), OVERWORLD, 0);
+        index.put(home);
+        Assertions.assertEquals(List.of(home), index.drain().updated());
+
+        // Re-putting an identical copy is a no-op; moving it is an update
+        index.put(home.copy());
+        Assertions.assertTrue(index.drain().updated().isEmpty());
+        final Home moved = Home.from(10, 64, 0, 0, 0, NETHER, "server", home.getMeta(),
+                home.getUuid(), home.getOwner(), true);
+        index.put(moved);
+        final MapHook.MarkerBatch<Home> batch = index.drain();
+        Assertions.assertEquals(List.of(moved), batch.updated());
+        Assertions.assertTrue(index.getOnWorld(OVERWORLD.getName()).isEmpty());
+        Assertions.assertEquals(List.of(moved), index.getOnWorld(NETHER.getName()));
+
+        // Removing a marker that was never applied emits nothing
+        final Home unsent = createHome(home.getOwner(), OVERWORLD, 20);
+        index.put(unsent);
+        index.remove(unsent.getUuid());
+        final MapHook.MarkerBatch<Home> empty = index.drain();
+        Assertions.assertTrue(empty.updated().isEmpty() && empty.removed().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Clearing Markers By Owner And World")
+    public void testClearByOwnerAndWorld() {
+        final MarkerIndex<Home> index = createIndex();
+        final User steve = User.of(UUID.randomUUID(), "Steve");
+        final User alex = User.of(UUID.randomUUID(), "Alex");
+        final List<Home> homes = List.of(
+                createHome(steve, OVERWORLD, 0), createHome(steve, NETHER, 1),
+                createHome(alex, OVERWORLD, 2), createHome(alex, NETHER, 3)
+        );
+        index.finishReset(homes);
+        index.drain();
+
+        index.removeOwner(steve.getUuid());
+        Assertions.assertEquals(Set.of(homes.get(0), homes.get(1)), Set.copyOf(index.drain().removed()));
+        index.removeWorld(NETHER.getName());
+        Assertions.assertEquals(List.of(homes.get(3)), index.drain().removed());
+        Assertions.assertEquals(List.of(homes.get(2)), index.getOnWorld(OVERWORLD.getName()));
+    }
+
+    @Test
+    @DisplayName("Test Changes During Reset Are Applied After It")
+    public void testChangesDuringReset() {
+        final MarkerIndex<Home> index = createIndex();
+        final User steve = User.of(UUID.randomUUID(), "Steve");
+        final Home read = createHome(steve, OVERWORLD, 0);
+        final Home deleted = createHome(steve, OVERWORLD, 1);
+        final Home added = createHome(steve, NETHER, 2);
+
+        // Changes made while the database is read are queued, then applied over what was read
+        index.beginReset();
+        index.put(added);
+        index.remove(deleted.getUuid());
+        Assertions.assertTrue(index.getOnWorld(NETHER.getName()).isEmpty());
+        index.finishReset(List.of(read, deleted));
+        Assertions.assertEquals(Set.of(read, added), Set.copyOf(index.drain().updated()));
+        Assertions.assertEquals(List.of(read), index.getOnWorld(OVERWORLD.getName()));
+    }
+
+    @Test
+    @DisplayName("Test Marker Batch Partitioning")
+    public void testBatchPartitioning() {
+        final User owner = User.of(UUID.randomUUID(), "Steve");
+        final List<Home> homes = IntStream.range(0, 1201).mapToObj(i -> createHome(owner, OVERWORLD, i)).toList();
+        final List<MapHook.MarkerBatch<Home>> batches = new MapHook.MarkerBatch<>(homes, homes.subList(0, 10))
+                .partition(MapHook.MARKER_BATCH_SIZE);
+        Assertions.assertEquals(4, batches.size());
+        Assertions.assertEquals(10, batches.get(0).removed().size());
+        Assertions.assertEquals(201, batches.get(3).updated().size());
+    }
+
+    @NotNull
+    private static MarkerIndex<Home> createIndex() {
+        return new MarkerIndex<>(home -> home.getOwner().getUuid());
+    }
+
+    @NotNull
+    private static Home createHome(@NotNull User owner, @NotNull World world, double x) {
+        return Home.from(Position.at(x, 64, 0, 0, 0, world, "server"),
+                PositionMeta.create("home" + (int) x, ""), owner);
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.importer;
+
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.PositionMeta;
+import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.position.World;
+import net.william278.huskhomes.user.SavedUser;
+import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.util.TransactionResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+@DisplayName("Data Archive Tests")
+public class DataArchiveTests {
+
+    private static final World WORLD = World.from("world", UUID.randomUUID());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Test Users And Warps Round Trip Through An Archive")
+    public void testArchiveRoundTrip() throws IOException {
+        final User user = User.of(UUID.randomUUID(), "Steve");
+        final Instant created = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        final Home home = Home.from(1.5, 64, -3, 90, 10, WORLD, "server",
+                PositionMeta.from("base", "My base", created, null), UUID.randomUUID(), user, true);
+        final Warp warp = Warp.from(0, 80, 0, 0, 0, WORLD, "server",
+                PositionMeta.from("spawn", "", created, null), UUID.randomUUID());
+        final Position lastPosition = Position.at(10, 70, 10, 0, 0, WORLD, "server");
+        final Map<TransactionResolver.Action, Instant> cooldowns = Map.of(
+                TransactionResolver.Action.RANDOM_TELEPORT, created.plusSeconds(600));
+
+        final Path file = directory.resolve("archive" + DataArchive.FILE_EXTENSION);
+        try (DataArchive.Writer writer = DataArchive.Writer.open(file)) {
+            writer.writeUser(new DataArchive.UserEntry(new SavedUser(user, 5, true), List.of(home),
+                    cooldowns, lastPosition, null, null));
+            writer.writeWarp(warp);
+        }
+
+        final List<DataArchive.UserEntry> users = new ArrayList<>();
+        final List<Warp> warps = new ArrayList<>();
+        try (DataArchive.Reader reader = DataArchive.Reader.open(file)) {
+            reader.forEachUser(users::add);
+            reader.forEachWarp(warps::add);
+        }
+
+        Assertions.assertEquals(1, users.size());
+        final DataArchive.UserEntry entry = users.get(0);
+        Assertions.assertEquals(user.getUuid(), entry.savedUser().getUserUuid());
+        Assertions.assertEquals(5, entry.savedUser().getHomeSlots());
+        Assertions.assertTrue(entry.savedUser().isIgnoringTeleports());
+        Assertions.assertEquals(cooldowns, entry.cooldowns());
+        Assertions.assertNotNull(entry.lastPosition());
+        Assertions.assertEquals(lastPosition.getX(), entry.lastPosition().getX());
+        Assertions.assertNull(entry.offlinePosition());
+
+        Assertions.assertEquals(1, entry.homes().size());
+        final Home readHome = entry.homes().get(0);
+        Assertions.assertEquals(home.getUuid(), readHome.getUuid());
+        Assertions.assertEquals("My base", readHome.getMeta().getDescription());
+        Assertions.assertEquals(created, readHome.getMeta().getCreationTime());
+        Assertions.assertEquals(home.getYaw(), readHome.getYaw());
+        Assertions.assertTrue(readHome.isPublic());
+
+        Assertions.assertEquals(1, warps.size());
+        Assertions.assertEquals(warp.getUuid(), warps.get(0).getUuid());
+        Assertions.assertEquals("spawn", warps.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Test Archives From Newer Versions Are Rejected")
+    public void testNewerVersionRejected() throws IOException {
+        final Path file = directory.resolve("newer" + DataArchive.FILE_EXTENSION);
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)),
+                StandardCharsets.UTF_8)) {
+            writer.write("{\"format\":\"huskhomes-archive\",\"version\":"
+                    + (DataArchive.FORMAT_VERSION + 1) + ",\"users\":[],\"warps\":[]}");
+        }
+        Assertions.assertThrows(IOException.class, () -> DataArchive.Reader.open(file).close());
+    }
+
+}
@@ -66,6 +66,12 @@ public class MessageSerializationTests {
                     .payload(Payload.withPosition(
                             Position.at(63.25, 127.43, -32, 180f, -94.3f,
                                     World.from("TestWorld", UUID.randomUUID()), "TestServer")))
+                    .build(),
+            Message.builder()
+                    .type(Message.Type.SERVER_LOAD)
+                    .scope(Message.Scope.SERVER)
+                    .target(Message.TARGET_ALL)
+                    .payload(Payload.withServerLoad(Payload.ServerLoad.of(12.5d, 40, 2)))
                     .build()
     );
 
@@ -98,6 +104,10 @@ public class MessageSerializationTests {
                 message.getPayload().getStringList().isPresent(),
                 deserialized.getPayload().getStringList().isPresent()
         );
+        Assertions.assertEquals(
+                message.getPayload().getServerLoad(),
+                deserialized.getPayload().getServerLoad()
+        );
     }
 
     @NotNull
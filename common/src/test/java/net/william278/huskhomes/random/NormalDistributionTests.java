@@ -58,6 +58,15 @@ public class NormalDistributionTests {
         }
     }
 
+    @Test
+    @DisplayName("Test Point Radii Within Spawn And Max Radius")
+    public void testPointRadii() {
+        for (Location location : generateLocations(1000)) {
+            final double radius = Math.hypot(location.getX(), location.getZ());
+            Assertions.assertTrue(radius >= SPAWN_RADIUS - 1 && radius <= MAX_RADIUS + 1);
+        }
+    }
+
     /**
      * Plots location distribution to an image for testing.
      */
@@ -0,0 +1,126 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.World;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing {@link RandomTeleportEngine}s over {@link SyntheticTerrain}.
+ *
+ * <p>Each engine is measured across a range of ocean coverage, reporting the latency distribution of a full
+ * {@link RandomTeleportEngine#getRandomPosition(World, String[])} call, the number of safe ground lookups it took,
+ * and how often it found a position. Run {@link #main(String[])} from the test classpath; allocation rates are
+ * reported by the GC profiler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomTeleportBenchmarks {
+
+    private static final World WORLD = World.from("benchmark", UUID.randomUUID());
+    private static final String[] NO_ARGS = new String[0];
+
+    @Param({"NORMAL_DISTRIBUTION", "UNIFORM_AREA", "SQUARE_REGION", "WEIGHTED_SECTORS"})
+    public RandomTeleportEngine.Type engineType;
+
+    @Param({"0.3", "0.7", "0.9"})
+    public double oceanRatio;
+
+    private SyntheticSafetyResolver resolver;
+    private RandomTeleportEngine engine;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final SyntheticTerrain terrain = SyntheticTerrain.builder()
+                .seed(278L)
+                .oceanRatio(oceanRatio)
+                .lavaRatio(0.02d)
+                .build();
+        this.resolver = new SyntheticSafetyResolver(terrain);
+        final HuskHomes plugin = RandomTeleportHarness.createPlugin(resolver, 500, 5000);
+        this.engine = engineType.create(plugin);
+    }
+
+    @Benchmark
+    public Optional<Position> findRandomPosition(LookupCounters counters) {
+        final long lookups = resolver.getLookups();
+        final Optional<Position> position = engine.getRandomPosition(WORLD, NO_ARGS).join();
+        counters.lookups += resolver.getLookups() - lookups;
+        if (position.isPresent()) {
+            counters.found++;
+        } else {
+            counters.exhausted++;
+        }
+        return position;
+    }
+
+    /**
+     * Per-iteration counts of safe ground lookups and search outcomes.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LookupCounters {
+        public long lookups;
+        public long found;
+        public long exhausted;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            found = 0;
+            exhausted = 0;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RandomTeleportBenchmarks.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import de.exlll.configlib.YamlConfigurations;
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.config.ConfigProvider;
+import net.william278.huskhomes.config.Settings;
+import net.william278.huskhomes.position.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Provides a minimal {@link HuskHomes} instance for running {@link RandomTeleportEngine}s against
+ * {@link SyntheticTerrain} without a server.
+ *
+ * <p>Only the methods used by the engines are implemented; safe ground lookups are delegated to a
+ * {@link SyntheticSafetyResolver} and async tasks are run on the calling thread, so engine throughput is measured
+ * without scheduler overhead.
+ */
+public final class RandomTeleportHarness {
+
+    private RandomTeleportHarness() {
+    }
+
+    /**
+     * Create a plugin instance for running random teleport engines.
+     *
+     * @param resolver  the resolver to use for finding safe ground
+     * @param minRadius the inner radius of the RTP region
+     * @param maxRadius the outer radius of the RTP region
+     * @return the plugin instance
+     */
+    @NotNull
+    public static HuskHomes createPlugin(@NotNull SyntheticSafetyResolver resolver, int minRadius, int maxRadius) {
+        final Settings settings = readSettings(String.format("""
+                rtp:
+                  region:
+                    min: %d
+                    max: %d
+                  sector_weights: [4.0, 1.0, 1.0, 2.0, 0.0, 1.0]
+                """, minRadius, maxRadius));
+        final InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "getSettings" -> settings;
+            case "getServerSpawn" -> Optional.empty();
+            case "getServerName" -> "benchmark";
+            case "findSafeGroundLocation" -> resolver.findSafeGroundLocation((Location) args[0]);
+            case "supplyAsync" -> supplyNow((Supplier<?>) args[0]);
+            case "log" -> null;
+            case "getPlugin" -> proxy;
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "HuskHomes (random teleport harness)";
+            default -> invokeDefault(proxy, method, args);
+        };
+        return (HuskHomes) Proxy.newProxyInstance(
+                HuskHomes.class.getClassLoader(), new Class<?>[]{HuskHomes.class}, handler
+        );
+    }
+
+    @NotNull
+    private static Settings readSettings(@NotNull String yaml) {
+        return YamlConfigurations.read(
+                new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)),
+                Settings.class,
+                ConfigProvider.YAML_CONFIGURATION_PROPERTIES.build()
+        );
+    }
+
+    @NotNull
+    private static <T> CompletableFuture<T> supplyNow(@NotNull Supplier<T> supplier) {
+        try {
+            return CompletableFuture.completedFuture(supplier.get());
+        } catch (Throwable throwable) {
+            return CompletableFuture.failedFuture(throwable);
+        }
+    }
+
+    private static Object invokeDefault(@NotNull Object proxy, @NotNull Method method, Object[] args)
+            throws Throwable {
+        if (!method.isDefault()) {
+            throw new UnsupportedOperationException(String.format(
+                    "%s is not available in the random teleport harness", method.getName()
+            ));
+        }
+        return InvocationHandler.invokeDefault(proxy, method, args);
+    }
+
+}
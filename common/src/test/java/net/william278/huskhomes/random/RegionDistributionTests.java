@@ -0,0 +1,130 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import net.william278.huskhomes.position.Location;
+import net.william278.huskhomes.position.World;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@DisplayName("Region Distribution Tests")
+public class RegionDistributionTests {
+
+    private static final float MIN_RADIUS = 500f;
+    private static final float MAX_RADIUS = 3000f;
+    private static final int SAMPLES = 20000;
+    private static final Location ORIGIN = Location.at(0, 0, 0, 0, 0, World.from("TestWorld", UUID.randomUUID()));
+
+    @Test
+    @DisplayName("Test Uniform Area Points Within Annulus")
+    public void testUniformAreaRange() {
+        for (Location location : generateLocations(
+                () -> UniformAreaEngine.generateLocation(ORIGIN, MIN_RADIUS, MAX_RADIUS))) {
+            final double radius = Math.hypot(location.getX(), location.getZ());
+            Assertions.assertTrue(radius >= MIN_RADIUS - 1 && radius <= MAX_RADIUS + 1);
+        }
+    }
+
+    // Half of the annulus area lies within the radius sqrt((min^2 + max^2) / 2)
+    @Test
+    @DisplayName("Test Uniform Area Points Distributed By Area")
+    public void testUniformAreaDistribution() {
+        final double medianRadius = Math.sqrt((MIN_RADIUS * MIN_RADIUS + MAX_RADIUS * MAX_RADIUS) / 2);
+        final long inside = generateLocations(() -> UniformAreaEngine.generateLocation(ORIGIN, MIN_RADIUS, MAX_RADIUS))
+                .stream().filter(location -> Math.hypot(location.getX(), location.getZ()) < medianRadius)
+                .count();
+        Assertions.assertEquals(0.5, (double) inside / SAMPLES, 0.02);
+    }
+
+    @Test
+    @DisplayName("Test Square Region Points Within Square Ring")
+    public void testSquareRegionRange() {
+        for (Location location : generateLocations(
+                () -> SquareRegionEngine.generateLocation(ORIGIN, MIN_RADIUS, MAX_RADIUS))) {
+            final double distance = Math.max(Math.abs(location.getX()), Math.abs(location.getZ()));
+            Assertions.assertTrue(distance >= MIN_RADIUS && distance <= MAX_RADIUS);
+        }
+    }
+
+    // The east & west strips hold 2 * min * (max - min) of the 4 * (max^2 - min^2) ring area
+    @Test
+    @DisplayName("Test Square Region Points Distributed By Area")
+    public void testSquareRegionDistribution() {
+        final long eastWest = generateLocations(
+                () -> SquareRegionEngine.generateLocation(ORIGIN, MIN_RADIUS, MAX_RADIUS))
+                .stream().filter(location -> Math.abs(location.getZ()) < MIN_RADIUS)
+                .count();
+        final double expected = (4 * MIN_RADIUS * (MAX_RADIUS - MIN_RADIUS))
+                / (4 * (MAX_RADIUS * MAX_RADIUS - MIN_RADIUS * MIN_RADIUS));
+        Assertions.assertEquals(expected, (double) eastWest / SAMPLES, 0.02);
+    }
+
+    @Test
+    @DisplayName("Test Weighted Sector Points Avoid Zero-Weight Sectors")
+    public void testWeightedSectorExclusion() {
+        // Only the south-east quarter (positive x & z) has weight
+        final double[] weights = RandomSampler.getCumulativeWeights(List.of(1d, 0d, 0d, 0d));
+        for (Location location : generateLocations(
+                () -> WeightedSectorEngine.generateLocation(ORIGIN, weights, MIN_RADIUS, MAX_RADIUS))) {
+            Assertions.assertTrue(location.getX() >= -1 && location.getZ() >= -1);
+            final double radius = Math.hypot(location.getX(), location.getZ());
+            Assertions.assertTrue(radius >= MIN_RADIUS - 1 && radius <= MAX_RADIUS + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Weighted Index Proportions")
+    public void testWeightedIndexProportions() {
+        final double[] weights = RandomSampler.getCumulativeWeights(List.of(1d, 3d, 0d, 4d));
+        final int[] counts = new int[weights.length];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[RandomSampler.nextWeightedIndex(weights)]++;
+        }
+        Assertions.assertEquals(0.125, (double) counts[0] / SAMPLES, 0.02);
+        Assertions.assertEquals(0.375, (double) counts[1] / SAMPLES, 0.02);
+        Assertions.assertEquals(0, counts[2]);
+        Assertions.assertEquals(0.5, (double) counts[3] / SAMPLES, 0.02);
+    }
+
+    @Test
+    @DisplayName("Test Invalid Weights Rejected")
+    public void testInvalidWeights() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RandomSampler.getCumulativeWeights(List.of(0d, 0d)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RandomSampler.getCumulativeWeights(List.of()));
+    }
+
+    private static List<Location> generateLocations(Supplier<Location> generator) {
+        final List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            locations.add(generator.get());
+        }
+        return locations;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.Location;
+import net.william278.huskhomes.util.SafetyResolver;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link SafetyResolver} backed by {@link SyntheticTerrain}, searching the same area around a location as the
+ * platform resolvers and counting lookups.
+ */
+public class SyntheticSafetyResolver implements SafetyResolver {
+
+    private final SyntheticTerrain terrain;
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong successes = new AtomicLong();
+
+    public SyntheticSafetyResolver(@NotNull SyntheticTerrain terrain) {
+        this.terrain = terrain;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Location>> findSafeGroundLocation(@NotNull Location location) {
+        lookups.incrementAndGet();
+        final int blockX = (int) Math.floor(location.getX());
+        final int blockZ = (int) Math.floor(location.getZ());
+        for (int x = -SEARCH_RADIUS; x <= SEARCH_RADIUS; x++) {
+            for (int z = -SEARCH_RADIUS; z <= SEARCH_RADIUS; z++) {
+                if (terrain.getSurface(blockX + x, blockZ + z) == SyntheticTerrain.Surface.LAND) {
+                    successes.incrementAndGet();
+                    return CompletableFuture.completedFuture(Optional.of(Location.at(
+                            blockX + x + 0.5d,
+                            terrain.getHeight(blockX + x, blockZ + z) + 1,
+                            blockZ + z + 0.5d,
+                            location.getWorld()
+                    )));
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(Optional.empty());
+    }
+
+    /**
+     * Get the number of safe ground lookups carried out.
+     *
+     * @return the lookup count
+     */
+    public long getLookups() {
+        return lookups.get();
+    }
+
+    /**
+     * Get the number of lookups that found safe ground.
+     *
+     * @return the successful lookup count
+     */
+    public long getSuccesses() {
+        return successes.get();
+    }
+
+    /**
+     * Reset the lookup counters.
+     */
+    public void reset() {
+        lookups.set(0);
+        successes.set(0);
+    }
+
+    @NotNull
+    @Override
+    public HuskHomes getPlugin() {
+        throw new UnsupportedOperationException("Synthetic resolvers are not attached to a plugin");
+    }
+
+}
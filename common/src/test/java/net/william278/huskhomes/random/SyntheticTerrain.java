@@ -0,0 +1,161 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Deterministic, procedurally defined terrain for exercising random teleport engines outside a live server.
+ *
+ * <p>Terrain is divided into square feature cells; each cell is ocean, lava or land according to the configured
+ * ratios, and land cells have a surface height drawn from a uniform range. The same seed always produces the
+ * same terrain.
+ */
+public final class SyntheticTerrain {
+
+    private final long seed;
+    private final int featureSize;
+    private final double oceanRatio;
+    private final double lavaRatio;
+    private final int minHeight;
+    private final int maxHeight;
+
+    private SyntheticTerrain(long seed, int featureSize, double oceanRatio, double lavaRatio,
+                             int minHeight, int maxHeight) {
+        this.seed = seed;
+        this.featureSize = featureSize;
+        this.oceanRatio = oceanRatio;
+        this.lavaRatio = lavaRatio;
+        this.minHeight = minHeight;
+        this.maxHeight = maxHeight;
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the surface type of the column at the given block coordinates.
+     *
+     * @param x the block x coordinate
+     * @param z the block z coordinate
+     * @return the surface type
+     */
+    @NotNull
+    public Surface getSurface(int x, int z) {
+        final double value = sample(Math.floorDiv(x, featureSize), Math.floorDiv(z, featureSize), 0);
+        if (value < oceanRatio) {
+            return Surface.OCEAN;
+        }
+        return value < oceanRatio + lavaRatio ? Surface.LAVA : Surface.LAND;
+    }
+
+    /**
+     * Get the surface height of the column at the given block coordinates.
+     *
+     * @param x the block x coordinate
+     * @param z the block z coordinate
+     * @return the y coordinate of the highest block in the column
+     */
+    public int getHeight(int x, int z) {
+        return minHeight + (int) (sample(x, z, 1) * (maxHeight - minHeight + 1));
+    }
+
+    // Hash coordinates into a value in the range [0, 1), using the SplitMix64 finalizer
+    private double sample(long x, long z, long salt) {
+        long hash = seed ^ (x * 0x9E3779B97F4A7C15L) ^ (z * 0xC2B2AE3D27D4EB4FL) ^ (salt * 0x165667B19E3779F9L);
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash = hash ^ (hash >>> 31);
+        return (hash >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Surface types of terrain columns.
+     */
+    public enum Surface {
+        LAND,
+        OCEAN,
+        LAVA
+    }
+
+    /**
+     * Builder for {@link SyntheticTerrain}.
+     */
+    public static final class Builder {
+        private long seed = 0L;
+        private int featureSize = 64;
+        private double oceanRatio = 0.3d;
+        private double lavaRatio = 0.02d;
+        private int minHeight = 62;
+        private int maxHeight = 120;
+
+        private Builder() {
+        }
+
+        @NotNull
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        @NotNull
+        public Builder featureSize(int featureSize) {
+            this.featureSize = featureSize;
+            return this;
+        }
+
+        @NotNull
+        public Builder oceanRatio(double oceanRatio) {
+            this.oceanRatio = oceanRatio;
+            return this;
+        }
+
+        @NotNull
+        public Builder lavaRatio(double lavaRatio) {
+            this.lavaRatio = lavaRatio;
+            return this;
+        }
+
+        @NotNull
+        public Builder heights(int minHeight, int maxHeight) {
+            this.minHeight = minHeight;
+            this.maxHeight = maxHeight;
+            return this;
+        }
+
+        @NotNull
+        public SyntheticTerrain build() {
+            if (featureSize <= 0) {
+                throw new IllegalStateException("Feature size must be positive");
+            }
+            if (oceanRatio < 0 || lavaRatio < 0 || oceanRatio + lavaRatio > 1) {
+                throw new IllegalStateException("Ocean and lava ratios must be non-negative and sum to at most 1");
+            }
+            if (minHeight > maxHeight) {
+                throw new IllegalStateException("Minimum height must not exceed maximum height");
+            }
+            return new SyntheticTerrain(seed, featureSize, oceanRatio, lavaRatio, minHeight, maxHeight);
+        }
+    }
+
+}
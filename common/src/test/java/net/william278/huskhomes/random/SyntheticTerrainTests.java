@@ -0,0 +1,61 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.random;
+
+import net.william278.huskhomes.position.World;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.UUID;
+
+@DisplayName("Synthetic Terrain Tests")
+public class SyntheticTerrainTests {
+
+    private static final World WORLD = World.from("TestWorld", UUID.randomUUID());
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(RandomTeleportEngine.Type.class)
+    @DisplayName("Test Engines Find Positions On Dry Terrain")
+    public void testEngineFindsLand(RandomTeleportEngine.Type type) {
+        final SyntheticSafetyResolver resolver = new SyntheticSafetyResolver(SyntheticTerrain.builder()
+                .oceanRatio(0).lavaRatio(0).build());
+        final RandomTeleportEngine engine = type.create(RandomTeleportHarness.createPlugin(resolver, 500, 5000));
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(engine.getRandomPosition(WORLD, new String[0]).join().isPresent());
+        }
+        Assertions.assertEquals(100, resolver.getLookups());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(RandomTeleportEngine.Type.class)
+    @DisplayName("Test Engines Give Up On Flooded Terrain")
+    public void testEngineExhaustsAttempts(RandomTeleportEngine.Type type) {
+        final SyntheticSafetyResolver resolver = new SyntheticSafetyResolver(SyntheticTerrain.builder()
+                .oceanRatio(1).lavaRatio(0).build());
+        final RandomTeleportEngine engine = type.create(RandomTeleportHarness.createPlugin(resolver, 500, 5000));
+        Assertions.assertTrue(engine.getRandomPosition(WORLD, new String[0]).join().isEmpty());
+        Assertions.assertEquals(0, resolver.getSuccesses());
+        Assertions.assertTrue(resolver.getLookups() > engine.maxAttempts);
+    }
+
+}
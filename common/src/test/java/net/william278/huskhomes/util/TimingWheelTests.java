@@ -0,0 +1,85 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@DisplayName("Timing Wheel Tests")
+public class TimingWheelTests {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Test Items Expire At Their Deadline")
+    public void testExpiresAtDeadline() {
+        final TimingWheel<String> wheel = new TimingWheel<>(8, START);
+        wheel.schedule("a", START + 2);
+        wheel.schedule("b", START + 5);
+
+        Assertions.assertTrue(wheel.advance(START + 1).isEmpty());
+        Assertions.assertEquals(List.of("a"), wheel.advance(START + 2));
+        Assertions.assertTrue(wheel.advance(START + 4).isEmpty());
+        Assertions.assertEquals(List.of("b"), wheel.advance(START + 5));
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Test Items Beyond One Rotation Wait For Their Deadline")
+    public void testExpiresAfterRotations() {
+        final TimingWheel<String> wheel = new TimingWheel<>(4, START);
+        wheel.schedule("late", START + 10);
+
+        for (long now = START + 1; now < START + 10; now++) {
+            Assertions.assertTrue(wheel.advance(now).isEmpty());
+        }
+        Assertions.assertEquals(List.of("late"), wheel.advance(START + 10));
+    }
+
+    @Test
+    @DisplayName("Test Advancing Past Many Rotations Expires Everything Due")
+    public void testAdvanceAcrossRotations() {
+        final TimingWheel<Integer> wheel = new TimingWheel<>(16, START);
+        IntStream.range(0, 500).forEach(i -> wheel.schedule(i, START + 1 + i % 60));
+        wheel.schedule(-1, START + 1000);
+
+        final Set<Integer> expired = wheel.advance(START + 100).stream().collect(Collectors.toSet());
+        Assertions.assertEquals(500, expired.size());
+        Assertions.assertFalse(expired.contains(-1));
+        Assertions.assertEquals(1, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Test Past Deadlines Expire On Next Advance")
+    public void testPastDeadline() {
+        final TimingWheel<String> wheel = new TimingWheel<>(8, START);
+        wheel.advance(START + 3);
+        wheel.schedule("overdue", START);
+        Assertions.assertEquals(List.of("overdue"), wheel.advance(START + 4));
+    }
+
+}
@@ -22,6 +22,7 @@ package net.william278.huskhomes;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -34,6 +35,7 @@ import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.ModContainer;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.fabric.FabricServerAudiences;
+import net.minecraft.block.Block;
 import net.minecraft.entity.Entity;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
@@ -58,6 +60,7 @@ import net.william278.huskhomes.hook.FabricPlaceholderAPIHook;
 import net.william278.huskhomes.hook.Hook;
 import net.william278.huskhomes.listener.EventListener;
 import net.william278.huskhomes.listener.FabricEventListener;
+import net.william278.huskhomes.listener.JoinTimings;
 import net.william278.huskhomes.manager.Manager;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.FabricPluginMessage;
@@ -66,12 +69,15 @@ import net.william278.huskhomes.network.RedisBroker;
 import net.william278.huskhomes.position.Location;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.World;
-import net.william278.huskhomes.random.NormalDistributionEngine;
 import net.william278.huskhomes.random.RandomTeleportEngine;
+import net.william278.huskhomes.teleport.TeleportMetrics;
+import net.william278.huskhomes.teleport.WarmupTicker;
 import net.william278.huskhomes.user.ConsoleUser;
 import net.william278.huskhomes.user.FabricUser;
 import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.PermissionLimitCache;
 import net.william278.huskhomes.user.SavedUser;
+import net.william278.huskhomes.util.FabricChunkPreloader;
 import net.william278.huskhomes.util.FabricSafetyResolver;
 import net.william278.huskhomes.util.FabricTask;
 import net.william278.huskhomes.util.UnsafeBlocks;
@@ -97,7 +103,8 @@ import java.util.stream.Collectors;
 @Setter
 @NoArgsConstructor
 public class FabricHuskHomes implements DedicatedServerModInitializer, HuskHomes, FabricTask.Supplier,
-        FabricEventDispatcher, FabricSafetyResolver, ServerPlayNetworking.PlayPayloadHandler<FabricPluginMessage> {
+        FabricEventDispatcher, FabricSafetyResolver, FabricChunkPreloader,
+        ServerPlayNetworking.PlayPayloadHandler<FabricPluginMessage> {
 
     public static final Logger LOGGER = LoggerFactory.getLogger("HuskHomes");
     private final ModContainer modContainer = FabricLoader.getInstance().getModContainer("huskhomes")
@@ -105,7 +112,10 @@ public class FabricHuskHomes implements DedicatedServerModInitializer, HuskHomes
     private final Map<String, Boolean> permissions = Maps.newHashMap();
     private final Set<SavedUser> savedUsers = Sets.newHashSet();
     private final ConcurrentMap<String, List<String>> globalPlayerList = Maps.newConcurrentMap();
-    private final Set<UUID> currentlyOnWarmup = Sets.newHashSet();
+    private final WarmupTicker warmupTicker = new WarmupTicker(this);
+    private final TeleportMetrics teleportMetrics = new TeleportMetrics();
+    private final JoinTimings joinTimings = new JoinTimings();
+    private final PermissionLimitCache permissionLimits = new PermissionLimitCache();
     private final Set<UUID> currentlyInvulnerable = Sets.newHashSet();
     private MinecraftServer minecraftServer;
 
@@ -118,6 +128,9 @@ public class FabricHuskHomes implements DedicatedServerModInitializer, HuskHomes
     private RandomTeleportEngine randomTeleportEngine;
     private Spawn serverSpawn;
     private UnsafeBlocks unsafeBlocks;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile UnsafeBlocks.Lookup<Block> blockLookup;
     private List<Hook> hooks;
     private List<Command> commands;
     private Server server;
@@ -175,7 +188,7 @@ public class FabricHuskHomes implements DedicatedServerModInitializer, HuskHomes
             });
         }
 
-        setRandomTeleportEngine(new NormalDistributionEngine(this));
+        setRandomTeleportEngine(getSettings().getRtp().getEngine().create(this));
 
         // Register plugin hooks (Economy, Maps, Plan)
         initialize("hooks", (plugin) -> {
@@ -320,6 +333,30 @@ public class FabricHuskHomes implements DedicatedServerModInitializer, HuskHomes
         return worlds;
     }
 
+    @NotNull
+    @Override
+    public OptionalDouble getAverageTickTime() {
+        return OptionalDouble.of(minecraftServer.getAverageTickTime());
+    }
+
+    @Override
+    public void setUnsafeBlocks(@NotNull UnsafeBlocks unsafeBlocks) {
+        this.unsafeBlocks = unsafeBlocks;
+        this.blockLookup = null;
+    }
+
+    // Modded blocks may not be registered when configs are first loaded, so compile the lookup on first use
+    @NotNull
+    @Override
+    public UnsafeBlocks.Lookup<Block> getBlockLookup() {
+        UnsafeBlocks.Lookup<Block> lookup = blockLookup;
+        if (lookup == null) {
+            lookup = FabricSafetyResolver.compileLookup(unsafeBlocks);
+            blockLookup = lookup;
+        }
+        return lookup;
+    }
+
     @Override
     @NotNull
     public Version getVersion() {
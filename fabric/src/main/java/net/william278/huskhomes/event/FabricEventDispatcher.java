@@ -97,6 +97,12 @@ public interface FabricEventDispatcher extends EventDispatcher {
         return ReplyTeleportRequestCallback.SUPPLIER.apply(recipient, request);
     }
 
+    @Override
+    default @NotNull ITeleportRequestExpireEvent getTeleportRequestExpireEvent(@NotNull User recipient,
+                                                                               @NotNull TeleportRequest request) {
+        return TeleportRequestExpireCallback.SUPPLIER.apply(recipient, request);
+    }
+
     @Override
     default @NotNull IHomeCreateEvent getHomeCreateEvent(@NotNull User owner, @NotNull String name,
                                                          @NotNull Position position, @NotNull CommandUser creator) {
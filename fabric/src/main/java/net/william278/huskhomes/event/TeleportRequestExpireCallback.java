@@ -0,0 +1,67 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.event;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.util.ActionResult;
+import net.william278.huskhomes.teleport.TeleportRequest;
+import net.william278.huskhomes.user.User;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiFunction;
+
+public interface TeleportRequestExpireCallback extends FabricEventCallback<ITeleportRequestExpireEvent> {
+
+    @NotNull
+    Event<TeleportRequestExpireCallback> EVENT = EventFactory.createArrayBacked(TeleportRequestExpireCallback.class,
+            (listeners) -> (event) -> {
+                for (TeleportRequestExpireCallback listener : listeners) {
+                    listener.invoke(event);
+                }
+
+                return ActionResult.PASS;
+            });
+
+    @NotNull
+    BiFunction<User, TeleportRequest, ITeleportRequestExpireEvent> SUPPLIER = (recipient, request) ->
+            new ITeleportRequestExpireEvent() {
+
+                @Override
+                @NotNull
+                public User getRecipient() {
+                    return recipient;
+                }
+
+                @Override
+                @NotNull
+                public TeleportRequest getRequest() {
+                    return request;
+                }
+
+                @NotNull
+                public Event<TeleportRequestExpireCallback> getEvent() {
+                    return EVENT;
+                }
+
+            };
+
+}
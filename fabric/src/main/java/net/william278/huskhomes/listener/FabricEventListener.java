@@ -21,6 +21,7 @@ package net.william278.huskhomes.listener;
 
 import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
 import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.william278.huskhomes.FabricHuskHomes;
@@ -29,6 +30,7 @@ import org.jetbrains.annotations.NotNull;
 
 // Note that the teleport event and update player respawn position events are not handled on Fabric.
 // The "update last position on teleport event" and "global respawn" features are not supported on Fabric.
+// Fabric API has no player move event, so the positions of players warming up to teleport are checked each tick.
 public class FabricEventListener extends EventListener {
 
     public FabricEventListener(@NotNull FabricHuskHomes plugin) {
@@ -55,6 +57,20 @@ public class FabricEventListener extends EventListener {
             }
         });
 
+        // Damage event
+        ServerLivingEntityEvents.ALLOW_DAMAGE.register((entity, source, amount) -> {
+            if (entity instanceof ServerPlayerEntity player && amount > 0) {
+                handlePlayerDamage(player.getUuid());
+            }
+            return true;
+        });
+
+        // Move checks for players warming up to teleport
+        ServerTickEvents.END_SERVER_TICK.register(server -> plugin.getWarmupTicker().getWarmups().forEach(warmup -> {
+            final ServerPlayerEntity player = ((FabricUser) warmup.getTeleporter()).getPlayer();
+            handlePlayerMove(player.getUuid(), player.getX(), player.getY(), player.getZ());
+        }));
+
         // Respawn event
         ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> handlePlayerRespawn(
                 FabricUser.adapt(newPlayer, plugin)
@@ -0,0 +1,73 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package net.william278.huskhomes.util;
+
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.william278.huskhomes.FabricHuskHomes;
+import net.william278.huskhomes.position.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+
+public interface FabricChunkPreloader extends ChunkPreloader {
+
+    ChunkTicketType<ChunkPos> PRELOAD_TICKET = ChunkTicketType.create(
+            "huskhomes_teleport_preload", Comparator.comparingLong(ChunkPos::toLong)
+    );
+    ChunkTickets TICKETS = new ChunkTickets();
+
+    @Override
+    default void preloadChunks(@NotNull Location location, int radius) {
+        final FabricHuskHomes plugin = (FabricHuskHomes) getPlugin();
+        final ServerWorld world = FabricHuskHomes.Adapter.adapt(location.getWorld(), plugin.getMinecraftServer());
+        if (world == null) {
+            return;
+        }
+
+        // The ticket loads chunks within the radius asynchronously
+        final ChunkPos pos = new ChunkPos(((int) Math.floor(location.getX())) >> 4,
+                ((int) Math.floor(location.getZ())) >> 4);
+        final ChunkTickets.Key key = new ChunkTickets.Key(location.getWorld().getUuid(), pos.x, pos.z, radius);
+        TICKETS.acquire(key);
+        plugin.runSync(() -> TICKETS.addIfHeld(
+                key, () -> world.getChunkManager().addTicket(PRELOAD_TICKET, pos, radius, pos)
+        ));
+    }
+
+    @Override
+    default void releaseChunks(@NotNull Location location, int radius) {
+        final FabricHuskHomes plugin = (FabricHuskHomes) getPlugin();
+        final ServerWorld world = FabricHuskHomes.Adapter.adapt(location.getWorld(), plugin.getMinecraftServer());
+        if (world == null) {
+            return;
+        }
+
+        final ChunkPos pos = new ChunkPos(((int) Math.floor(location.getX())) >> 4,
+                ((int) Math.floor(location.getZ())) >> 4);
+        final ChunkTickets.Key key = new ChunkTickets.Key(location.getWorld().getUuid(), pos.x, pos.z, radius);
+        plugin.runSync(() -> TICKETS.release(
+                key, () -> world.getChunkManager().removeTicket(PRELOAD_TICKET, pos, radius, pos)
+        ));
+    }
+
+}
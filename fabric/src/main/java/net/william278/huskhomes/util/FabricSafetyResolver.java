@@ -33,6 +33,8 @@ import net.william278.huskhomes.FabricHuskHomes;
 import net.william278.huskhomes.position.Location;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -74,17 +76,11 @@ public interface FabricSafetyResolver extends SafetyResolver {
                 final int highestY = getHighestYAt(world, blockPos.getX(), blockPos.getY(), blockPos.getZ()) + 1;
 
                 final Block block = world.getBlockState(blockPos.withY(highestY - 1)).getBlock();
-                final Identifier id = Registries.BLOCK.getId(block);
-
                 final Block bodyBlockType = world.getBlockState(blockPos.withY(highestY)).getBlock();
-                final Identifier bodyBlockId = Registries.BLOCK.getId(bodyBlockType);
-
                 final Block headBlockType = world.getBlockState(blockPos.withY(highestY + 1)).getBlock();
-                final Identifier headBlockId = Registries.BLOCK.getId(headBlockType);
-
                 if (!(block instanceof FluidBlock) && !(block instanceof FireBlock)
-                        && isBlockSafeForStanding(id.toString()) && isBlockSafeForOccupation(bodyBlockId.toString())
-                        && isBlockSafeForOccupation(headBlockId.toString())) {
+                        && isBlockSafeForStanding(block) && isBlockSafeForOccupation(bodyBlockType)
+                        && isBlockSafeForOccupation(headBlockType)) {
                     double locx = blockPos.getX();
                     if (locx < 0) {
                         locx += 1.5d;
@@ -109,6 +105,49 @@ public interface FabricSafetyResolver extends SafetyResolver {
         return Optional.empty();
     }
 
+    /**
+     * Returns if the block type is safe to stand on.
+     *
+     * @param block The {@link Block} type
+     * @return {@code true} if the block is not on the unsafe blocks list, {@code false} otherwise
+     */
+    default boolean isBlockSafeForStanding(@NotNull Block block) {
+        return !getBlockLookup().isUnsafe(block);
+    }
+
+    /**
+     * Returns if the block type is safe to stand in.
+     *
+     * @param block The {@link Block} type
+     * @return {@code true} if the block can be occupied, {@code false} otherwise
+     */
+    default boolean isBlockSafeForOccupation(@NotNull Block block) {
+        return !getBlockLookup().isUnsafeToOccupy(block);
+    }
+
+    /**
+     * Get the unsafe block lists, compiled against registered {@link Block}s.
+     *
+     * @return the compiled block lookup
+     */
+    @NotNull
+    UnsafeBlocks.Lookup<Block> getBlockLookup();
+
+    /**
+     * Compile the unsafe block lists against registered {@link Block}s.
+     *
+     * @param unsafeBlocks the unsafe block lists to compile
+     * @return the compiled block lookup
+     */
+    @NotNull
+    static UnsafeBlocks.Lookup<Block> compileLookup(@NotNull UnsafeBlocks unsafeBlocks) {
+        return unsafeBlocks.compile(
+                Registries.BLOCK.stream(),
+                block -> Registries.BLOCK.getId(block).toString(),
+                () -> Collections.newSetFromMap(new IdentityHashMap<>())
+        );
+    }
+
     /**
      * Get the highest Y value at the given X and Z coordinates.
      *
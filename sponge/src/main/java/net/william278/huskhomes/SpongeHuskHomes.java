@@ -22,6 +22,7 @@ package net.william278.huskhomes;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -37,6 +38,7 @@ import net.william278.huskhomes.database.*;
 import net.william278.huskhomes.event.SpongeEventDispatcher;
 import net.william278.huskhomes.hook.Hook;
 import net.william278.huskhomes.hook.SpongeEconomyHook;
+import net.william278.huskhomes.listener.JoinTimings;
 import net.william278.huskhomes.listener.SpongeEventListener;
 import net.william278.huskhomes.manager.Manager;
 import net.william278.huskhomes.network.Broker;
@@ -45,10 +47,12 @@ import net.william278.huskhomes.network.RedisBroker;
 import net.william278.huskhomes.position.Location;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.World;
-import net.william278.huskhomes.random.NormalDistributionEngine;
 import net.william278.huskhomes.random.RandomTeleportEngine;
+import net.william278.huskhomes.teleport.TeleportMetrics;
+import net.william278.huskhomes.teleport.WarmupTicker;
 import net.william278.huskhomes.user.ConsoleUser;
 import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.PermissionLimitCache;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.SpongeUser;
 import net.william278.huskhomes.util.SpongeSafetyResolver;
@@ -62,6 +66,7 @@ import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.command.Command.Raw;
 import org.spongepowered.api.config.ConfigDir;
 import org.spongepowered.api.event.Listener;
@@ -102,7 +107,10 @@ public class SpongeHuskHomes implements HuskHomes, SpongeTask.Supplier, SpongeSa
 
     private final Set<SavedUser> savedUsers = Sets.newHashSet();
     private final Map<String, List<String>> globalPlayerList = Maps.newConcurrentMap();
-    private final Set<UUID> currentlyOnWarmup = Sets.newHashSet();
+    private final WarmupTicker warmupTicker = new WarmupTicker(this);
+    private final TeleportMetrics teleportMetrics = new TeleportMetrics();
+    private final JoinTimings joinTimings = new JoinTimings();
+    private final PermissionLimitCache permissionLimits = new PermissionLimitCache();
     private final Set<UUID> currentlyInvulnerable = Sets.newHashSet();
 
     @Inject
@@ -124,6 +132,9 @@ public class SpongeHuskHomes implements HuskHomes, SpongeTask.Supplier, SpongeSa
     private RandomTeleportEngine randomTeleportEngine;
     private Spawn serverSpawn;
     private UnsafeBlocks unsafeBlocks;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile UnsafeBlocks.Lookup<BlockType> blockLookup;
     private List<Hook> hooks;
     private List<SpongeCommand> commands;
     private Server server;
@@ -173,7 +184,7 @@ public class SpongeHuskHomes implements HuskHomes, SpongeTask.Supplier, SpongeSa
         this.manager = new Manager(this);
 
         // Setup RTP engine
-        setRandomTeleportEngine(new NormalDistributionEngine(this));
+        setRandomTeleportEngine(getSettings().getRtp().getEngine().create(this));
 
         // Register events
         initialize("events", (plugin) -> new SpongeEventListener(this));
@@ -206,6 +217,9 @@ public class SpongeHuskHomes implements HuskHomes, SpongeTask.Supplier, SpongeSa
     @Listener
     public void onShutdown(final StoppingEngineEvent<org.spongepowered.api.Server> event) {
         if (database != null) {
+            if (manager != null) {
+                manager.lastPositions().persistAll();
+            }
             database.terminate();
         }
         if (broker != null) {
@@ -250,6 +264,30 @@ public class SpongeHuskHomes implements HuskHomes, SpongeTask.Supplier, SpongeSa
         return Optional.ofNullable(serverSpawn);
     }
 
+    @NotNull
+    @Override
+    public OptionalDouble getAverageTickTime() {
+        return OptionalDouble.of(game.server().averageTickTime());
+    }
+
+    @Override
+    public void setUnsafeBlocks(@NotNull UnsafeBlocks unsafeBlocks) {
+        this.unsafeBlocks = unsafeBlocks;
+        this.blockLookup = null;
+    }
+
+    // Block types aren't registered when configs are first loaded, so compile the lookup on first use
+    @NotNull
+    @Override
+    public UnsafeBlocks.Lookup<BlockType> getBlockLookup() {
+        UnsafeBlocks.Lookup<BlockType> lookup = blockLookup;
+        if (lookup == null) {
+            lookup = SpongeSafetyResolver.compileLookup(unsafeBlocks);
+            blockLookup = lookup;
+        }
+        return lookup;
+    }
+
     @NotNull
     @Override
     public String getServerName() {
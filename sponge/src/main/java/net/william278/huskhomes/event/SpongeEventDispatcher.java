@@ -82,6 +82,12 @@ public interface SpongeEventDispatcher extends EventDispatcher {
         return new SpongeReplyTeleportRequestEvent(recipient, request);
     }
 
+    @Override
+    default @NotNull ITeleportRequestExpireEvent getTeleportRequestExpireEvent(@NotNull User recipient,
+                                                                               @NotNull TeleportRequest request) {
+        return new SpongeTeleportRequestExpireEvent(recipient, request);
+    }
+
     @Override
     default @NotNull IHomeCreateEvent getHomeCreateEvent(@NotNull User owner, @NotNull String name,
                                                          @NotNull Position position, @NotNull CommandUser creator) {
@@ -27,9 +27,11 @@ import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.EventContextKeys;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.block.InteractBlockEvent;
 import org.spongepowered.api.event.cause.entity.MovementType;
 import org.spongepowered.api.event.cause.entity.MovementTypes;
+import org.spongepowered.api.event.entity.DamageEntityEvent;
 import org.spongepowered.api.event.entity.DestructEntityEvent;
 import org.spongepowered.api.event.entity.MoveEntityEvent;
 import org.spongepowered.api.event.entity.living.player.RespawnPlayerEvent;
@@ -37,6 +39,7 @@ import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 import org.spongepowered.api.world.portal.Portal;
 import org.spongepowered.api.world.portal.PortalTypes;
 import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.math.vector.Vector3d;
 
 import java.util.Optional;
 
@@ -73,6 +76,21 @@ public class SpongeEventListener extends EventListener {
         super.handlePlayerJoin(SpongeUser.adapt(event.entity(), (SpongeHuskHomes) plugin));
     }
 
+    @Listener(order = Order.POST)
+    public void onPlayerMove(final MoveEntityEvent event) {
+        if (event.entity() instanceof ServerPlayer player) {
+            final Vector3d destination = event.destinationPosition();
+            super.handlePlayerMove(player.uniqueId(), destination.x(), destination.y(), destination.z());
+        }
+    }
+
+    @Listener(order = Order.POST)
+    public void onPlayerDamage(final DamageEntityEvent event) {
+        if (event.entity() instanceof ServerPlayer player && event.finalDamage() > 0) {
+            super.handlePlayerDamage(player.uniqueId());
+        }
+    }
+
     @Listener
     public void onPlayerTeleport(final MoveEntityEvent event) {
         if (event.entity() instanceof ServerPlayer player) {
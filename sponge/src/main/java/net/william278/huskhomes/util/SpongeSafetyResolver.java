@@ -24,12 +24,15 @@ import net.william278.huskhomes.position.Location;
 import net.william278.huskhomes.position.World;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.api.world.border.WorldBorder;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.math.vector.Vector2d;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -62,9 +65,9 @@ public interface SpongeSafetyResolver extends SafetyResolver {
                 final BlockState blockState = location.world().block(cursor);
                 final BlockState bodyBlockState = location.world().block(cursorBody);
                 final BlockState headBlockState = location.world().block(cursorHead);
-                if (isBlockSafeForStanding(blockState.type().key(RegistryTypes.BLOCK_TYPE).asString())
-                        && isBlockSafeForOccupation(bodyBlockState.type().key(RegistryTypes.BLOCK_TYPE).asString())
-                        && isBlockSafeForOccupation(headBlockState.type().key(RegistryTypes.BLOCK_TYPE).asString())) {
+                if (isBlockSafeForStanding(blockState.type())
+                        && isBlockSafeForOccupation(bodyBlockState.type())
+                        && isBlockSafeForOccupation(headBlockState.type())) {
                     double locx = cursor.x();
                     if (locx < 0) {
                         locx += 1.5d;
@@ -89,6 +92,49 @@ public interface SpongeSafetyResolver extends SafetyResolver {
         return Optional.empty();
     }
 
+    /**
+     * Returns if the block type is safe to stand on.
+     *
+     * @param blockType The {@link BlockType}
+     * @return {@code true} if the block is not on the unsafe blocks list, {@code false} otherwise
+     */
+    default boolean isBlockSafeForStanding(@NotNull BlockType blockType) {
+        return !getBlockLookup().isUnsafe(blockType);
+    }
+
+    /**
+     * Returns if the block type is safe to stand in.
+     *
+     * @param blockType The {@link BlockType}
+     * @return {@code true} if the block can be occupied, {@code false} otherwise
+     */
+    default boolean isBlockSafeForOccupation(@NotNull BlockType blockType) {
+        return !getBlockLookup().isUnsafeToOccupy(blockType);
+    }
+
+    /**
+     * Get the unsafe block lists, compiled against registered {@link BlockType}s.
+     *
+     * @return the compiled block lookup
+     */
+    @NotNull
+    UnsafeBlocks.Lookup<BlockType> getBlockLookup();
+
+    /**
+     * Compile the unsafe block lists against registered {@link BlockType}s.
+     *
+     * @param unsafeBlocks the unsafe block lists to compile
+     * @return the compiled block lookup
+     */
+    @NotNull
+    static UnsafeBlocks.Lookup<BlockType> compileLookup(@NotNull UnsafeBlocks unsafeBlocks) {
+        return unsafeBlocks.compile(
+                RegistryTypes.BLOCK_TYPE.get().stream(),
+                type -> type.key(RegistryTypes.BLOCK_TYPE).asString(),
+                () -> Collections.newSetFromMap(new IdentityHashMap<>())
+        );
+    }
+
     private boolean isInBorder(WorldBorder border, Vector3i position) {
         final Vector2d center = border.center();
         final double radius = border.diameter() / 2;